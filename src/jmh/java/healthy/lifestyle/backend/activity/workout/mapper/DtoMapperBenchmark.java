@@ -0,0 +1,131 @@
+package healthy.lifestyle.backend.activity.workout.mapper;
+
+import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.WorkoutResponseDto;
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.model.Exercise;
+import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.activity.workout.model.HttpRefType;
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the reflective ModelMapper mapping plus the re-sorting the services did afterwards (the previous
+ * implementation) against the generated mappers, for a single exercise and for a workout with its exercises.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMapperBenchmark {
+    @Param({"10"})
+    public int exercisesPerWorkout;
+
+    private ModelMapper modelMapper;
+
+    private ExerciseMapper exerciseMapper;
+
+    private WorkoutMapper workoutMapper;
+
+    private Exercise exercise;
+
+    private Workout workout;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        exerciseMapper = new ExerciseMapperImpl(new HttpRefMapperImpl());
+        workoutMapper = new WorkoutMapperImpl(exerciseMapper);
+
+        HttpRefType httpRefType = HttpRefType.builder().id(1L).name("YOUTUBE").build();
+        List<BodyPart> bodyParts = new ArrayList<>();
+        for (long id = 1; id <= 6; id++)
+            bodyParts.add(BodyPart.builder()
+                    .id(id)
+                    .name("Body part " + id)
+                    .bitIndex((int) id - 1)
+                    .build());
+
+        Set<Exercise> exercises = new HashSet<>();
+        for (long id = 1; id <= exercisesPerWorkout; id++) {
+            Set<HttpRef> httpRefs = new HashSet<>();
+            for (long refId = id * 10; refId < id * 10 + 3; refId++)
+                httpRefs.add(HttpRef.builder()
+                        .id(refId)
+                        .name("Name " + refId)
+                        .ref("https://ref-" + refId + ".com")
+                        .description("Description " + refId)
+                        .httpRefType(httpRefType)
+                        .build());
+            exercises.add(Exercise.builder()
+                    .id(id)
+                    .title("Exercise " + id)
+                    .description("Description " + id)
+                    .needsEquipment(id % 3 == 0)
+                    .bodyParts(new HashSet<>(bodyParts.subList((int) (id % 4), (int) (id % 4) + 3)))
+                    .httpRefs(httpRefs)
+                    .build());
+        }
+        exercises.forEach(Exercise::refreshBodyPartsMask);
+
+        exercise = exercises.iterator().next();
+        workout = Workout.builder()
+                .id(1L)
+                .title("Workout 1")
+                .description("Description 1")
+                .exercises(exercises)
+                .build();
+        workout.refreshSummary();
+    }
+
+    @Benchmark
+    public ExerciseResponseDto exerciseModelMapper() {
+        ExerciseResponseDto exerciseDto = modelMapper.map(exercise, ExerciseResponseDto.class);
+        sortNested(exerciseDto);
+        return exerciseDto;
+    }
+
+    @Benchmark
+    public ExerciseResponseDto exerciseGeneratedMapper() {
+        return exerciseMapper.toResponseDto(exercise);
+    }
+
+    @Benchmark
+    public WorkoutResponseDto workoutModelMapper() {
+        WorkoutResponseDto workoutDto = modelMapper.map(workout, WorkoutResponseDto.class);
+        workoutDto.setBodyParts(workout.getDistinctBodyPartsSortedById().stream()
+                .map(bodyPart -> modelMapper.map(bodyPart, BodyPartResponseDto.class))
+                .toList());
+        workoutDto.setNeedsEquipment(workout.getExercises().stream().anyMatch(Exercise::isNeedsEquipment));
+        workoutDto.setExercises(workout.getExercisesSortedById().stream()
+                .map(exercise -> modelMapper.map(exercise, ExerciseResponseDto.class))
+                .peek(this::sortNested)
+                .toList());
+        return workoutDto;
+    }
+
+    @Benchmark
+    public WorkoutResponseDto workoutGeneratedMapper() {
+        return workoutMapper.toResponseDto(workout);
+    }
+
+    private void sortNested(ExerciseResponseDto exerciseDto) {
+        exerciseDto.setBodyParts(exerciseDto.getBodyParts().stream()
+                .sorted(Comparator.comparingLong(BodyPartResponseDto::getId))
+                .toList());
+        exerciseDto.setHttpRefs(exerciseDto.getHttpRefs().stream()
+                .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
+                .toList());
+    }
+}
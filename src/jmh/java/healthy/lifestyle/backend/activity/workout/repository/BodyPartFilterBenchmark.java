@@ -0,0 +1,97 @@
+package healthy.lifestyle.backend.activity.workout.repository;
+
+import healthy.lifestyle.backend.shared.reference.BodyPartBitmapIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * In-memory "any of these body parts" filter over a synthetic catalog: checking the body part ids of every exercise
+ * (what the entity graph offers), testing the body_parts_mask of every exercise and the per-bit bitmaps of
+ * {@link BodyPartBitmapIndex}. Each variant counts the matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BodyPartFilterBenchmark {
+    private static final int BODY_PARTS = 12;
+
+    @Param({"100000"})
+    public int exercises;
+
+    /**
+     * Number of body parts requested by the filter.
+     */
+    @Param({"1", "3"})
+    public int requested;
+
+    private List<Set<Long>> bodyPartIds;
+
+    private long[] masks;
+
+    private BodyPartBitmapIndex index;
+
+    private Set<Long> requestedIds;
+
+    private long requestedMask;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        bodyPartIds = new ArrayList<>(exercises);
+        masks = new long[exercises];
+        for (int i = 0; i < exercises; i++) {
+            Set<Long> ids = new HashSet<>();
+            int count = 1 + random.nextInt(3);
+            while (ids.size() < count) ids.add(1L + random.nextInt(BODY_PARTS));
+            bodyPartIds.add(ids);
+            for (long id : ids) masks[i] |= 1L << (id - 1);
+        }
+        List<Long> maskList = new ArrayList<>(exercises);
+        for (long mask : masks) maskList.add(mask);
+        index = new BodyPartBitmapIndex(maskList, Long::longValue);
+
+        requestedIds = new HashSet<>();
+        for (long id = 1; id <= requested; id++) {
+            requestedIds.add(id * 3);
+            requestedMask |= 1L << (id * 3 - 1);
+        }
+    }
+
+    @Benchmark
+    public int bodyPartIds() {
+        int matches = 0;
+        for (Set<Long> ids : bodyPartIds) {
+            for (Long id : ids) {
+                if (requestedIds.contains(id)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int maskScan() {
+        int matches = 0;
+        for (long mask : masks) {
+            if ((mask & requestedMask) != 0) matches++;
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int bitmapIndex() {
+        BitSet matches = index.matchAny(requestedMask);
+        return matches.cardinality();
+    }
+}
@@ -0,0 +1,141 @@
+package healthy.lifestyle.backend.activity.workout.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the join based "any of these body parts" exercise filter the specifications used before with the
+ * body_parts_mask filter, for a page of ids and for the count a page needs. Runs against a Postgres database given by
+ * the benchmark.db.url, benchmark.db.username and benchmark.db.password system properties, the data lives in its own
+ * schema which is dropped afterwards:
+ * ./gradlew jmh -PjmhArgs="BodyPartFilterQueryBenchmark -f 1 -jvmArgs -Dbenchmark.db.url=jdbc:postgresql://..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BodyPartFilterQueryBenchmark {
+    private static final String SCHEMA = "bench_body_parts";
+
+    private static final String JOIN_PAGE = "SELECT e.id FROM exercises e WHERE e.is_custom = false"
+            + " AND EXISTS (SELECT 1 FROM exercises_body_parts ebp WHERE ebp.exercise_id = e.id"
+            + " AND ebp.body_part_id = ANY (?)) ORDER BY e.id LIMIT 20";
+
+    private static final String JOIN_COUNT = "SELECT count(*) FROM exercises e WHERE e.is_custom = false"
+            + " AND EXISTS (SELECT 1 FROM exercises_body_parts ebp WHERE ebp.exercise_id = e.id"
+            + " AND ebp.body_part_id = ANY (?))";
+
+    private static final String MASK_PAGE = "SELECT e.id FROM exercises e WHERE e.is_custom = false"
+            + " AND (e.body_parts_mask & ?) <> 0 ORDER BY e.id LIMIT 20";
+
+    private static final String MASK_COUNT =
+            "SELECT count(*) FROM exercises e WHERE e.is_custom = false AND (e.body_parts_mask & ?) <> 0";
+
+    @Param({"100000"})
+    public int exercises;
+
+    /**
+     * Number of body parts requested by the filter.
+     */
+    @Param({"1", "3"})
+    public int requested;
+
+    private Connection connection;
+
+    private PreparedStatement joinPage;
+
+    private PreparedStatement joinCount;
+
+    private PreparedStatement maskPage;
+
+    private PreparedStatement maskCount;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/healthy_db"),
+                System.getProperty("benchmark.db.username", "postgres"),
+                System.getProperty("benchmark.db.password", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            statement.execute("CREATE TABLE body_parts (id bigint PRIMARY KEY, bit_index smallint NOT NULL UNIQUE)");
+            statement.execute("CREATE TABLE exercises (id bigint PRIMARY KEY, is_custom boolean NOT NULL,"
+                    + " body_parts_mask bigint NOT NULL DEFAULT 0)");
+            statement.execute("CREATE TABLE exercises_body_parts (exercise_id bigint NOT NULL REFERENCES exercises,"
+                    + " body_part_id bigint NOT NULL REFERENCES body_parts, PRIMARY KEY (exercise_id, body_part_id))");
+            statement.execute("INSERT INTO body_parts SELECT id, id - 1 FROM generate_series(1, 12) id");
+            statement.execute("INSERT INTO exercises (id, is_custom) SELECT id, id % 10 = 0"
+                    + " FROM generate_series(1, " + exercises + ") id");
+            // 1 to 3 body parts per exercise, spread deterministically over the 12 body parts
+            statement.execute("INSERT INTO exercises_body_parts SELECT DISTINCT e.id, (e.id * 7 + k * 5) % 12 + 1"
+                    + " FROM exercises e CROSS JOIN generate_series(0, 2) k WHERE k <= e.id % 3");
+            statement.execute("UPDATE exercises e SET body_parts_mask = m.mask FROM (SELECT ebp.exercise_id,"
+                    + " bit_or(CAST(1 AS bigint) << bp.bit_index) AS mask FROM exercises_body_parts ebp"
+                    + " JOIN body_parts bp ON bp.id = ebp.body_part_id GROUP BY ebp.exercise_id) m"
+                    + " WHERE m.exercise_id = e.id");
+            statement.execute("CREATE INDEX ON exercises_body_parts (body_part_id)");
+            statement.execute("ANALYZE");
+        }
+
+        Long[] ids = new Long[requested];
+        long mask = 0;
+        for (int i = 0; i < requested; i++) {
+            ids[i] = (i + 1) * 3L;
+            mask |= 1L << (ids[i] - 1);
+        }
+        joinPage = connection.prepareStatement(JOIN_PAGE);
+        joinPage.setArray(1, connection.createArrayOf("bigint", ids));
+        joinCount = connection.prepareStatement(JOIN_COUNT);
+        joinCount.setArray(1, connection.createArrayOf("bigint", ids));
+        maskPage = connection.prepareStatement(MASK_PAGE);
+        maskPage.setLong(1, mask);
+        maskCount = connection.prepareStatement(MASK_COUNT);
+        maskCount.setLong(1, mask);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long joinPage() throws SQLException {
+        return sum(joinPage);
+    }
+
+    @Benchmark
+    public long joinCount() throws SQLException {
+        return sum(joinCount);
+    }
+
+    @Benchmark
+    public long maskPage() throws SQLException {
+        return sum(maskPage);
+    }
+
+    @Benchmark
+    public long maskCount() throws SQLException {
+        return sum(maskCount);
+    }
+
+    private static long sum(PreparedStatement statement) throws SQLException {
+        long sum = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) sum += resultSet.getLong(1);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,83 @@
+package healthy.lifestyle.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Compares token parsing with a key and parser built per call (the previous implementation) against the
+ * pre-built {@link JwtKeyRing} parser, with and without the {@link VerifiedTokenCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+    private static final String SECRET =
+            "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private JwtTokenProvider cachingJwtTokenProvider;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = createJwtTokenProvider(false);
+        cachingJwtTokenProvider = createJwtTokenProvider(true);
+
+        UserPrincipal principal =
+                new UserPrincipal(1L, "test@email.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public Claims parsePerCallParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims parseSharedParser() {
+        return jwtTokenProvider.getValidatedClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseCachedClaims() {
+        return cachingJwtTokenProvider.getValidatedClaims(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        UserPrincipal principal =
+                new UserPrincipal(1L, "test@email.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private JwtTokenProvider createJwtTokenProvider(boolean tokenCacheEnabled) {
+        SecurityProps securityProps = new SecurityProps(
+                new SecurityProps.Jwt(21600000L, SECRET, "primary", Map.of()),
+                null,
+                new SecurityProps.TokenCache(tokenCacheEnabled, 1000));
+        JwtTokenProvider provider = new JwtTokenProvider();
+        provider.securityProps = securityProps;
+        provider.jwtKeyRing = new JwtKeyRing(securityProps);
+        provider.verifiedTokenCache = new VerifiedTokenCache(securityProps, new SimpleMeterRegistry());
+        return provider;
+    }
+}
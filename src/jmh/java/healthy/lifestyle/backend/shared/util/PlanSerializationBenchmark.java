@@ -0,0 +1,133 @@
+package healthy.lifestyle.backend.shared.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import healthy.lifestyle.backend.user.model.Timezone;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Converts the active workout plans of a user to the user's timezone, as the workout plans listing does: start and
+ * end dates, the days of the json description and the creation time. Compares resolving the zone by name for every
+ * conversion through {@link TimeZone} objects (the previous implementation) against a zone resolved once per
+ * timezone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlanSerializationBenchmark {
+    @Param({"20"})
+    public int plans;
+
+    @Param({"7"})
+    public int daysPerPlan;
+
+    private ObjectMapper objectMapper;
+
+    private DateTimeService dateTimeService;
+
+    private JsonUtil jsonUtil;
+
+    private Timezone timezone;
+
+    private List<Plan> storedPlans;
+
+    private record Plan(LocalDate startDate, LocalDate endDate, LocalDateTime createdAt, List<JsonDescription> days) {}
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        dateTimeService = new DateTimeService();
+        jsonUtil = new JsonUtil();
+        jsonUtil.objectMapper = objectMapper;
+        jsonUtil.dateTimeService = dateTimeService;
+        timezone = Timezone.builder().id(1L).name("Europe/Kyiv").GMT("GMT+2:00").build();
+
+        storedPlans = new ArrayList<>();
+        for (int plan = 0; plan < plans; plan++) {
+            List<JsonDescription> days = new ArrayList<>();
+            for (int day = 0; day < daysPerPlan; day++)
+                days.add(JsonDescription.builder()
+                        .json_id((long) plan * daysPerPlan + day)
+                        .dayOfWeek(DayOfWeek.of(day % 7 + 1))
+                        .hours((plan + day) % 24)
+                        .minutes(day * 7 % 60)
+                        .build());
+            LocalDate startDate = LocalDate.of(2024, 1, 1).plusDays(plan);
+            storedPlans.add(
+                    new Plan(startDate, startDate.plusMonths(3), startDate.atTime(plan % 24, plan % 60), days));
+        }
+    }
+
+    @Benchmark
+    public void zonePerConversion(Blackhole blackhole) throws JsonProcessingException {
+        String timezoneName = timezone.getName();
+        for (Plan plan : storedPlans) {
+            blackhole.consume(previousConvertToUserDate(plan.startDate(), timezoneName));
+            blackhole.consume(previousConvertToUserDate(plan.endDate(), timezoneName));
+            blackhole.consume(previousSerialize(plan.days(), timezoneName));
+            blackhole.consume(previousConvertToUserDateTime(plan.createdAt(), timezoneName));
+        }
+    }
+
+    @Benchmark
+    public void zonePerTimezone(Blackhole blackhole) throws JsonProcessingException {
+        ZoneId userZone = dateTimeService.getZoneId(timezone);
+        for (Plan plan : storedPlans) {
+            blackhole.consume(dateTimeService.convertToUserDate(plan.startDate(), userZone));
+            blackhole.consume(dateTimeService.convertToUserDate(plan.endDate(), userZone));
+            blackhole.consume(jsonUtil.serializeJsonDescriptionList(plan.days(), userZone));
+            blackhole.consume(dateTimeService.convertToUserDateTime(plan.createdAt(), userZone));
+        }
+    }
+
+    private static LocalDate previousConvertToUserDate(LocalDate dbSourceDate, String userTimezoneName) {
+        ZoneId userZone = TimeZone.getTimeZone(userTimezoneName).toZoneId();
+        return dbSourceDate
+                .atTime(LocalTime.NOON)
+                .atZone(TimeZone.getTimeZone("UTC").toZoneId())
+                .withZoneSameInstant(userZone)
+                .toLocalDate();
+    }
+
+    private static LocalDateTime previousConvertToUserDateTime(
+            LocalDateTime dbSourceDateTime, String userTimezoneName) {
+        ZoneId userZone = TimeZone.getTimeZone(userTimezoneName).toZoneId();
+        return dbSourceDateTime
+                .atZone(TimeZone.getTimeZone("UTC").toZoneId())
+                .withZoneSameInstant(userZone)
+                .toLocalDateTime();
+    }
+
+    /**
+     * Converted copies, the previous implementation converted the stored days in place.
+     */
+    private String previousSerialize(List<JsonDescription> days, String userTimezoneName)
+            throws JsonProcessingException {
+        List<JsonDescription> userDays = new ArrayList<>(days.size());
+        for (JsonDescription day : days) {
+            LocalDateTime dbBaseDateTime = LocalDateTime.now(TimeZone.getTimeZone("UTC").toZoneId())
+                    .with(day.getDayOfWeek());
+            LocalDateTime dbDateTime =
+                    LocalDateTime.of(dbBaseDateTime.toLocalDate(), LocalTime.of(day.getHours(), day.getMinutes()));
+            ZonedDateTime userZonedDateTime = dbDateTime
+                    .atZone(TimeZone.getTimeZone("UTC").toZoneId())
+                    .withZoneSameInstant(TimeZone.getTimeZone(userTimezoneName).toZoneId());
+            userDays.add(JsonDescription.builder()
+                    .json_id(day.getJson_id())
+                    .dayOfWeek(userZonedDateTime.getDayOfWeek())
+                    .hours(userZonedDateTime.getHour())
+                    .minutes(userZonedDateTime.getMinute())
+                    .build());
+        }
+        return objectMapper.writeValueAsString(userDays);
+    }
+}
@@ -4,6 +4,8 @@ import healthy.lifestyle.backend.activity.mental.dto.MentalActivityCreateRequest
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityResponseDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityUpdateRequestDto;
 import healthy.lifestyle.backend.activity.mental.service.MentalActivityService;
+import healthy.lifestyle.backend.shared.http.VersionedContent;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import healthy.lifestyle.backend.shared.validation.annotation.DescriptionOptionalValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.TitleOptionalValidation;
@@ -32,6 +34,7 @@ public class MentalActivityController {
 
     @Operation(summary = "Get default mental activity by id")
     @GetMapping("/default/{mental_activity_id}")
+    @VersionedContent
     public ResponseEntity<MentalActivityResponseDto> getDefaultMentalActivityById(
             @PathVariable("mental_activity_id") @IdValidation long mental_id) {
         MentalActivityResponseDto responseDto = mentalService.getMentalActivityById(mental_id, true, null);
@@ -118,4 +121,25 @@ public class MentalActivityController {
                 isCustom, userId, title, description, mentalTypeId, sortField, sortDirection, pageNumber, pageSize);
         return ResponseEntity.ok(dtoPage);
     }
+
+    @Operation(summary = "Get default and custom mental activities after cursor")
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<CursorPage<MentalActivityResponseDto>> scrollMentalActivities(
+            @RequestParam(required = false) Boolean isCustom,
+            @RequestParam(required = false) @TitleOptionalValidation(min = 2) String title,
+            @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
+            @RequestParam(required = false) Long mentalTypeId,
+            @RequestParam(required = false, defaultValue = "title") String sortField,
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @RequestParam String cursor) {
+        Long userId = null;
+        if (isCustom == null || isCustom)
+            userId = authUtil.getUserIdFromAuthentication(
+                    SecurityContextHolder.getContext().getAuthentication());
+        CursorPage<MentalActivityResponseDto> dtoPage = mentalService.scrollMentalActivitiesWithFilter(
+                isCustom, userId, title, description, mentalTypeId, sortField, sortDirection, cursor, pageSize);
+        return ResponseEntity.ok(dtoPage);
+    }
 }
@@ -3,6 +3,7 @@ package healthy.lifestyle.backend.activity.mental.controller;
 import healthy.lifestyle.backend.activity.mental.dto.MentalWorkoutCreateRequestDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalWorkoutResponseDto;
 import healthy.lifestyle.backend.activity.mental.service.MentalWorkoutService;
+import healthy.lifestyle.backend.shared.http.VersionedContent;
 import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import healthy.lifestyle.backend.user.service.AuthUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,6 +42,7 @@ public class MentalWorkoutController {
 
     @Operation(summary = "Get default mental workout by id")
     @GetMapping("/default/{mental_workout_id}")
+    @VersionedContent
     public ResponseEntity<MentalWorkoutResponseDto> getDefaultMentalWorkoutById(
             @PathVariable("mental_workout_id") @IdValidation long mentalWorkoutId) {
         MentalWorkoutResponseDto responseDto = mentalWorkoutService.getMentalWorkoutById(mentalWorkoutId, true, null);
@@ -0,0 +1,20 @@
+package healthy.lifestyle.backend.activity.mental.mapper;
+
+import healthy.lifestyle.backend.activity.mental.dto.MentalActivityResponseDto;
+import healthy.lifestyle.backend.activity.mental.dto.MentalWorkoutResponseDto;
+import healthy.lifestyle.backend.activity.mental.model.MentalActivity;
+import healthy.lifestyle.backend.activity.mental.model.MentalWorkout;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapper;
+import healthy.lifestyle.backend.config.MapperConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfiguration.class, uses = HttpRefMapper.class)
+public interface MentalMapper {
+    @Mapping(target = "httpRefs", source = "httpRefsSortedById")
+    @Mapping(target = "mentalTypeId", source = "type.id")
+    MentalActivityResponseDto toResponseDto(MentalActivity mentalActivity);
+
+    @Mapping(target = "mentalActivities", source = "mentalActivitiesSortedById")
+    MentalWorkoutResponseDto toResponseDto(MentalWorkout mentalWorkout);
+}
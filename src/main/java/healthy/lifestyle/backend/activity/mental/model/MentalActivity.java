@@ -1,12 +1,13 @@
 package healthy.lifestyle.backend.activity.mental.model;
 
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.shared.util.SortedById;
 import healthy.lifestyle.backend.user.model.User;
 import jakarta.persistence.*;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 @Getter
 @Setter
@@ -38,6 +39,8 @@ public class MentalActivity {
             name = "mental_activity_http_refs",
             joinColumns = @JoinColumn(name = "mental_activity_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "http_ref_id", referencedColumnName = "id"))
+    @OrderBy("id")
+    @BatchSize(size = 100)
     private Set<HttpRef> httpRefs;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,9 +48,7 @@ public class MentalActivity {
     private MentalType type;
 
     public List<HttpRef> getHttpRefsSortedById() {
-        return this.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRef::getId))
-                .toList();
+        return SortedById.list(this.getHttpRefs(), HttpRef::getId);
     }
 
     public List<Long> getHttpRefsIdsSorted() {
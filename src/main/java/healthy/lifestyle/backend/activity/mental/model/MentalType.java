@@ -3,6 +3,9 @@ package healthy.lifestyle.backend.activity.mental.model;
 import jakarta.persistence.*;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -11,6 +14,9 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "mental_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "mentalTypes")
+@BatchSize(size = 100)
 public class MentalType {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
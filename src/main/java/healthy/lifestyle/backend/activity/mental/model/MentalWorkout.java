@@ -1,11 +1,12 @@
 package healthy.lifestyle.backend.activity.mental.model;
 
+import healthy.lifestyle.backend.shared.util.SortedById;
 import healthy.lifestyle.backend.user.model.User;
 import jakarta.persistence.*;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 /**
  * mental_workouts table preserves both default and custom workouts.
@@ -41,12 +42,12 @@ public class MentalWorkout {
             name = "mental_workout_activities",
             joinColumns = @JoinColumn(name = "mental_workout_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "mental_activity_id", referencedColumnName = "id"))
+    @OrderBy("id")
+    @BatchSize(size = 100)
     private Set<MentalActivity> mentalActivities;
 
     public List<MentalActivity> getMentalActivitiesSortedById() {
-        return this.getMentalActivities().stream()
-                .sorted(Comparator.comparingLong(MentalActivity::getId))
-                .toList();
+        return SortedById.list(this.getMentalActivities(), MentalActivity::getId);
     }
 
     public List<Long> getSortedMentalActivitiesIds() {
@@ -0,0 +1,23 @@
+package healthy.lifestyle.backend.activity.mental.repository;
+
+import static healthy.lifestyle.backend.shared.specification.FilterSpecifications.*;
+
+import healthy.lifestyle.backend.activity.mental.model.MentalActivity;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class MentalActivitySpecifications {
+    private MentalActivitySpecifications() {}
+
+    public static Specification<MentalActivity> withFilter(
+            Boolean isCustom, Long userId, String title, String description, Long mentalTypeId) {
+        return Specification.<MentalActivity>where(defaultOrCustom(isCustom, userId))
+                .and(containsIgnoreCase("title", title))
+                .and(containsIgnoreCase("description", description))
+                .and(hasType(mentalTypeId));
+    }
+
+    public static Specification<MentalActivity> hasType(Long mentalTypeId) {
+        if (mentalTypeId == null) return null;
+        return (root, query, cb) -> cb.equal(root.get("type").get("id"), mentalTypeId);
+    }
+}
@@ -10,4 +10,7 @@ public interface MentalWorkoutRepository extends JpaRepository<MentalWorkout, Lo
     @Query("SELECT w FROM MentalWorkout w WHERE (w.title = :title AND w.isCustom = true AND w.user.id = :userId) "
             + "OR (w.title = :title AND w.isCustom = false)")
     List<MentalWorkout> findDefaultAndCustomByTitleAndUserId(String title, Long userId);
+
+    @Query("SELECT w FROM MentalWorkout w LEFT JOIN FETCH w.mentalActivities WHERE w.isCustom = false")
+    List<MentalWorkout> findAllDefaultWithMentalActivities();
 }
@@ -3,6 +3,7 @@ package healthy.lifestyle.backend.activity.mental.service;
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityCreateRequestDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityResponseDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityUpdateRequestDto;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 
 public interface MentalActivityService {
@@ -29,4 +30,15 @@ public interface MentalActivityService {
             String sortDirection,
             int currentPageNumber,
             int pageSize);
+
+    CursorPage<MentalActivityResponseDto> scrollMentalActivitiesWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Long mentalTypeId,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize);
 }
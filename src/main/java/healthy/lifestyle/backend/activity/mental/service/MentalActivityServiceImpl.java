@@ -3,9 +3,11 @@ package healthy.lifestyle.backend.activity.mental.service;
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityCreateRequestDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityResponseDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityUpdateRequestDto;
+import healthy.lifestyle.backend.activity.mental.mapper.MentalMapper;
 import healthy.lifestyle.backend.activity.mental.model.MentalActivity;
 import healthy.lifestyle.backend.activity.mental.model.MentalType;
 import healthy.lifestyle.backend.activity.mental.repository.MentalActivityRepository;
+import healthy.lifestyle.backend.activity.mental.repository.MentalActivitySpecifications;
 import healthy.lifestyle.backend.activity.mental.repository.MentalTypeRepository;
 import healthy.lifestyle.backend.activity.workout.dto.*;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
@@ -13,22 +15,31 @@ import healthy.lifestyle.backend.activity.workout.repository.HttpRefRepository;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ApiExceptionCustomMessage;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.catalog.CatalogIndex;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
+import healthy.lifestyle.backend.shared.pagination.KeysetCursor;
+import healthy.lifestyle.backend.shared.specification.FilterSpecifications;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserService;
 import java.util.*;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MentalActivityServiceImpl implements MentalActivityService {
+    private static final Map<String, Class<?>> CURSOR_SORT_FIELDS =
+            Map.of("title", String.class, KeysetCursor.ID, Long.class);
+
     @Autowired
     MentalActivityRepository mentalRepository;
 
@@ -42,14 +53,28 @@ public class MentalActivityServiceImpl implements MentalActivityService {
     MentalTypeRepository mentalTypeRepository;
 
     @Autowired
-    ModelMapper modelMapper;
+    MentalMapper mentalMapper;
 
     @Autowired
     VerificationUtil verificationUtil;
 
+    @Autowired
+    KeysetCursor keysetCursor;
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
+
+    @Autowired
+    UserListingCache userListingCache;
+
     @Override
     @Transactional
     public MentalActivityResponseDto getMentalActivityById(long mentalId, boolean requiredDefault, Long userId) {
+        if (requiredDefault) {
+            Optional<MentalActivityResponseDto> defaultMental = defaultCatalog.findMentalActivityById(mentalId);
+            if (defaultMental.isPresent()) return defaultMental.get();
+        }
+
         MentalActivity mental = mentalRepository
                 .findById(mentalId)
                 .orElseThrow(() -> new ApiException(ErrorMessage.MENTAL_NOT_FOUND, mentalId, HttpStatus.NOT_FOUND));
@@ -62,20 +87,10 @@ public class MentalActivityServiceImpl implements MentalActivityService {
             throw new ApiException(
                     ErrorMessage.DEFAULT_RESOURCE_HAS_BEEN_REQUESTED_INSTEAD_OF_CUSTOM, null, HttpStatus.BAD_REQUEST);
 
-        if (userId != null) {
-            User user = userService.getUserById(userId);
-            if (mental.isCustom()
-                    && (user.getMentalActivities() == null
-                            || !user.getMentalActivities().contains(mental)))
-                throw new ApiException(ErrorMessage.USER_MENTAL_MISMATCH, mentalId, HttpStatus.BAD_REQUEST);
-        }
-
-        MentalActivityResponseDto mentalResponseDto = modelMapper.map(mental, MentalActivityResponseDto.class);
+        if (userId != null && mental.isCustom() && !userId.equals(mental.getUser().getId()))
+            throw new ApiException(ErrorMessage.USER_MENTAL_MISMATCH, mentalId, HttpStatus.BAD_REQUEST);
 
-        List<HttpRefResponseDto> httpRefsSorted = mentalResponseDto.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                .toList();
-        mentalResponseDto.setHttpRefs(httpRefsSorted);
+        MentalActivityResponseDto mentalResponseDto = mentalMapper.toResponseDto(mental);
         return mentalResponseDto;
     }
 
@@ -87,14 +102,13 @@ public class MentalActivityServiceImpl implements MentalActivityService {
         Pageable pageable = PageRequest.of(
                 currentPageNumber, pageSize, Sort.by(Sort.Direction.fromString(sortDirection), sortField));
 
-        Page<MentalActivity> entityPage = mentalRepository.findDefaultAndCustomMentalActivity(userId, pageable);
+        return userListingCache.get(userId, "mentalActivities", List.of(pageable), () -> {
+            Page<MentalActivity> entityPage = mentalRepository.findDefaultAndCustomMentalActivity(userId, pageable);
 
-        Page<MentalActivityResponseDto> dtoPage = entityPage.map(entity -> {
-            MentalActivityResponseDto mentalResponseDto = modelMapper.map(entity, MentalActivityResponseDto.class);
-            return mentalResponseDto;
-        });
+            Page<MentalActivityResponseDto> dtoPage = entityPage.map(mentalMapper::toResponseDto);
 
-        return dtoPage;
+            return dtoPage;
+        });
     }
 
     @Override
@@ -156,13 +170,12 @@ public class MentalActivityServiceImpl implements MentalActivityService {
         if (httpRefsAreDifferent) updateHttpRefs(requestDto, mental, userId);
 
         MentalActivity savedMental = mentalRepository.save(mental);
-        MentalActivityResponseDto responseDto = mapMentalToMentalResponseDto(savedMental);
+        userListingCache.bump(userId);
+        MentalActivityResponseDto responseDto = mentalMapper.toResponseDto(savedMental);
         return responseDto;
     }
 
     private void updateHttpRefs(MentalActivityUpdateRequestDto requestDto, MentalActivity mental, Long userId) {
-        User user = userService.getUserById(userId);
-
         if (requestDto.getHttpRefIds().isEmpty()) {
             mental.getHttpRefs().clear();
             return;
@@ -181,12 +194,8 @@ public class MentalActivityServiceImpl implements MentalActivityService {
                     .findById(id)
                     .orElseThrow(() -> new ApiException(ErrorMessage.HTTP_REF_NOT_FOUND, id, HttpStatus.NOT_FOUND));
 
-            if (httpRef.isCustom()) {
-                boolean userHasCustomHttpRef =
-                        user.getHttpRefs() != null && user.getHttpRefs().contains(httpRef);
-                if (!userHasCustomHttpRef)
-                    throw new ApiException(ErrorMessage.USER_HTTP_REF_MISMATCH, id, HttpStatus.BAD_REQUEST);
-            }
+            if (httpRef.isCustom() && !userId.equals(httpRef.getUser().getId()))
+                throw new ApiException(ErrorMessage.USER_HTTP_REF_MISMATCH, id, HttpStatus.BAD_REQUEST);
 
             mental.getHttpRefs().add(httpRef);
         }
@@ -199,24 +208,14 @@ public class MentalActivityServiceImpl implements MentalActivityService {
         }
     }
 
-    private MentalActivityResponseDto mapMentalToMentalResponseDto(MentalActivity mental) {
-        MentalActivityResponseDto mentalResponseDto = modelMapper.map(mental, MentalActivityResponseDto.class);
-        List<HttpRefResponseDto> mentalHttpRefsSorted = mental.getHttpRefsSortedById().stream()
-                .map(httpRef -> modelMapper.map(httpRef, HttpRefResponseDto.class))
-                .toList();
-
-        mentalResponseDto.setHttpRefs(mentalHttpRefsSorted);
-        return mentalResponseDto;
-    }
-
     @Override
     @Transactional
     public void deleteCustomMentalActivity(long mentalId, long userId) {
         MentalActivity mental = mentalRepository
                 .findCustomByMentalIdAndUserId(mentalId, userId)
                 .orElseThrow(() -> new ApiException(ErrorMessage.MENTAL_NOT_FOUND, mentalId, HttpStatus.NOT_FOUND));
-        userService.deleteMentalActivitiesFromUser(userId, mental);
         mentalRepository.delete(mental);
+        userListingCache.bump(userId);
     }
 
     @Override
@@ -259,13 +258,8 @@ public class MentalActivityServiceImpl implements MentalActivityService {
         mental.setType(mentalType);
 
         MentalActivity mentalSaved = mentalRepository.save(mental);
-        userService.addMentalActivitiesToUser(userId, mentalSaved);
-        MentalActivityResponseDto mentalResponseDto = modelMapper.map(mentalSaved, MentalActivityResponseDto.class);
-        List<HttpRefResponseDto> httpRefsSorted = mentalResponseDto.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                .toList();
-
-        mentalResponseDto.setHttpRefs(httpRefsSorted);
+        userListingCache.bump(userId);
+        MentalActivityResponseDto mentalResponseDto = mentalMapper.toResponseDto(mentalSaved);
         return mentalResponseDto;
     }
 
@@ -285,6 +279,38 @@ public class MentalActivityServiceImpl implements MentalActivityService {
         Pageable pageable = PageRequest.of(
                 currentPageNumber, pageSize, Sort.by(Sort.Direction.fromString(sortDirection), sortField));
 
+        return userListingCache.get(
+                userId,
+                "mentalActivitiesWithFilter",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(title),
+                        UserListingCache.ignoreCase(description),
+                        mentalTypeId,
+                        pageable),
+                () -> findMentalActivitiesWithFilter(isCustom, userId, title, description, mentalTypeId, pageable));
+    }
+
+    private Page<MentalActivityResponseDto> findMentalActivitiesWithFilter(
+            Boolean isCustom, Long userId, String title, String description, Long mentalTypeId, Pageable pageable) {
+        // Default activities come from the catalog, custom activities of the user are merged into them
+        boolean defaultOnly = isCustom != null && !isCustom && userId == null;
+        if ((defaultOnly || (isCustom == null && userId != null))
+                && defaultCatalog.getMentalActivities().sortsBy(pageable.getSort())) {
+            CatalogIndex<MentalActivityResponseDto>.Filter defaultMentals =
+                    filterDefaultMentalActivities(title, description, mentalTypeId);
+            if (defaultOnly) return defaultMentals.page(pageable);
+
+            // Only the custom activities which can precede the end of the page are loaded, in the order of the catalog
+            Page<MentalActivityResponseDto> customMentals = mentalRepository
+                    .findAll(
+                            MentalActivitySpecifications.withFilter(true, userId, title, description, mentalTypeId)
+                                    .and(FilterSpecifications.orderedLikeCatalog(pageable.getSort())),
+                            CatalogIndex.otherRowsWindow(pageable))
+                    .map(mentalMapper::toResponseDto);
+            return defaultMentals.page(pageable, customMentals);
+        }
+
         Page<MentalActivity> entitiesPage = null;
 
         // Default and custom
@@ -305,8 +331,77 @@ public class MentalActivityServiceImpl implements MentalActivityService {
             throw new ApiExceptionCustomMessage("Invalid args combination", HttpStatus.BAD_REQUEST);
         }
 
-        Page<MentalActivityResponseDto> dtoPage =
-                entitiesPage.map(entity -> modelMapper.map(entity, MentalActivityResponseDto.class));
+        Page<MentalActivityResponseDto> dtoPage = entitiesPage.map(mentalMapper::toResponseDto);
         return dtoPage;
     }
+
+    @Override
+    @Transactional
+    public CursorPage<MentalActivityResponseDto> scrollMentalActivitiesWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Long mentalTypeId,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize) {
+        if ((isCustom == null && userId == null)
+                || (isCustom != null && !isCustom && userId != null)
+                || (isCustom != null && isCustom && userId == null))
+            throw new ApiExceptionCustomMessage("Invalid args combination", HttpStatus.BAD_REQUEST);
+
+        keysetCursor.validatePageSize(pageSize);
+        Sort sort = keysetCursor.sort(sortField, sortDirection, CURSOR_SORT_FIELDS);
+        return userListingCache.get(
+                userId,
+                "mentalActivitiesScroll",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(title),
+                        UserListingCache.ignoreCase(description),
+                        mentalTypeId,
+                        sort,
+                        cursor,
+                        pageSize),
+                () -> scrollMentalActivities(
+                        isCustom, userId, title, description, mentalTypeId, sort, cursor, pageSize));
+    }
+
+    private CursorPage<MentalActivityResponseDto> scrollMentalActivities(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Long mentalTypeId,
+            Sort sort,
+            String cursor,
+            int pageSize) {
+        if (isCustom != null && !isCustom) {
+            Window<MentalActivityResponseDto> window = filterDefaultMentalActivities(title, description, mentalTypeId)
+                    .scroll(sort, keysetCursor.decode(cursor, sort, CURSOR_SORT_FIELDS), pageSize);
+            return keysetCursor.toPage(window, window.getContent());
+        }
+
+        Window<MentalActivity> window = mentalRepository.findBy(
+                MentalActivitySpecifications.withFilter(isCustom, userId, title, description, mentalTypeId),
+                query -> query.sortBy(sort)
+                        .limit(pageSize)
+                        .scroll(keysetCursor.decode(cursor, sort, CURSOR_SORT_FIELDS)));
+
+        List<MentalActivityResponseDto> content =
+                window.stream().map(mentalMapper::toResponseDto).toList();
+        return keysetCursor.toPage(window, content);
+    }
+
+    private CatalogIndex<MentalActivityResponseDto>.Filter filterDefaultMentalActivities(
+            String title, String description, Long mentalTypeId) {
+        return defaultCatalog
+                .getMentalActivities()
+                .filter()
+                .containsIgnoreCase("title", title)
+                .containsIgnoreCase("description", description)
+                .equal("mentalTypeId", mentalTypeId);
+    }
 }
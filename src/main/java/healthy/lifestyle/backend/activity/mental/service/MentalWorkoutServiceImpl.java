@@ -1,8 +1,8 @@
 package healthy.lifestyle.backend.activity.mental.service;
 
-import healthy.lifestyle.backend.activity.mental.dto.MentalActivityResponseDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalWorkoutCreateRequestDto;
 import healthy.lifestyle.backend.activity.mental.dto.MentalWorkoutResponseDto;
+import healthy.lifestyle.backend.activity.mental.mapper.MentalMapper;
 import healthy.lifestyle.backend.activity.mental.model.MentalActivity;
 import healthy.lifestyle.backend.activity.mental.model.MentalWorkout;
 import healthy.lifestyle.backend.activity.mental.repository.MentalActivityRepository;
@@ -10,14 +10,15 @@ import healthy.lifestyle.backend.activity.mental.repository.MentalWorkoutReposit
 import healthy.lifestyle.backend.activity.workout.dto.*;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserService;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -35,11 +36,17 @@ public class MentalWorkoutServiceImpl implements MentalWorkoutService {
     UserService userService;
 
     @Autowired
-    ModelMapper modelMapper;
+    MentalMapper mentalMapper;
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
 
     @Autowired
     VerificationUtil verificationUtil;
 
+    @Autowired
+    UserListingCache userListingCache;
+
     @Override
     @Transactional
     public MentalWorkoutResponseDto createCustomMentalWorkout(long userId, MentalWorkoutCreateRequestDto requestDto) {
@@ -59,7 +66,7 @@ public class MentalWorkoutServiceImpl implements MentalWorkoutService {
                     .orElseThrow(() ->
                             new ApiException(ErrorMessage.MENTAL_NOT_FOUND, mentalActivityId, HttpStatus.NOT_FOUND));
 
-            if (mentalActivity.isCustom() && !mentalActivity.getUser().equals(user))
+            if (mentalActivity.isCustom() && !mentalActivity.getUser().getId().equals(userId))
                 throw new ApiException(ErrorMessage.USER_MENTAL_MISMATCH, mentalActivityId, HttpStatus.BAD_REQUEST);
 
             mentalActivitySet.add(mentalActivity);
@@ -73,29 +80,20 @@ public class MentalWorkoutServiceImpl implements MentalWorkoutService {
                 .mentalActivities(mentalActivitySet)
                 .build();
         MentalWorkout savedMentalWorkout = mentalWorkoutRepository.save(mentalWorkout);
-        userService.addMentalWorkoutToUser(user, savedMentalWorkout);
-
-        MentalWorkoutResponseDto mentalWorkoutResponseDto =
-                modelMapper.map(savedMentalWorkout, MentalWorkoutResponseDto.class);
-
-        List<MentalActivityResponseDto> mentalActivityResponseDtoList =
-                savedMentalWorkout.getMentalActivitiesSortedById().stream()
-                        .map(mentalActivity -> modelMapper.map(mentalActivity, MentalActivityResponseDto.class))
-                        .peek(elt -> {
-                            List<HttpRefResponseDto> httpRefsSorted = elt.getHttpRefs().stream()
-                                    .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                                    .toList();
-                            elt.setHttpRefs(httpRefsSorted);
-                        })
-                        .toList();
-
-        mentalWorkoutResponseDto.setMentalActivities(mentalActivityResponseDtoList);
+        userListingCache.bump(userId);
+
+        MentalWorkoutResponseDto mentalWorkoutResponseDto = mentalMapper.toResponseDto(savedMentalWorkout);
         return mentalWorkoutResponseDto;
     }
 
     @Override
     @Transactional
     public MentalWorkoutResponseDto getMentalWorkoutById(long mentalWorkoutId, boolean requiredDefault, Long userId) {
+        if (requiredDefault) {
+            Optional<MentalWorkoutResponseDto> defaultMentalWorkout =
+                    defaultCatalog.findMentalWorkoutById(mentalWorkoutId);
+            if (defaultMentalWorkout.isPresent()) return defaultMentalWorkout.get();
+        }
 
         MentalWorkout mentalWorkout = mentalWorkoutRepository
                 .findById(mentalWorkoutId)
@@ -110,22 +108,10 @@ public class MentalWorkoutServiceImpl implements MentalWorkoutService {
             throw new ApiException(
                     ErrorMessage.DEFAULT_RESOURCE_HAS_BEEN_REQUESTED_INSTEAD_OF_CUSTOM, null, HttpStatus.BAD_REQUEST);
 
-        if (userId != null) {
-            User user = userService.getUserById(userId);
-            if (mentalWorkout.isCustom()
-                    && (user.getMentalWorkouts() == null
-                            || !user.getMentalWorkouts().contains(mentalWorkout)))
-                throw new ApiException(
-                        ErrorMessage.USER_MENTAL_WORKOUT_MISMATCH, mentalWorkoutId, HttpStatus.BAD_REQUEST);
-        }
-
-        MentalWorkoutResponseDto mentalWorkoutDto = modelMapper.map(mentalWorkout, MentalWorkoutResponseDto.class);
-
-        List<MentalActivityResponseDto> mentalActivitiesSorted = mentalWorkoutDto.getMentalActivities().stream()
-                .sorted(Comparator.comparingLong(MentalActivityResponseDto::getId))
-                .toList();
+        if (userId != null && mentalWorkout.isCustom() && !userId.equals(mentalWorkout.getUser().getId()))
+            throw new ApiException(ErrorMessage.USER_MENTAL_WORKOUT_MISMATCH, mentalWorkoutId, HttpStatus.BAD_REQUEST);
 
-        mentalWorkoutDto.setMentalActivities(mentalActivitiesSorted);
+        MentalWorkoutResponseDto mentalWorkoutDto = mentalMapper.toResponseDto(mentalWorkout);
         return mentalWorkoutDto;
     }
 }
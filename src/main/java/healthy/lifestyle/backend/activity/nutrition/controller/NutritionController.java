@@ -2,6 +2,7 @@ package healthy.lifestyle.backend.activity.nutrition.controller;
 
 import healthy.lifestyle.backend.activity.nutrition.dto.NutritionResponseDto;
 import healthy.lifestyle.backend.activity.nutrition.service.NutritionService;
+import healthy.lifestyle.backend.shared.http.VersionedContent;
 import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,7 @@ public class NutritionController {
 
     @Operation(summary = "Get default nutrition by id")
     @GetMapping("/default/{nutrition_id}")
+    @VersionedContent
     public ResponseEntity<NutritionResponseDto> getDefaultNutritionById(
             @PathVariable("nutrition_id") @IdValidation long nutrition_id) {
         NutritionResponseDto responseDto = nutritionService.getNutritionById(nutrition_id, true, null);
@@ -0,0 +1,18 @@
+package healthy.lifestyle.backend.activity.nutrition.mapper;
+
+import healthy.lifestyle.backend.activity.nutrition.dto.NutritionResponseDto;
+import healthy.lifestyle.backend.activity.nutrition.dto.NutritionTypeResponseDto;
+import healthy.lifestyle.backend.activity.nutrition.model.Nutrition;
+import healthy.lifestyle.backend.activity.nutrition.model.NutritionType;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapper;
+import healthy.lifestyle.backend.config.MapperConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfiguration.class, uses = HttpRefMapper.class)
+public interface NutritionMapper {
+    @Mapping(target = "httpRefs", source = "httpRefsSortedById")
+    NutritionResponseDto toResponseDto(Nutrition nutrition);
+
+    NutritionTypeResponseDto toResponseDto(NutritionType nutritionType);
+}
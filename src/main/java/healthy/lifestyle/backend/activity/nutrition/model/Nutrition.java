@@ -1,12 +1,13 @@
 package healthy.lifestyle.backend.activity.nutrition.model;
 
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.shared.util.SortedById;
 import healthy.lifestyle.backend.user.model.User;
 import jakarta.persistence.*;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 /**
  * nutritions table preserves both default and custom nutritions.
@@ -39,6 +40,8 @@ public class Nutrition {
             name = "nutritions_http_refs",
             joinColumns = @JoinColumn(name = "nutrition_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "http_ref_id", referencedColumnName = "id"))
+    @OrderBy("id")
+    @BatchSize(size = 100)
     private Set<HttpRef> httpRefs;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,8 +53,6 @@ public class Nutrition {
     private User user;
 
     public List<HttpRef> getHttpRefsSortedById() {
-        return this.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRef::getId))
-                .toList();
+        return SortedById.list(this.getHttpRefs(), HttpRef::getId);
     }
 }
@@ -3,6 +3,9 @@ package healthy.lifestyle.backend.activity.nutrition.model;
 import jakarta.persistence.*;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -11,6 +14,9 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "nutrition_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "nutritionTypes")
+@BatchSize(size = 100)
 public class NutritionType {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,6 +1,12 @@
 package healthy.lifestyle.backend.activity.nutrition.repository;
 
 import healthy.lifestyle.backend.activity.nutrition.model.Nutrition;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface NutritionRepository extends JpaRepository<Nutrition, Long> {}
+public interface NutritionRepository extends JpaRepository<Nutrition, Long> {
+    @Query("SELECT n FROM Nutrition n LEFT JOIN FETCH n.httpRefs h LEFT JOIN FETCH h.httpRefType "
+            + "LEFT JOIN FETCH n.type WHERE n.isCustom = false")
+    List<Nutrition> findAllDefaultWithHttpRefsAndType();
+}
@@ -1,16 +1,13 @@
 package healthy.lifestyle.backend.activity.nutrition.service;
 
 import healthy.lifestyle.backend.activity.nutrition.dto.NutritionResponseDto;
+import healthy.lifestyle.backend.activity.nutrition.mapper.NutritionMapper;
 import healthy.lifestyle.backend.activity.nutrition.model.Nutrition;
 import healthy.lifestyle.backend.activity.nutrition.repository.NutritionRepository;
-import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
-import healthy.lifestyle.backend.user.model.User;
-import healthy.lifestyle.backend.user.service.UserService;
-import java.util.Comparator;
-import java.util.List;
-import org.modelmapper.ModelMapper;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -21,13 +18,18 @@ public class NutritionServiceImpl implements NutritionService {
     NutritionRepository nutritionRepository;
 
     @Autowired
-    UserService userService;
+    NutritionMapper nutritionMapper;
 
     @Autowired
-    ModelMapper modelMapper;
+    DefaultCatalog defaultCatalog;
 
     @Override
     public NutritionResponseDto getNutritionById(long nutritionId, boolean requiredDefault, Long userId) {
+        if (requiredDefault) {
+            Optional<NutritionResponseDto> defaultNutrition = defaultCatalog.findNutritionById(nutritionId);
+            if (defaultNutrition.isPresent()) return defaultNutrition.get();
+        }
+
         Nutrition nutrition = nutritionRepository
                 .findById(nutritionId)
                 .orElseThrow(
@@ -41,19 +43,10 @@ public class NutritionServiceImpl implements NutritionService {
             throw new ApiException(
                     ErrorMessage.DEFAULT_RESOURCE_HAS_BEEN_REQUESTED_INSTEAD_OF_CUSTOM, null, HttpStatus.BAD_REQUEST);
 
-        if (userId != null) {
-            User user = userService.getUserById(userId);
-            if (nutrition.isCustom()
-                    && (user.getNutritions() == null || !user.getNutritions().contains(nutrition)))
-                throw new ApiException(ErrorMessage.USER_NUTRITION_MISMATCH, nutritionId, HttpStatus.BAD_REQUEST);
-        }
-
-        NutritionResponseDto nutritionResponseDto = modelMapper.map(nutrition, NutritionResponseDto.class);
-        List<HttpRefResponseDto> httpRefsSorted = nutritionResponseDto.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                .toList();
+        if (userId != null && nutrition.isCustom() && !userId.equals(nutrition.getUser().getId()))
+            throw new ApiException(ErrorMessage.USER_NUTRITION_MISMATCH, nutritionId, HttpStatus.BAD_REQUEST);
 
-        nutritionResponseDto.setHttpRefs(httpRefsSorted);
+        NutritionResponseDto nutritionResponseDto = nutritionMapper.toResponseDto(nutrition);
         return nutritionResponseDto;
     }
 }
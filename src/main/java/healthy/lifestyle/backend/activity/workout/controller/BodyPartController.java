@@ -2,6 +2,7 @@ package healthy.lifestyle.backend.activity.workout.controller;
 
 import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
 import healthy.lifestyle.backend.activity.workout.service.BodyPartService;
+import healthy.lifestyle.backend.shared.http.VersionedContent;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,7 @@ public class BodyPartController {
 
     @Operation(summary = "Get a list of body parts")
     @GetMapping
+    @VersionedContent
     public ResponseEntity<List<BodyPartResponseDto>> getBodyParts() {
         List<BodyPartResponseDto> responseDto = bodyPartService.getBodyParts();
         return ResponseEntity.ok(responseDto);
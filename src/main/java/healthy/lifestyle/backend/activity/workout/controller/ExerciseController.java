@@ -4,6 +4,8 @@ import healthy.lifestyle.backend.activity.workout.dto.ExerciseCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.ExerciseUpdateRequestDto;
 import healthy.lifestyle.backend.activity.workout.service.ExerciseService;
+import healthy.lifestyle.backend.shared.http.VersionedContent;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import healthy.lifestyle.backend.shared.validation.annotation.DescriptionOptionalValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.TitleOptionalValidation;
@@ -44,6 +46,7 @@ public class ExerciseController {
 
     @Operation(summary = "Get default exercise by id")
     @GetMapping("/default/{exercise_id}")
+    @VersionedContent
     public ResponseEntity<ExerciseResponseDto> getDefaultExerciseById(
             @PathVariable("exercise_id") @IdValidation long exercise_id) {
         ExerciseResponseDto responseDto = exerciseService.getExerciseById(exercise_id, true, null);
@@ -92,8 +95,40 @@ public class ExerciseController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @Operation(summary = "Get default and custom exercises after cursor")
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<CursorPage<ExerciseResponseDto>> scrollExercisesWithFilter(
+            @RequestParam(required = false) Boolean isCustom,
+            @RequestParam(required = false) @TitleOptionalValidation(min = 2) String title,
+            @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
+            @RequestParam(required = false) Boolean needsEquipment,
+            @RequestParam(required = false) List<Long> bodyPartsIds,
+            @RequestParam(required = false, defaultValue = "title") String sortField,
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @RequestParam String cursor) {
+        Long userId = null;
+        if (isCustom == null || isCustom)
+            userId = authUtil.getUserIdFromAuthentication(
+                    SecurityContextHolder.getContext().getAuthentication());
+        CursorPage<ExerciseResponseDto> dtoPage = exerciseService.scrollExercisesWithFilter(
+                isCustom,
+                userId,
+                title,
+                description,
+                needsEquipment,
+                bodyPartsIds,
+                sortField,
+                sortDirection,
+                cursor,
+                pageSize);
+        return ResponseEntity.ok(dtoPage);
+    }
+
     @Operation(summary = "Get default exercises")
     @GetMapping("/default")
+    @VersionedContent
     public ResponseEntity<Page<ExerciseResponseDto>> getDefaultExercises(
             @RequestParam(required = false) @TitleOptionalValidation(min = 2) String title,
             @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
@@ -117,6 +152,32 @@ public class ExerciseController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @Operation(summary = "Get default exercises after cursor")
+    @GetMapping(value = "/default", params = "cursor")
+    @VersionedContent
+    public ResponseEntity<CursorPage<ExerciseResponseDto>> scrollDefaultExercises(
+            @RequestParam(required = false) @TitleOptionalValidation(min = 2) String title,
+            @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
+            @RequestParam(required = false) Boolean needsEquipment,
+            @RequestParam(required = false) List<Long> bodyPartsIds,
+            @RequestParam(required = false, defaultValue = "title") String sortField,
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @RequestParam String cursor) {
+        CursorPage<ExerciseResponseDto> dtoPage = exerciseService.scrollExercisesWithFilter(
+                false,
+                null,
+                title,
+                description,
+                needsEquipment,
+                bodyPartsIds,
+                sortField,
+                sortDirection,
+                cursor,
+                pageSize);
+        return ResponseEntity.ok(dtoPage);
+    }
+
     @Operation(summary = "Update custom exercises")
     @PatchMapping("/{exerciseId}")
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -4,6 +4,7 @@ import healthy.lifestyle.backend.activity.workout.dto.HttpRefCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefUpdateRequestDto;
 import healthy.lifestyle.backend.activity.workout.service.HttpRefService;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import healthy.lifestyle.backend.shared.validation.annotation.DescriptionOptionalValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.TitleOptionalValidation;
@@ -71,6 +72,26 @@ public class HttpRefController {
         return new ResponseEntity<>(responseDtoPage, HttpStatus.OK);
     }
 
+    @Operation(summary = "Get default and custom http references after cursor")
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<CursorPage<HttpRefResponseDto>> scrollHttpRefsWithFilter(
+            @RequestParam(required = false) Boolean isCustom,
+            @RequestParam(required = false) @TitleOptionalValidation(min = 2) String name,
+            @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
+            @RequestParam(required = false, defaultValue = "id") String sortField,
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @RequestParam String cursor) {
+        Long userId = null;
+        if (isCustom == null || isCustom)
+            userId = authUtil.getUserIdFromAuthentication(
+                    SecurityContextHolder.getContext().getAuthentication());
+        CursorPage<HttpRefResponseDto> responseDtoPage = httpRefService.scrollHttpRefsWithFilter(
+                isCustom, userId, name, description, sortField, sortDirection, cursor, pageSize);
+        return new ResponseEntity<>(responseDtoPage, HttpStatus.OK);
+    }
+
     @Operation(summary = "Get default http references")
     @GetMapping("/default")
     public ResponseEntity<Page<HttpRefResponseDto>> getDefaultHttpRefsWithFilter(
@@ -87,6 +108,20 @@ public class HttpRefController {
         return new ResponseEntity<>(responseDtoPage, HttpStatus.OK);
     }
 
+    @Operation(summary = "Get default http references after cursor")
+    @GetMapping(value = "/default", params = "cursor")
+    public ResponseEntity<CursorPage<HttpRefResponseDto>> scrollDefaultHttpRefsWithFilter(
+            @RequestParam(required = false) @TitleOptionalValidation(min = 2) String name,
+            @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
+            @RequestParam(required = false, defaultValue = "id") String sortField,
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @RequestParam String cursor) {
+        CursorPage<HttpRefResponseDto> responseDtoPage = httpRefService.scrollHttpRefsWithFilter(
+                null, null, name, description, sortField, sortDirection, cursor, pageSize);
+        return new ResponseEntity<>(responseDtoPage, HttpStatus.OK);
+    }
+
     @Operation(summary = "Update custom http reference by id")
     @PatchMapping("/{httpRefId}")
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -4,6 +4,8 @@ import healthy.lifestyle.backend.activity.workout.dto.WorkoutCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.WorkoutResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.WorkoutUpdateRequestDto;
 import healthy.lifestyle.backend.activity.workout.service.WorkoutService;
+import healthy.lifestyle.backend.shared.http.VersionedContent;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import healthy.lifestyle.backend.shared.validation.annotation.DescriptionOptionalValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import healthy.lifestyle.backend.shared.validation.annotation.TitleOptionalValidation;
@@ -45,6 +47,7 @@ public class WorkoutController {
 
     @Operation(summary = "Get default workout by id")
     @GetMapping("/default/{workout_id}")
+    @VersionedContent
     public ResponseEntity<WorkoutResponseDto> getDefaultWorkoutById(
             @PathVariable("workout_id") @IdValidation long workoutId) {
         WorkoutResponseDto responseDto = workoutService.getWorkoutById(workoutId, false);
@@ -62,6 +65,7 @@ public class WorkoutController {
 
     @Operation(summary = "Get default workouts")
     @GetMapping("/default")
+    @VersionedContent
     public ResponseEntity<Page<WorkoutResponseDto>> getDefaultWorkouts(
             @RequestParam(required = false) @TitleOptionalValidation(min = 2) String title,
             @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
@@ -85,6 +89,32 @@ public class WorkoutController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @Operation(summary = "Get default workouts after cursor")
+    @GetMapping(value = "/default", params = "cursor")
+    @VersionedContent
+    public ResponseEntity<CursorPage<WorkoutResponseDto>> scrollDefaultWorkouts(
+            @RequestParam(required = false) @TitleOptionalValidation(min = 2) String title,
+            @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
+            @RequestParam(required = false) Boolean needsEquipment,
+            @RequestParam(required = false) List<Long> bodyPartsIds,
+            @RequestParam(required = false, defaultValue = "title") String sortField,
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @RequestParam String cursor) {
+        CursorPage<WorkoutResponseDto> dtoPage = workoutService.scrollWorkoutsWithFilter(
+                false,
+                null,
+                title,
+                description,
+                needsEquipment,
+                bodyPartsIds,
+                sortField,
+                sortDirection,
+                cursor,
+                pageSize);
+        return ResponseEntity.ok(dtoPage);
+    }
+
     @Operation(summary = "Get default and custom workouts")
     @GetMapping()
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -116,6 +146,37 @@ public class WorkoutController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @Operation(summary = "Get default and custom workouts after cursor")
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<CursorPage<WorkoutResponseDto>> scrollWorkouts(
+            @RequestParam(required = false) Boolean isCustom,
+            @RequestParam(required = false) @TitleOptionalValidation(min = 2) String title,
+            @RequestParam(required = false) @DescriptionOptionalValidation(min = 2) String description,
+            @RequestParam(required = false) Boolean needsEquipment,
+            @RequestParam(required = false) List<Long> bodyPartsIds,
+            @RequestParam(required = false, defaultValue = "title") String sortField,
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false, defaultValue = "10") int pageSize,
+            @RequestParam String cursor) {
+        Long userId = null;
+        if (isCustom == null || isCustom)
+            userId = authUtil.getUserIdFromAuthentication(
+                    SecurityContextHolder.getContext().getAuthentication());
+        CursorPage<WorkoutResponseDto> dtoPage = workoutService.scrollWorkoutsWithFilter(
+                isCustom,
+                userId,
+                title,
+                description,
+                needsEquipment,
+                bodyPartsIds,
+                sortField,
+                sortDirection,
+                cursor,
+                pageSize);
+        return ResponseEntity.ok(dtoPage);
+    }
+
     @Operation(summary = "Update custom workout by id")
     @PatchMapping("/{workoutId}")
     @PreAuthorize("hasRole('ROLE_USER')")
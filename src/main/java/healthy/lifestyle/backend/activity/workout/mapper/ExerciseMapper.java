@@ -0,0 +1,21 @@
+package healthy.lifestyle.backend.activity.workout.mapper;
+
+import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.model.Exercise;
+import healthy.lifestyle.backend.config.MapperConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfiguration.class, uses = HttpRefMapper.class)
+public interface ExerciseMapper {
+    /**
+     * Touches body parts, http refs and their types, which should be fetched together with the exercise.
+     */
+    @Mapping(target = "bodyParts", source = "bodyPartsSortedById")
+    @Mapping(target = "httpRefs", source = "httpRefsSortedById")
+    ExerciseResponseDto toResponseDto(Exercise exercise);
+
+    BodyPartResponseDto toResponseDto(BodyPart bodyPart);
+}
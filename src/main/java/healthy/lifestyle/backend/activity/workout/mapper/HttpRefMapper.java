@@ -0,0 +1,13 @@
+package healthy.lifestyle.backend.activity.workout.mapper;
+
+import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
+import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.config.MapperConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfiguration.class)
+public interface HttpRefMapper {
+    @Mapping(target = "httpRefTypeName", source = "httpRefType.name")
+    HttpRefResponseDto toResponseDto(HttpRef httpRef);
+}
@@ -0,0 +1,42 @@
+package healthy.lifestyle.backend.activity.workout.mapper;
+
+import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.WorkoutResponseDto;
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.config.MapperConfiguration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MapperConfiguration.class, uses = ExerciseMapper.class)
+public interface WorkoutMapper {
+    /**
+     * Maps exercises with their body parts and http refs, see {@link ExerciseMapper#toResponseDto(
+     * healthy.lifestyle.backend.activity.workout.model.Exercise)}. Body parts of the workout are the distinct body
+     * parts of its exercises. needsEquipment is read from the workout summary, see {@link Workout#refreshSummary()}.
+     */
+    @Mapping(target = "exercises", source = "exercisesSortedById")
+    @Mapping(target = "bodyParts", ignore = true)
+    WorkoutResponseDto toResponseDto(Workout workout);
+
+    /**
+     * Collects body parts in one pass over the already mapped exercises, reusing their body part DTOs.
+     */
+    @AfterMapping
+    default void collectBodyParts(@MappingTarget WorkoutResponseDto workoutDto) {
+        Map<Long, BodyPartResponseDto> bodyParts = new TreeMap<>();
+        List<ExerciseResponseDto> exercises = workoutDto.getExercises();
+        if (exercises != null) {
+            for (ExerciseResponseDto exercise : exercises) {
+                for (BodyPartResponseDto bodyPart : exercise.getBodyParts())
+                    bodyParts.putIfAbsent(bodyPart.getId(), bodyPart);
+            }
+        }
+        workoutDto.setBodyParts(List.copyOf(bodyParts.values()));
+    }
+}
@@ -3,6 +3,8 @@ package healthy.lifestyle.backend.activity.workout.model;
 import jakarta.persistence.*;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * body_parts table preserves default values only.
@@ -15,6 +17,8 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "body_parts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "bodyParts")
 public class BodyPart {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,7 +27,15 @@ public class BodyPart {
     @Column(name = "name", unique = true, nullable = false)
     private String name;
 
+    // Position of the body part in the body_parts_mask columns, from 0 to 63
+    @Column(name = "bit_index", unique = true, nullable = false)
+    private int bitIndex;
+
     @ManyToMany(mappedBy = "bodyParts")
     @OrderBy("id")
     private Set<Exercise> exercises;
+
+    public long getMask() {
+        return 1L << bitIndex;
+    }
 }
@@ -1,13 +1,16 @@
 package healthy.lifestyle.backend.activity.workout.model;
 
 import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
+import healthy.lifestyle.backend.shared.util.SortedById;
 import healthy.lifestyle.backend.user.model.User;
 import jakarta.persistence.*;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * exercises table preserves both default and custom exercises.
@@ -20,6 +23,8 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "exercises")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "exercises")
 public class Exercise {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,6 +43,10 @@ public class Exercise {
     @Column(name = "is_custom", unique = false, nullable = false)
     private boolean isCustom;
 
+    // Union of BodyPart.getMask() of the body parts, see refreshBodyPartsMask()
+    @Column(name = "body_parts_mask", unique = false, nullable = false)
+    private long bodyPartsMask;
+
     // user_id column preserves the user id value only for custom exercises (when exercise.isCustom is true).
     // If the exercise is default (when exercise.isCustom is false), then user_id is null.
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,6 +58,9 @@ public class Exercise {
             name = "exercises_body_parts",
             joinColumns = @JoinColumn(name = "exercise_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "body_part_id", referencedColumnName = "id"))
+    @OrderBy("id")
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "exercises.bodyParts")
+    @BatchSize(size = 100)
     private Set<BodyPart> bodyParts;
 
     @ManyToMany(fetch = FetchType.LAZY)
@@ -56,18 +68,21 @@ public class Exercise {
             name = "exercises_http_refs",
             joinColumns = @JoinColumn(name = "exercise_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "http_ref_id", referencedColumnName = "id"))
+    @OrderBy("id")
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "exercises.httpRefs")
+    @BatchSize(size = 100)
     private Set<HttpRef> httpRefs;
 
     @OneToMany(mappedBy = "exercise")
+    @BatchSize(size = 100)
     private Set<WorkoutExercises> workoutExercises;
 
     @OneToMany(mappedBy = "exercise")
+    @BatchSize(size = 100)
     private Set<WorkoutCompletionRecord> workoutCompletionRecords;
 
     public List<BodyPart> getBodyPartsSortedById() {
-        return this.getBodyParts().stream()
-                .sorted(Comparator.comparing(BodyPart::getId))
-                .toList();
+        return SortedById.list(this.getBodyParts(), BodyPart::getId);
     }
 
     public List<Long> getBodyPartsIdsSorted() {
@@ -75,9 +90,7 @@ public class Exercise {
     }
 
     public List<HttpRef> getHttpRefsSortedById() {
-        return this.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRef::getId))
-                .toList();
+        return SortedById.list(this.getHttpRefs(), HttpRef::getId);
     }
 
     public List<Long> getHttpRefsIdsSorted() {
@@ -90,4 +103,15 @@ public class Exercise {
         }
         this.getBodyParts().add(bodyPart);
     }
+
+    /**
+     * Must be called whenever the body parts change, the workouts containing the exercise summarize the mask.
+     */
+    public void refreshBodyPartsMask() {
+        long mask = 0;
+        if (this.getBodyParts() != null) {
+            for (BodyPart bodyPart : this.getBodyParts()) mask |= bodyPart.getMask();
+        }
+        this.setBodyPartsMask(mask);
+    }
 }
@@ -6,6 +6,8 @@ import healthy.lifestyle.backend.user.model.User;
 import jakarta.persistence.*;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * http_refs table preserves both default and custom http references.
@@ -18,6 +20,8 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "http_refs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "httpRefs")
 public class HttpRef {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
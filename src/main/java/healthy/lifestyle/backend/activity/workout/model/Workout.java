@@ -2,13 +2,17 @@ package healthy.lifestyle.backend.activity.workout.model;
 
 import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
 import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.shared.util.SortedById;
 import healthy.lifestyle.backend.user.model.User;
 import jakarta.persistence.*;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * workouts table preserves both default and custom workouts.
@@ -21,6 +25,8 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "workouts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "workouts")
 public class Workout {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,6 +41,13 @@ public class Workout {
     @Column(name = "is_custom", unique = false, nullable = false)
     private boolean isCustom;
 
+    // needs_equipment and body_parts_mask summarize the exercises, see refreshSummary()
+    @Column(name = "needs_equipment", unique = false, nullable = false)
+    private boolean needsEquipment;
+
+    @Column(name = "body_parts_mask", unique = false, nullable = false)
+    private long bodyPartsMask;
+
     // user_id column preserves the user id value only for custom workouts (when workout.isCustom is true).
     // If the workout is default (when workout.isCustom is false), then user_id is null.
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,32 +59,56 @@ public class Workout {
             name = "workouts_exercises",
             joinColumns = @JoinColumn(name = "workout_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "exercise_id", referencedColumnName = "id"))
+    @OrderBy("id")
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "workouts.exercises")
+    @BatchSize(size = 100)
     private Set<Exercise> exercises;
 
     @OneToMany(mappedBy = "workout")
+    @BatchSize(size = 100)
     private Set<WorkoutPlan> workoutPlans;
 
     @OneToMany(mappedBy = "workout")
+    @BatchSize(size = 100)
     private Set<WorkoutCompletionRecord> workoutCompletionRecords;
 
     @OneToMany(mappedBy = "workout")
+    @BatchSize(size = 100)
     private Set<WorkoutExercises> workoutExercises;
 
     public List<Exercise> getExercisesSortedById() {
-        return this.getExercises().stream()
-                .sorted(Comparator.comparingLong(Exercise::getId))
-                .toList();
+        return SortedById.list(this.getExercises(), Exercise::getId);
     }
 
     public List<Long> getSortedExercisesIds() {
         return this.getExercisesSortedById().stream().map(Exercise::getId).toList();
     }
 
+    /**
+     * Distinct by id: body parts of different exercises may be separate instances of the same row.
+     */
     public List<BodyPart> getDistinctBodyPartsSortedById() {
-        Set<BodyPart> bodyParts = new HashSet<>();
-        this.getExercises().forEach(exercise -> bodyParts.addAll(exercise.getBodyParts()));
-        return bodyParts.stream()
-                .sorted(Comparator.comparingLong(BodyPart::getId))
-                .toList();
+        Map<Long, BodyPart> bodyParts = new TreeMap<>();
+        this.getExercises().forEach(exercise -> exercise.getBodyParts()
+                .forEach(bodyPart -> bodyParts.putIfAbsent(bodyPart.getId(), bodyPart)));
+        return List.copyOf(bodyParts.values());
+    }
+
+    /**
+     * Recomputes needsEquipment and bodyPartsMask from the exercises, must be called whenever the exercises change.
+     * Changes of the exercises themselves are propagated by
+     * {@link healthy.lifestyle.backend.activity.workout.repository.WorkoutRepository#refreshSummaryByExerciseId}.
+     */
+    public void refreshSummary() {
+        boolean exercisesNeedEquipment = false;
+        long mask = 0;
+        if (this.getExercises() != null) {
+            for (Exercise exercise : this.getExercises()) {
+                exercisesNeedEquipment |= exercise.isNeedsEquipment();
+                mask |= exercise.getBodyPartsMask();
+            }
+        }
+        this.setNeedsEquipment(exercisesNeedEquipment);
+        this.setBodyPartsMask(mask);
     }
 }
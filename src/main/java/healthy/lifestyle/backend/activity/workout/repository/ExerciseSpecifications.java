@@ -0,0 +1,24 @@
+package healthy.lifestyle.backend.activity.workout.repository;
+
+import static healthy.lifestyle.backend.shared.specification.FilterSpecifications.*;
+
+import healthy.lifestyle.backend.activity.workout.model.Exercise;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class ExerciseSpecifications {
+    private ExerciseSpecifications() {}
+
+    public static Specification<Exercise> withFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            Long bodyPartsMask) {
+        return Specification.<Exercise>where(defaultOrCustom(isCustom, userId))
+                .and(containsIgnoreCase("title", title))
+                .and(containsIgnoreCase("description", description))
+                .and(equal("needsEquipment", needsEquipment))
+                .and(hasAnyBit("bodyPartsMask", bodyPartsMask));
+    }
+}
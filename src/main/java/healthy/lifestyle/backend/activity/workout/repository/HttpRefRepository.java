@@ -6,10 +6,10 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
-public interface HttpRefRepository extends JpaRepository<HttpRef, Long> {
+public interface HttpRefRepository extends JpaRepository<HttpRef, Long>, JpaSpecificationExecutor<HttpRef> {
     @Query("SELECT h FROM HttpRef h WHERE h.user.id = :userId AND h.name = :name AND h.isCustom = true")
     Optional<HttpRef> findCustomByNameAndUserId(String name, Long userId);
 
@@ -17,22 +17,17 @@ public interface HttpRefRepository extends JpaRepository<HttpRef, Long> {
             + "OR (h.name = :name AND h.isCustom = false)")
     List<HttpRef> findDefaultAndCustomByNameAndUserId(String name, Long userId);
 
-    @Query("SELECT h FROM HttpRef h WHERE (:userId IS NULL OR h.user.id = :userId) AND h.isCustom = :isCustom "
-            + "AND (:name IS NULL OR h.name ILIKE %:name%) "
-            + "AND (:description IS NULL OR h.description ILIKE %:description%)")
-    Page<HttpRef> findDefaultOrCustomWithFilter(
-            @Param("isCustom") boolean isCustom,
-            @Param("userId") Long userId,
-            @Param("name") String name,
-            @Param("description") String description,
-            Pageable pageable);
+    /**
+     * Filters are built dynamically, so that only requested predicates reach the planner and the ILIKE ones can use
+     * the trigram indexes of name and description.
+     */
+    default Page<HttpRef> findDefaultOrCustomWithFilter(
+            boolean isCustom, Long userId, String name, String description, Pageable pageable) {
+        return findAll(HttpRefSpecifications.withFilter(isCustom, userId, name, description), pageable);
+    }
 
-    @Query("SELECT h FROM HttpRef h WHERE (h.isCustom = false OR (h.isCustom = true AND h.user.id = :userId)) "
-            + "AND (:name IS NULL OR h.name ILIKE %:name%) "
-            + "AND (:description IS NULL OR h.description ILIKE %:description%)")
-    Page<HttpRef> findDefaultAndCustomWithFilter(
-            @Param("userId") Long userId,
-            @Param("name") String name,
-            @Param("description") String description,
-            Pageable pageable);
+    default Page<HttpRef> findDefaultAndCustomWithFilter(
+            Long userId, String name, String description, Pageable pageable) {
+        return findAll(HttpRefSpecifications.withFilter(null, userId, name, description), pageable);
+    }
 }
@@ -0,0 +1,16 @@
+package healthy.lifestyle.backend.activity.workout.repository;
+
+import static healthy.lifestyle.backend.shared.specification.FilterSpecifications.*;
+
+import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class HttpRefSpecifications {
+    private HttpRefSpecifications() {}
+
+    public static Specification<HttpRef> withFilter(Boolean isCustom, Long userId, String name, String description) {
+        return Specification.<HttpRef>where(defaultOrCustom(isCustom, userId))
+                .and(containsIgnoreCase("name", name))
+                .and(containsIgnoreCase("description", description));
+    }
+}
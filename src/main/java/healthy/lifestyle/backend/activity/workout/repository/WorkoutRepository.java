@@ -1,14 +1,22 @@
 package healthy.lifestyle.backend.activity.workout.repository;
 
 import healthy.lifestyle.backend.activity.workout.model.Workout;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface WorkoutRepository extends JpaRepository<Workout, Long> {
+public interface WorkoutRepository extends JpaRepository<Workout, Long>, JpaSpecificationExecutor<Workout> {
+    @Query("SELECT w FROM Workout w LEFT JOIN FETCH w.exercises WHERE w.id = :workoutId")
+    Optional<Workout> findWithExercisesById(@Param("workoutId") long workoutId);
+
     @Query("SELECT w FROM Workout w WHERE w.user.id = :userId AND w.title = :title AND w.isCustom = true")
     List<Workout> findCustomByTitleAndUserId(String title, Long userId);
 
@@ -16,53 +24,26 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
             + "OR (w.title = :title AND w.isCustom = false)")
     List<Workout> findDefaultAndCustomByTitleAndUserId(String title, Long userId);
 
-    @Query("SELECT DISTINCT w FROM Workout w JOIN w.exercises.bodyParts bp "
-            + "JOIN w.exercises we WHERE element(bp).id IN :bodyPartsIds AND element(we).needsEquipment = :needsEquipment "
-            + "AND (:userId IS NULL OR w.user.id = :userId) AND w.isCustom = :isCustom "
-            + "AND (:title IS NULL OR w.title ILIKE %:title%) "
-            + "AND (:description IS NULL OR w.description ILIKE %:description%)")
-    Page<Workout> findDefaultOrCustomNeedsEquipmentWithFilter(
-            @Param("isCustom") boolean isCustom,
-            @Param("userId") Long userId,
-            @Param("title") String title,
-            @Param("description") String description,
-            @Param("needsEquipment") Boolean needsEquipment,
-            @Param("bodyPartsIds") List<Long> bodyPartsIds,
-            Pageable pageable);
-
-    @Query("SELECT DISTINCT w FROM Workout w JOIN w.exercises.bodyParts bp WHERE element(bp).id IN :bodyPartsIds "
-            + "AND (:userId IS NULL OR w.user.id = :userId) AND w.isCustom = :isCustom "
-            + "AND (:title IS NULL OR w.title ILIKE %:title%) "
-            + "AND (:description IS NULL OR w.description ILIKE %:description%)")
-    Page<Workout> findDefaultOrCustomWithFilter(
-            @Param("isCustom") boolean isCustom,
-            @Param("userId") Long userId,
-            @Param("title") String title,
-            @Param("description") String description,
-            @Param("bodyPartsIds") List<Long> bodyPartsIds,
-            Pageable pageable);
+    @Query("SELECT w FROM Workout w LEFT JOIN FETCH w.exercises WHERE w.id IN :ids")
+    List<Workout> findAllByIdWithExercises(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT DISTINCT w FROM Workout w JOIN w.exercises.bodyParts bp "
-            + "JOIN w.exercises we WHERE element(bp).id IN :bodyPartsIds AND element(we).needsEquipment = :needsEquipment "
-            + "AND (w.isCustom = false OR (w.isCustom = true AND w.user.id = :userId)) "
-            + "AND (:title IS NULL OR w.title ILIKE %:title%) "
-            + "AND (:description IS NULL OR w.description ILIKE %:description%)")
-    Page<Workout> findDefaultAndCustomNeedsEquipmentWithFilter(
-            @Param("userId") Long userId,
-            @Param("title") String title,
-            @Param("description") String description,
-            @Param("needsEquipment") Boolean needsEquipment,
-            @Param("bodyPartsIds") List<Long> bodyPartsIds,
-            Pageable pageable);
+    @Query("SELECT w FROM Workout w LEFT JOIN FETCH w.exercises WHERE w.isCustom = false")
+    List<Workout> findAllDefaultWithExercises();
 
-    @Query("SELECT DISTINCT w FROM Workout w JOIN w.exercises.bodyParts bp WHERE element(bp).id IN :bodyPartsIds "
-            + "AND (w.isCustom = false OR (w.isCustom = true AND w.user.id = :userId)) "
-            + "AND (:title IS NULL OR w.title ILIKE %:title%) "
-            + "AND (:description IS NULL OR w.description ILIKE %:description%)")
-    Page<Workout> findDefaultAndCustomWithFilter(
-            @Param("userId") Long userId,
-            @Param("title") String title,
-            @Param("description") String description,
-            @Param("bodyPartsIds") List<Long> bodyPartsIds,
-            Pageable pageable);
+    /**
+     * Recomputes needs_equipment and body_parts_mask of the workouts containing the exercise, after its equipment
+     * or body parts have changed. Only the second-level cache region of workouts is invalidated, a native update
+     * without query spaces would invalidate all regions.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "workouts"))
+    @Query(
+            value = "UPDATE workouts w SET "
+                    + "needs_equipment = COALESCE((SELECT bool_or(e.needs_equipment) FROM workouts_exercises we "
+                    + "JOIN exercises e ON e.id = we.exercise_id WHERE we.workout_id = w.id), false), "
+                    + "body_parts_mask = COALESCE((SELECT bit_or(e.body_parts_mask) FROM workouts_exercises we "
+                    + "JOIN exercises e ON e.id = we.exercise_id WHERE we.workout_id = w.id), 0) "
+                    + "WHERE w.id IN (SELECT workout_id FROM workouts_exercises WHERE exercise_id = :exerciseId)",
+            nativeQuery = true)
+    int refreshSummaryByExerciseId(@Param("exerciseId") long exerciseId);
 }
@@ -0,0 +1,32 @@
+package healthy.lifestyle.backend.activity.workout.repository;
+
+import static healthy.lifestyle.backend.shared.specification.FilterSpecifications.*;
+
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class WorkoutSpecifications {
+    private WorkoutSpecifications() {}
+
+    public static Specification<Workout> withFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            Long bodyPartsMask) {
+        return Specification.<Workout>where(defaultOrCustom(isCustom, userId))
+                .and(containsIgnoreCase("title", title))
+                .and(containsIgnoreCase("description", description))
+                .and(needsEquipment(needsEquipment))
+                .and(hasAnyBit("bodyPartsMask", bodyPartsMask));
+    }
+
+    /**
+     * Reads the workout summary columns maintained on write, see {@link Workout#refreshSummary()}. A workout needs
+     * equipment if any of its exercises does.
+     */
+    public static Specification<Workout> needsEquipment(Boolean needsEquipment) {
+        return equal("needsEquipment", needsEquipment);
+    }
+}
@@ -3,6 +3,7 @@ package healthy.lifestyle.backend.activity.workout.service;
 import healthy.lifestyle.backend.activity.workout.dto.ExerciseCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.ExerciseUpdateRequestDto;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import java.util.List;
 import org.springframework.data.domain.Page;
 
@@ -23,6 +24,18 @@ public interface ExerciseService {
             int currentPageNumber,
             int pageSize);
 
+    CursorPage<ExerciseResponseDto> scrollExercisesWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize);
+
     ExerciseResponseDto updateCustomExercise(long exerciseId, long userId, ExerciseUpdateRequestDto requestDto)
             throws NoSuchFieldException, IllegalAccessException;
 
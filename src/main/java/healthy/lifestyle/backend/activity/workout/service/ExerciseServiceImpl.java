@@ -1,36 +1,61 @@
 package healthy.lifestyle.backend.activity.workout.service;
 
 import healthy.lifestyle.backend.activity.workout.dto.*;
+import healthy.lifestyle.backend.activity.workout.mapper.ExerciseMapper;
 import healthy.lifestyle.backend.activity.workout.model.BodyPart;
 import healthy.lifestyle.backend.activity.workout.model.Exercise;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
-import healthy.lifestyle.backend.activity.workout.repository.BodyPartRepository;
 import healthy.lifestyle.backend.activity.workout.repository.ExerciseRepository;
+import healthy.lifestyle.backend.activity.workout.repository.ExerciseSpecifications;
 import healthy.lifestyle.backend.activity.workout.repository.HttpRefRepository;
+import healthy.lifestyle.backend.activity.workout.repository.WorkoutRepository;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ApiExceptionCustomMessage;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.catalog.CatalogIndex;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
+import healthy.lifestyle.backend.shared.pagination.KeysetCursor;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
+import healthy.lifestyle.backend.shared.specification.FilterSpecifications;
+import healthy.lifestyle.backend.shared.specification.SpecificationIds;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserService;
 import java.util.*;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ExerciseServiceImpl implements ExerciseService {
+    private static final Map<String, Class<?>> CURSOR_SORT_FIELDS =
+            Map.of("title", String.class, KeysetCursor.ID, Long.class);
+
     @Autowired
     ExerciseRepository exerciseRepository;
 
     @Autowired
-    BodyPartRepository bodyPartRepository;
+    WorkoutRepository workoutRepository;
+
+    @Autowired
+    ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
+
+    @Autowired
+    SpecificationIds specificationIds;
+
+    @Autowired
+    UserListingCache userListingCache;
 
     @Autowired
     HttpRefRepository httpRefRepository;
@@ -39,11 +64,14 @@ public class ExerciseServiceImpl implements ExerciseService {
     UserService userService;
 
     @Autowired
-    ModelMapper modelMapper;
+    ExerciseMapper exerciseMapper;
 
     @Autowired
     VerificationUtil verificationUtil;
 
+    @Autowired
+    KeysetCursor keysetCursor;
+
     @Override
     @Transactional
     public ExerciseResponseDto createCustomExercise(ExerciseCreateRequestDto requestDto, long userId) {
@@ -67,8 +95,8 @@ public class ExerciseServiceImpl implements ExerciseService {
 
         if (requestDto.getBodyParts() != null && requestDto.getBodyParts().size() > 0)
             requestDto.getBodyParts().forEach(id -> {
-                BodyPart bodyPart = bodyPartRepository
-                        .findById(id)
+                BodyPart bodyPart = referenceDataRegistry
+                        .findBodyPartById(id)
                         .orElseThrow(
                                 () -> new ApiException(ErrorMessage.BODY_PART_NOT_FOUND, id, HttpStatus.NOT_FOUND));
                 exercise.getBodyParts().add(bodyPart);
@@ -87,25 +115,21 @@ public class ExerciseServiceImpl implements ExerciseService {
                 exercise.getHttpRefs().add(httpRef);
             });
 
+        exercise.refreshBodyPartsMask();
         Exercise exerciseSaved = exerciseRepository.save(exercise);
-        userService.addExerciseToUser(userId, exerciseSaved);
-        ExerciseResponseDto exerciseResponseDto = modelMapper.map(exerciseSaved, ExerciseResponseDto.class);
-
-        List<BodyPartResponseDto> bodyPartsSorted = exerciseResponseDto.getBodyParts().stream()
-                .sorted(Comparator.comparingLong(BodyPartResponseDto::getId))
-                .toList();
-        List<HttpRefResponseDto> httpRefsSorted = exerciseResponseDto.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                .toList();
-
-        exerciseResponseDto.setBodyParts(bodyPartsSorted);
-        exerciseResponseDto.setHttpRefs(httpRefsSorted);
+        userListingCache.bump(userId);
+        ExerciseResponseDto exerciseResponseDto = exerciseMapper.toResponseDto(exerciseSaved);
         return exerciseResponseDto;
     }
 
     @Override
     @Transactional
     public ExerciseResponseDto getExerciseById(long exerciseId, boolean requiredDefault, Long userId) {
+        if (requiredDefault) {
+            Optional<ExerciseResponseDto> defaultExercise = defaultCatalog.findExerciseById(exerciseId);
+            if (defaultExercise.isPresent()) return defaultExercise.get();
+        }
+
         Exercise exercise = exerciseRepository
                 .findById(exerciseId)
                 .orElseThrow(() -> new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, exerciseId, HttpStatus.NOT_FOUND));
@@ -118,24 +142,10 @@ public class ExerciseServiceImpl implements ExerciseService {
             throw new ApiException(
                     ErrorMessage.DEFAULT_RESOURCE_HAS_BEEN_REQUESTED_INSTEAD_OF_CUSTOM, null, HttpStatus.BAD_REQUEST);
 
-        if (userId != null) {
-            User user = userService.getUserById(userId);
-            if (exercise.isCustom()
-                    && (user.getExercises() == null || !user.getExercises().contains(exercise)))
-                throw new ApiException(ErrorMessage.USER_EXERCISE_MISMATCH, exerciseId, HttpStatus.BAD_REQUEST);
-        }
-
-        ExerciseResponseDto exerciseRespondDto = modelMapper.map(exercise, ExerciseResponseDto.class);
-
-        List<BodyPartResponseDto> bodyPartsSorted = exerciseRespondDto.getBodyParts().stream()
-                .sorted(Comparator.comparingLong(BodyPartResponseDto::getId))
-                .toList();
-        List<HttpRefResponseDto> httpRefsSorted = exerciseRespondDto.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                .toList();
+        if (userId != null && exercise.isCustom() && !userId.equals(exercise.getUser().getId()))
+            throw new ApiException(ErrorMessage.USER_EXERCISE_MISMATCH, exerciseId, HttpStatus.BAD_REQUEST);
 
-        exerciseRespondDto.setBodyParts(bodyPartsSorted);
-        exerciseRespondDto.setHttpRefs(httpRefsSorted);
+        ExerciseResponseDto exerciseRespondDto = exerciseMapper.toResponseDto(exercise);
         return exerciseRespondDto;
     }
 
@@ -156,34 +166,164 @@ public class ExerciseServiceImpl implements ExerciseService {
         Pageable pageable = PageRequest.of(
                 currentPageNumber, pageSize, Sort.by(Sort.Direction.fromString(sortDirection), sortField));
 
-        if (bodyPartsIds == null || bodyPartsIds.size() == 0) {
-            bodyPartsIds =
-                    bodyPartRepository.findAll().stream().map(BodyPart::getId).toList();
-        }
+        if ((isCustom == null && userId == null)
+                || (isCustom != null && !isCustom && userId != null)
+                || (isCustom != null && isCustom && userId == null))
+            throw new ApiExceptionCustomMessage("Invalid args combination", HttpStatus.BAD_REQUEST);
 
-        Page<Exercise> entitiesPage = null;
+        return userListingCache.get(
+                userId,
+                "exercises",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(title),
+                        UserListingCache.ignoreCase(description),
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds),
+                        pageable),
+                () -> findExercisesWithFilter(
+                        isCustom, userId, title, description, needsEquipment, bodyPartsIds, pageable));
+    }
 
-        // Default and custom
-        if (isCustom == null && userId != null) {
-            entitiesPage = exerciseRepository.findDefaultAndCustomWithFilter(
-                    userId, title, description, needsEquipment, bodyPartsIds, pageable);
-        }
-        // Default only
-        else if (isCustom != null && !isCustom && userId == null) {
-            entitiesPage = exerciseRepository.findDefaultOrCustomWithFilter(
-                    false, null, title, description, needsEquipment, bodyPartsIds, pageable);
+    private Page<ExerciseResponseDto> findExercisesWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            Pageable pageable) {
+        // Default exercises come from the catalog, custom exercises of the user are merged into them
+        if ((isCustom == null || !isCustom) && defaultCatalog.getExercises().sortsBy(pageable.getSort())) {
+            CatalogIndex<ExerciseResponseDto>.Filter defaultExercises =
+                    filterDefaultExercises(title, description, needsEquipment, bodyPartsIds);
+            if (isCustom != null) return defaultExercises.page(pageable);
+
+            // Only the custom exercises which can precede the end of the page are loaded, in the order of the catalog
+            Page<Long> customExerciseIds = specificationIds.findPage(
+                    Exercise.class,
+                    ExerciseSpecifications.withFilter(
+                                    true,
+                                    userId,
+                                    title,
+                                    description,
+                                    needsEquipment,
+                                    referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds))
+                            .and(FilterSpecifications.orderedLikeCatalog(pageable.getSort())),
+                    CatalogIndex.otherRowsWindow(pageable));
+            Map<Long, Exercise> exercisesById = getExercisesWithBodyPartsAndHttpRefs(customExerciseIds.getContent());
+            return defaultExercises.page(
+                    pageable, customExerciseIds.map(id -> exerciseMapper.toResponseDto(exercisesById.get(id))));
         }
-        // Custom only
-        else if (isCustom != null && isCustom && userId != null) {
-            entitiesPage = exerciseRepository.findDefaultOrCustomWithFilter(
-                    true, userId, title, description, needsEquipment, bodyPartsIds, pageable);
-        } else {
+
+        Page<Long> idsPage = specificationIds.findPage(
+                Exercise.class,
+                ExerciseSpecifications.withFilter(
+                        isCustom,
+                        userId,
+                        title,
+                        description,
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds)),
+                pageable);
+
+        Map<Long, Exercise> exercisesById = getExercisesWithBodyPartsAndHttpRefs(idsPage.getContent());
+        Page<ExerciseResponseDto> dtoPage = idsPage.map(id -> exerciseMapper.toResponseDto(exercisesById.get(id)));
+        return dtoPage;
+    }
+
+    @Override
+    @Transactional
+    public CursorPage<ExerciseResponseDto> scrollExercisesWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize) {
+        if ((isCustom == null && userId == null)
+                || (isCustom != null && !isCustom && userId != null)
+                || (isCustom != null && isCustom && userId == null))
             throw new ApiExceptionCustomMessage("Invalid args combination", HttpStatus.BAD_REQUEST);
+
+        keysetCursor.validatePageSize(pageSize);
+        Sort sort = keysetCursor.sort(sortField, sortDirection, CURSOR_SORT_FIELDS);
+        return userListingCache.get(
+                userId,
+                "exercisesScroll",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(title),
+                        UserListingCache.ignoreCase(description),
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds),
+                        sort,
+                        cursor,
+                        pageSize),
+                () -> scrollExercises(
+                        isCustom, userId, title, description, needsEquipment, bodyPartsIds, sort, cursor, pageSize));
+    }
+
+    private CursorPage<ExerciseResponseDto> scrollExercises(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            Sort sort,
+            String cursor,
+            int pageSize) {
+        if (isCustom != null && !isCustom) {
+            Window<ExerciseResponseDto> window = filterDefaultExercises(
+                            title, description, needsEquipment, bodyPartsIds)
+                    .scroll(sort, keysetCursor.decode(cursor, sort, CURSOR_SORT_FIELDS), pageSize);
+            return keysetCursor.toPage(window, window.getContent());
         }
 
-        Page<ExerciseResponseDto> dtoPage =
-                entitiesPage.map(entity -> modelMapper.map(entity, ExerciseResponseDto.class));
-        return dtoPage;
+        Window<Exercise> window = exerciseRepository.findBy(
+                ExerciseSpecifications.withFilter(
+                        isCustom,
+                        userId,
+                        title,
+                        description,
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds)),
+                query -> query.sortBy(sort)
+                        .limit(pageSize)
+                        .scroll(keysetCursor.decode(cursor, sort, CURSOR_SORT_FIELDS)));
+
+        Map<Long, Exercise> exercisesById = getExercisesWithBodyPartsAndHttpRefs(
+                window.stream().map(Exercise::getId).toList());
+        List<ExerciseResponseDto> content = window.stream()
+                .map(exercise -> exerciseMapper.toResponseDto(exercisesById.get(exercise.getId())))
+                .toList();
+        return keysetCursor.toPage(window, content);
+    }
+
+    private CatalogIndex<ExerciseResponseDto>.Filter filterDefaultExercises(
+            String title, String description, Boolean needsEquipment, List<Long> bodyPartsIds) {
+        return defaultCatalog
+                .getExercises()
+                .filter()
+                .containsIgnoreCase("title", title)
+                .containsIgnoreCase("description", description)
+                .equal("needsEquipment", needsEquipment)
+                .hasAnyBit("bodyPartsMask", referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds));
+    }
+
+    private Map<Long, Exercise> getExercisesWithBodyPartsAndHttpRefs(List<Long> ids) {
+        Map<Long, Exercise> exercisesById = new HashMap<>();
+        if (!ids.isEmpty()) {
+            exerciseRepository
+                    .findAllByIdWithBodyPartsAndHttpRefs(ids)
+                    .forEach(exercise -> exercisesById.put(exercise.getId(), exercise));
+        }
+        return exercisesById;
     }
 
     @Override
@@ -242,7 +382,10 @@ public class ExerciseServiceImpl implements ExerciseService {
         if (httpRefsAreDifferent) updateHttpRefs(requestDto, exercise, userId);
 
         Exercise savedExercise = exerciseRepository.save(exercise);
-        ExerciseResponseDto responseDto = mapExerciseToExerciseResponseDto(savedExercise);
+        if (requestDto.getNeedsEquipment() != null || bodyPartsAreDifferent)
+            workoutRepository.refreshSummaryByExerciseId(exerciseId);
+        userListingCache.bump(userId);
+        ExerciseResponseDto responseDto = exerciseMapper.toResponseDto(savedExercise);
         return responseDto;
     }
 
@@ -256,23 +399,18 @@ public class ExerciseServiceImpl implements ExerciseService {
         }
 
         for (long id : idsToAdd) {
-            BodyPart bodyPart = bodyPartRepository
-                    .findById(id)
+            BodyPart bodyPart = referenceDataRegistry
+                    .findBodyPartById(id)
                     .orElseThrow(() -> new ApiException(ErrorMessage.BODY_PART_NOT_FOUND, id, HttpStatus.NOT_FOUND));
             exercise.getBodyParts().add(bodyPart);
         }
 
-        for (long id : idsToRemove) {
-            BodyPart bodyPart = bodyPartRepository
-                    .findById(id)
-                    .orElseThrow(() -> new ApiException(ErrorMessage.BODY_PART_NOT_FOUND, id, HttpStatus.NOT_FOUND));
-            exercise.getBodyParts().remove(bodyPart);
-        }
+        exercise.getBodyParts().removeIf(bodyPart -> idsToRemove.contains(bodyPart.getId()));
+
+        exercise.refreshBodyPartsMask();
     }
 
     private void updateHttpRefs(ExerciseUpdateRequestDto requestDto, Exercise exercise, Long userId) {
-        User user = userService.getUserById(userId);
-
         if (requestDto.getHttpRefIds().isEmpty()) {
             exercise.getHttpRefs().clear();
             return;
@@ -291,12 +429,8 @@ public class ExerciseServiceImpl implements ExerciseService {
                     .findById(id)
                     .orElseThrow(() -> new ApiException(ErrorMessage.HTTP_REF_NOT_FOUND, id, HttpStatus.NOT_FOUND));
 
-            if (httpRef.isCustom()) {
-                boolean userHasCustomHttpRef =
-                        user.getHttpRefs() != null && user.getHttpRefs().contains(httpRef);
-                if (!userHasCustomHttpRef)
-                    throw new ApiException(ErrorMessage.USER_HTTP_REF_MISMATCH, id, HttpStatus.BAD_REQUEST);
-            }
+            if (httpRef.isCustom() && !userId.equals(httpRef.getUser().getId()))
+                throw new ApiException(ErrorMessage.USER_HTTP_REF_MISMATCH, id, HttpStatus.BAD_REQUEST);
 
             exercise.getHttpRefs().add(httpRef);
         }
@@ -309,28 +443,13 @@ public class ExerciseServiceImpl implements ExerciseService {
         }
     }
 
-    private ExerciseResponseDto mapExerciseToExerciseResponseDto(Exercise exercise) {
-        ExerciseResponseDto exerciseResponseDto = modelMapper.map(exercise, ExerciseResponseDto.class);
-
-        List<BodyPartResponseDto> exerciseBodyPartsSorted = exercise.getBodyPartsSortedById().stream()
-                .map(bodyPart -> modelMapper.map(bodyPart, BodyPartResponseDto.class))
-                .toList();
-        List<HttpRefResponseDto> exerciseHttpRefsSorted = exercise.getHttpRefsSortedById().stream()
-                .map(httpRef -> modelMapper.map(httpRef, HttpRefResponseDto.class))
-                .toList();
-
-        exerciseResponseDto.setBodyParts(exerciseBodyPartsSorted);
-        exerciseResponseDto.setHttpRefs(exerciseHttpRefsSorted);
-        return exerciseResponseDto;
-    }
-
     @Override
     @Transactional
     public void deleteCustomExercise(long exerciseId, long userId) {
         Exercise exercise = exerciseRepository
                 .findCustomByExerciseIdAndUserId(exerciseId, userId)
                 .orElseThrow(() -> new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, exerciseId, HttpStatus.NOT_FOUND));
-        userService.deleteExerciseFromUser(userId, exercise);
         exerciseRepository.delete(exercise);
+        userListingCache.bump(userId);
     }
 }
@@ -3,6 +3,7 @@ package healthy.lifestyle.backend.activity.workout.service;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefUpdateRequestDto;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 
 public interface HttpRefService {
@@ -20,6 +21,16 @@ public interface HttpRefService {
             int pageNumber,
             int pageSize);
 
+    CursorPage<HttpRefResponseDto> scrollHttpRefsWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String name,
+            String description,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize);
+
     HttpRefResponseDto updateCustomHttpRef(long userId, long httpRefId, HttpRefUpdateRequestDto updateHttpRefRequestDto)
             throws NoSuchFieldException, IllegalAccessException;
 
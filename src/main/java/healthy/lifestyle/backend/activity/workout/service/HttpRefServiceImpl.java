@@ -3,38 +3,48 @@ package healthy.lifestyle.backend.activity.workout.service;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefUpdateRequestDto;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapper;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
 import healthy.lifestyle.backend.activity.workout.model.HttpRefType;
 import healthy.lifestyle.backend.activity.workout.repository.HttpRefRepository;
-import healthy.lifestyle.backend.activity.workout.repository.HttpRefTypeRepository;
+import healthy.lifestyle.backend.activity.workout.repository.HttpRefSpecifications;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ApiExceptionCustomMessage;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
+import healthy.lifestyle.backend.shared.pagination.KeysetCursor;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserService;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class HttpRefServiceImpl implements HttpRefService {
+    private static final Map<String, Class<?>> CURSOR_SORT_FIELDS =
+            Map.of("name", String.class, KeysetCursor.ID, Long.class);
+
     @Autowired
     HttpRefRepository httpRefRepository;
 
     @Autowired
-    HttpRefTypeRepository httpRefTypeRepository;
+    ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
-    ModelMapper modelMapper;
+    HttpRefMapper httpRefMapper;
 
     @Autowired
     UserService userService;
@@ -42,6 +52,12 @@ public class HttpRefServiceImpl implements HttpRefService {
     @Autowired
     VerificationUtil verificationUtil;
 
+    @Autowired
+    KeysetCursor keysetCursor;
+
+    @Autowired
+    UserListingCache userListingCache;
+
     @Override
     @Transactional
     public HttpRefResponseDto createCustomHttpRef(long userId, HttpRefCreateRequestDto requestDto) {
@@ -54,8 +70,8 @@ public class HttpRefServiceImpl implements HttpRefService {
             throw new ApiException(ErrorMessage.TITLE_DUPLICATE, null, HttpStatus.BAD_REQUEST);
         }
 
-        HttpRefType httpRefType = httpRefTypeRepository
-                .findByName(requestDto.getHttpRefType())
+        HttpRefType httpRefType = referenceDataRegistry
+                .findHttpRefTypeByName(requestDto.getHttpRefType())
                 .orElseThrow(
                         () -> new ApiException(ErrorMessage.HTTP_REF_TYPE_NOT_FOUND, null, HttpStatus.BAD_REQUEST));
 
@@ -67,8 +83,9 @@ public class HttpRefServiceImpl implements HttpRefService {
                 .isCustom(true)
                 .user(user)
                 .build());
+        userListingCache.bump(userId);
 
-        HttpRefResponseDto responseDto = modelMapper.map(httpRefSaved, HttpRefResponseDto.class);
+        HttpRefResponseDto responseDto = httpRefMapper.toResponseDto(httpRefSaved);
         return responseDto;
     }
 
@@ -86,7 +103,7 @@ public class HttpRefServiceImpl implements HttpRefService {
         if (httpRef.getUser().getId() != userId)
             throw new ApiException(ErrorMessage.USER_HTTP_REF_MISMATCH, httpRefId, HttpStatus.BAD_REQUEST);
 
-        HttpRefResponseDto responseDto = modelMapper.map(httpRef, HttpRefResponseDto.class);
+        HttpRefResponseDto responseDto = httpRefMapper.toResponseDto(httpRef);
         return responseDto;
     }
 
@@ -101,20 +118,81 @@ public class HttpRefServiceImpl implements HttpRefService {
             String sortDirection,
             int pageNumber,
             int pageSize) {
+        validateFilterArgs(isCustom, userId);
         Pageable pageable =
                 PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.fromString(sortDirection), sortField));
 
+        return userListingCache.get(
+                userId,
+                "httpRefs",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(name),
+                        UserListingCache.ignoreCase(description),
+                        pageable),
+                () -> findHttpRefsWithFilter(isCustom, userId, name, description, pageable));
+    }
+
+    private Page<HttpRefResponseDto> findHttpRefsWithFilter(
+            Boolean isCustom, Long userId, String name, String description, Pageable pageable) {
         Page<HttpRef> httpRefPage = null;
         if (isCustom != null)
             httpRefPage =
                     httpRefRepository.findDefaultOrCustomWithFilter(isCustom, userId, name, description, pageable);
         else httpRefPage = httpRefRepository.findDefaultAndCustomWithFilter(userId, name, description, pageable);
 
-        Page<HttpRefResponseDto> httpRefResponseDtoPage =
-                httpRefPage.map(httpRef -> modelMapper.map(httpRef, HttpRefResponseDto.class));
+        Page<HttpRefResponseDto> httpRefResponseDtoPage = httpRefPage.map(httpRefMapper::toResponseDto);
         return httpRefResponseDtoPage;
     }
 
+    @Override
+    @Transactional
+    public CursorPage<HttpRefResponseDto> scrollHttpRefsWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String name,
+            String description,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize) {
+        validateFilterArgs(isCustom, userId);
+        keysetCursor.validatePageSize(pageSize);
+        Sort sort = keysetCursor.sort(sortField, sortDirection, CURSOR_SORT_FIELDS);
+        return userListingCache.get(
+                userId,
+                "httpRefsScroll",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(name),
+                        UserListingCache.ignoreCase(description),
+                        sort,
+                        cursor,
+                        pageSize),
+                () -> scrollHttpRefs(isCustom, userId, name, description, sort, cursor, pageSize));
+    }
+
+    /**
+     * Default http refs are listed without a user, custom ones need the user. No custom flag with a user lists both.
+     */
+    private void validateFilterArgs(Boolean isCustom, Long userId) {
+        if ((isCustom != null && !isCustom && userId != null) || (isCustom != null && isCustom && userId == null))
+            throw new ApiExceptionCustomMessage("Invalid args combination", HttpStatus.BAD_REQUEST);
+    }
+
+    private CursorPage<HttpRefResponseDto> scrollHttpRefs(
+            Boolean isCustom, Long userId, String name, String description, Sort sort, String cursor, int pageSize) {
+        Window<HttpRef> window = httpRefRepository.findBy(
+                HttpRefSpecifications.withFilter(isCustom, userId, name, description),
+                query -> query.sortBy(sort)
+                        .limit(pageSize)
+                        .scroll(keysetCursor.decode(cursor, sort, CURSOR_SORT_FIELDS)));
+
+        List<HttpRefResponseDto> content =
+                window.stream().map(httpRefMapper::toResponseDto).toList();
+        return keysetCursor.toPage(window, content);
+    }
+
     @Override
     @Transactional
     public HttpRefResponseDto updateCustomHttpRef(long userId, long httpRefId, HttpRefUpdateRequestDto requestDto)
@@ -162,14 +240,15 @@ public class HttpRefServiceImpl implements HttpRefService {
         }
 
         if (requestDto.getHttpRefType() != null) {
-            HttpRefType httpRefType = httpRefTypeRepository
-                    .findByName(requestDto.getHttpRefType())
+            HttpRefType httpRefType = referenceDataRegistry
+                    .findHttpRefTypeByName(requestDto.getHttpRefType())
                     .orElseThrow(
                             () -> new ApiException(ErrorMessage.HTTP_REF_TYPE_NOT_FOUND, null, HttpStatus.BAD_REQUEST));
             httpRef.setHttpRefType(httpRefType);
         }
 
-        HttpRefResponseDto responseDto = modelMapper.map(httpRefRepository.save(httpRef), HttpRefResponseDto.class);
+        HttpRefResponseDto responseDto = httpRefMapper.toResponseDto(httpRefRepository.save(httpRef));
+        userListingCache.bump(userId);
         return responseDto;
     }
 
@@ -187,5 +266,6 @@ public class HttpRefServiceImpl implements HttpRefService {
             throw new ApiException(ErrorMessage.USER_HTTP_REF_MISMATCH, httpRefId, HttpStatus.BAD_REQUEST);
 
         httpRefRepository.delete(httpRef);
+        userListingCache.bump(userId);
     }
 }
@@ -3,6 +3,7 @@ package healthy.lifestyle.backend.activity.workout.service;
 import healthy.lifestyle.backend.activity.workout.dto.WorkoutCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.WorkoutResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.WorkoutUpdateRequestDto;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
 import java.util.List;
 import org.springframework.data.domain.Page;
 
@@ -23,6 +24,18 @@ public interface WorkoutService {
             int currentPageNumber,
             int pageSize);
 
+    CursorPage<WorkoutResponseDto> scrollWorkoutsWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize);
+
     WorkoutResponseDto updateCustomWorkout(long userId, long workoutId, WorkoutUpdateRequestDto requestDto)
             throws NoSuchFieldException, IllegalAccessException;
 
@@ -1,49 +1,72 @@
 package healthy.lifestyle.backend.activity.workout.service;
 
 import healthy.lifestyle.backend.activity.workout.dto.*;
-import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.mapper.WorkoutMapper;
 import healthy.lifestyle.backend.activity.workout.model.Exercise;
 import healthy.lifestyle.backend.activity.workout.model.Workout;
-import healthy.lifestyle.backend.activity.workout.repository.BodyPartRepository;
 import healthy.lifestyle.backend.activity.workout.repository.ExerciseRepository;
 import healthy.lifestyle.backend.activity.workout.repository.WorkoutRepository;
+import healthy.lifestyle.backend.activity.workout.repository.WorkoutSpecifications;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ApiExceptionCustomMessage;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.catalog.CatalogIndex;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
+import healthy.lifestyle.backend.shared.pagination.KeysetCursor;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
+import healthy.lifestyle.backend.shared.specification.FilterSpecifications;
+import healthy.lifestyle.backend.shared.specification.SpecificationIds;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserService;
 import java.util.*;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class WorkoutServiceImpl implements WorkoutService {
+    private static final Map<String, Class<?>> CURSOR_SORT_FIELDS =
+            Map.of("title", String.class, KeysetCursor.ID, Long.class);
+
     @Autowired
     WorkoutRepository workoutRepository;
 
     @Autowired
     ExerciseRepository exerciseRepository;
 
-    @Autowired
-    BodyPartRepository bodyPartRepository;
-
     @Autowired
     UserService userService;
 
     @Autowired
-    ModelMapper modelMapper;
+    WorkoutMapper workoutMapper;
 
     @Autowired
     VerificationUtil verificationUtil;
 
+    @Autowired
+    KeysetCursor keysetCursor;
+
+    @Autowired
+    ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
+
+    @Autowired
+    SpecificationIds specificationIds;
+
+    @Autowired
+    UserListingCache userListingCache;
+
     @Override
     @Transactional
     public WorkoutResponseDto createCustomWorkout(long userId, WorkoutCreateRequestDto requestDto) {
@@ -55,69 +78,33 @@ public class WorkoutServiceImpl implements WorkoutService {
         }
 
         User user = userService.getUserById(userId);
-        Set<Exercise> exerciseSet = new HashSet<>();
-        Set<BodyPart> workoutBodyParts = new HashSet<>();
-        boolean workoutNeedsEquipment = false;
-
-        for (long exerciseId : requestDto.getExerciseIds()) {
-            Exercise exercise = exerciseRepository
-                    .findById(exerciseId)
-                    .orElseThrow(
-                            () -> new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, exerciseId, HttpStatus.NOT_FOUND));
-
-            if (exercise.isCustom() && !exercise.getUser().equals(user))
-                throw new ApiException(ErrorMessage.USER_EXERCISE_MISMATCH, exerciseId, HttpStatus.BAD_REQUEST);
-
-            exerciseSet.add(exercise);
-            workoutBodyParts.addAll(exercise.getBodyParts());
-            if (exercise.isNeedsEquipment()) workoutNeedsEquipment = true;
-        }
+        List<Exercise> exercises = getExercisesAvailableToUser(userId, requestDto.getExerciseIds());
 
         Workout workout = Workout.builder()
                 .isCustom(true)
                 .user(user)
                 .title(requestDto.getTitle())
                 .description(requestDto.getDescription())
-                .exercises(exerciseSet)
+                .exercises(new HashSet<>(exercises))
                 .build();
+        workout.refreshSummary();
         Workout savedWorkout = workoutRepository.save(workout);
-        userService.addWorkoutToUser(user, savedWorkout);
-
-        WorkoutResponseDto workoutResponseDto = modelMapper.map(savedWorkout, WorkoutResponseDto.class);
-
-        List<BodyPartResponseDto> workoutBodyPartResponseDtoList = workoutBodyParts.stream()
-                .sorted(Comparator.comparingLong(BodyPart::getId))
-                .map(bodyPart -> modelMapper.map(bodyPart, BodyPartResponseDto.class))
-                .toList();
-
-        workoutResponseDto.setBodyParts(workoutBodyPartResponseDtoList);
-        workoutResponseDto.setNeedsEquipment(workoutNeedsEquipment);
+        userListingCache.bump(userId);
 
-        List<ExerciseResponseDto> exerciseResponseDtoList = savedWorkout.getExercisesSortedById().stream()
-                .map(exercise -> modelMapper.map(exercise, ExerciseResponseDto.class))
-                .peek(elt -> {
-                    List<BodyPartResponseDto> bodyPartsSorted = elt.getBodyParts().stream()
-                            .sorted(Comparator.comparingLong(BodyPartResponseDto::getId))
-                            .toList();
-
-                    List<HttpRefResponseDto> httpRefsSorted = elt.getHttpRefs().stream()
-                            .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                            .toList();
-
-                    elt.setBodyParts(bodyPartsSorted);
-                    elt.setHttpRefs(httpRefsSorted);
-                })
-                .toList();
-
-        workoutResponseDto.setExercises(exerciseResponseDtoList);
+        WorkoutResponseDto workoutResponseDto = workoutMapper.toResponseDto(savedWorkout);
         return workoutResponseDto;
     }
 
     @Override
     @Transactional
     public WorkoutResponseDto getWorkoutById(long workoutId, boolean customRequired) {
+        if (!customRequired) {
+            Optional<WorkoutResponseDto> defaultWorkout = defaultCatalog.findWorkoutById(workoutId);
+            if (defaultWorkout.isPresent()) return defaultWorkout.get();
+        }
+
         Workout workout = workoutRepository
-                .findById(workoutId)
+                .findWithExercisesById(workoutId)
                 .orElseThrow(() -> new ApiException(ErrorMessage.WORKOUT_NOT_FOUND, workoutId, HttpStatus.NOT_FOUND));
 
         if (workout.isCustom() && !customRequired)
@@ -128,29 +115,11 @@ public class WorkoutServiceImpl implements WorkoutService {
             throw new ApiException(
                     ErrorMessage.DEFAULT_RESOURCE_HAS_BEEN_REQUESTED_INSTEAD_OF_CUSTOM, null, HttpStatus.BAD_REQUEST);
 
-        WorkoutResponseDto workoutDto = modelMapper.map(workout, WorkoutResponseDto.class);
-
-        List<ExerciseResponseDto> exercisesSorted = workoutDto.getExercises().stream()
-                .sorted(Comparator.comparingLong(ExerciseResponseDto::getId))
-                .toList();
-
-        workoutDto.setExercises(exercisesSorted);
-
-        Set<BodyPartResponseDto> workoutBodyParts = new HashSet<>();
-        boolean workoutNeedsEquipment = false;
+        // Initializes body parts and http refs of the already loaded exercises with one more query
+        if (!workout.getExercises().isEmpty())
+            exerciseRepository.findAllByIdWithBodyPartsAndHttpRefs(workout.getSortedExercisesIds());
 
-        for (ExerciseResponseDto exercise : exercisesSorted) {
-            for (BodyPartResponseDto bodyPart : exercise.getBodyParts()) {
-                workoutBodyParts.add(bodyPart);
-                if (exercise.isNeedsEquipment()) workoutNeedsEquipment = true;
-            }
-        }
-
-        workoutDto.setBodyParts(workoutBodyParts.stream()
-                .sorted(Comparator.comparingLong(BodyPartResponseDto::getId))
-                .toList());
-
-        workoutDto.setNeedsEquipment(workoutNeedsEquipment);
+        WorkoutResponseDto workoutDto = workoutMapper.toResponseDto(workout);
         return workoutDto;
     }
 
@@ -171,59 +140,168 @@ public class WorkoutServiceImpl implements WorkoutService {
         Pageable pageable = PageRequest.of(
                 currentPageNumber, pageSize, Sort.by(Sort.Direction.fromString(sortDirection), sortField));
 
-        if (bodyPartsIds == null || bodyPartsIds.size() == 0) {
-            bodyPartsIds =
-                    bodyPartRepository.findAll().stream().map(BodyPart::getId).toList();
-        }
+        if ((isCustom == null && userId == null)
+                || (isCustom != null && !isCustom && userId != null)
+                || (isCustom != null && isCustom && userId == null))
+            throw new ApiExceptionCustomMessage("Invalid args combination", HttpStatus.BAD_REQUEST);
 
-        Page<Workout> entitiesPage = null;
+        return userListingCache.get(
+                userId,
+                "workouts",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(title),
+                        UserListingCache.ignoreCase(description),
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds),
+                        pageable),
+                () -> findWorkoutsWithFilter(
+                        isCustom, userId, title, description, needsEquipment, bodyPartsIds, pageable));
+    }
 
-        // Default and custom, with equipment filter
-        if (isCustom == null && userId != null && needsEquipment != null) {
-            entitiesPage = workoutRepository.findDefaultAndCustomNeedsEquipmentWithFilter(
-                    userId, title, description, needsEquipment, bodyPartsIds, pageable);
-        }
-        // Default and custom, without equipment filter
-        else if (isCustom == null && userId != null && needsEquipment == null) {
-            entitiesPage = workoutRepository.findDefaultAndCustomWithFilter(
-                    userId, title, description, bodyPartsIds, pageable);
-        }
-        // Default only, with equipment filter
-        else if (isCustom != null && !isCustom && userId == null && needsEquipment != null) {
-            entitiesPage = workoutRepository.findDefaultOrCustomNeedsEquipmentWithFilter(
-                    false, null, title, description, needsEquipment, bodyPartsIds, pageable);
-        }
-        // Default only, without equipment filter
-        else if (isCustom != null && !isCustom && userId == null && needsEquipment == null) {
-            entitiesPage = workoutRepository.findDefaultOrCustomWithFilter(
-                    false, null, title, description, bodyPartsIds, pageable);
-        }
-        // Custom only, with equipment filter
-        else if (isCustom != null && isCustom && userId != null && needsEquipment != null) {
-            entitiesPage = workoutRepository.findDefaultOrCustomNeedsEquipmentWithFilter(
-                    true, userId, title, description, needsEquipment, bodyPartsIds, pageable);
+    private Page<WorkoutResponseDto> findWorkoutsWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            Pageable pageable) {
+        // Default workouts come from the catalog, custom workouts of the user are merged into them
+        if ((isCustom == null || !isCustom) && defaultCatalog.getWorkouts().sortsBy(pageable.getSort())) {
+            CatalogIndex<WorkoutResponseDto>.Filter defaultWorkouts =
+                    filterDefaultWorkouts(title, description, needsEquipment, bodyPartsIds);
+            if (isCustom != null) return defaultWorkouts.page(pageable);
+
+            // Only the custom workouts which can precede the end of the page are loaded, in the order of the catalog
+            Page<Long> customWorkoutIds = specificationIds.findPage(
+                    Workout.class,
+                    WorkoutSpecifications.withFilter(
+                                    true,
+                                    userId,
+                                    title,
+                                    description,
+                                    needsEquipment,
+                                    referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds))
+                            .and(FilterSpecifications.orderedLikeCatalog(pageable.getSort())),
+                    CatalogIndex.otherRowsWindow(pageable));
+            Map<Long, Workout> workoutsById = getWorkoutsWithExercises(customWorkoutIds.getContent());
+            return defaultWorkouts.page(
+                    pageable, customWorkoutIds.map(id -> workoutMapper.toResponseDto(workoutsById.get(id))));
         }
-        // Custom only, without equipment filter
-        else if (isCustom != null && isCustom && userId != null && needsEquipment == null) {
-            entitiesPage = workoutRepository.findDefaultOrCustomWithFilter(
-                    true, userId, title, description, bodyPartsIds, pageable);
-        } else {
+
+        Page<Long> idsPage = specificationIds.findPage(
+                Workout.class,
+                WorkoutSpecifications.withFilter(
+                        isCustom,
+                        userId,
+                        title,
+                        description,
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds)),
+                pageable);
+
+        Map<Long, Workout> workoutsById = getWorkoutsWithExercises(idsPage.getContent());
+        Page<WorkoutResponseDto> dtoPage = idsPage.map(id -> workoutMapper.toResponseDto(workoutsById.get(id)));
+        return dtoPage;
+    }
+
+    @Override
+    @Transactional
+    public CursorPage<WorkoutResponseDto> scrollWorkoutsWithFilter(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            String sortField,
+            String sortDirection,
+            String cursor,
+            int pageSize) {
+        if ((isCustom == null && userId == null)
+                || (isCustom != null && !isCustom && userId != null)
+                || (isCustom != null && isCustom && userId == null))
             throw new ApiExceptionCustomMessage("Invalid args combination", HttpStatus.BAD_REQUEST);
+
+        keysetCursor.validatePageSize(pageSize);
+        Sort sort = keysetCursor.sort(sortField, sortDirection, CURSOR_SORT_FIELDS);
+        return userListingCache.get(
+                userId,
+                "workoutsScroll",
+                Arrays.asList(
+                        isCustom,
+                        UserListingCache.ignoreCase(title),
+                        UserListingCache.ignoreCase(description),
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds),
+                        sort,
+                        cursor,
+                        pageSize),
+                () -> scrollWorkouts(
+                        isCustom, userId, title, description, needsEquipment, bodyPartsIds, sort, cursor, pageSize));
+    }
+
+    private CursorPage<WorkoutResponseDto> scrollWorkouts(
+            Boolean isCustom,
+            Long userId,
+            String title,
+            String description,
+            Boolean needsEquipment,
+            List<Long> bodyPartsIds,
+            Sort sort,
+            String cursor,
+            int pageSize) {
+        if (isCustom != null && !isCustom) {
+            Window<WorkoutResponseDto> window = filterDefaultWorkouts(title, description, needsEquipment, bodyPartsIds)
+                    .scroll(sort, keysetCursor.decode(cursor, sort, CURSOR_SORT_FIELDS), pageSize);
+            return keysetCursor.toPage(window, window.getContent());
         }
 
-        Page<WorkoutResponseDto> dtoPage = entitiesPage.map(entity -> {
-            WorkoutResponseDto workoutResponseDto = modelMapper.map(entity, WorkoutResponseDto.class);
-            boolean workoutNeedsEquipment = false;
-            for (Exercise exercise : entity.getExercises()) {
-                if (exercise.isNeedsEquipment()) {
-                    workoutNeedsEquipment = true;
-                    break;
-                }
+        Window<Workout> window = workoutRepository.findBy(
+                WorkoutSpecifications.withFilter(
+                        isCustom,
+                        userId,
+                        title,
+                        description,
+                        needsEquipment,
+                        referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds)),
+                query -> query.sortBy(sort)
+                        .limit(pageSize)
+                        .scroll(keysetCursor.decode(cursor, sort, CURSOR_SORT_FIELDS)));
+
+        Map<Long, Workout> workoutsById =
+                getWorkoutsWithExercises(window.stream().map(Workout::getId).toList());
+        List<WorkoutResponseDto> content = window.stream()
+                .map(workout -> workoutMapper.toResponseDto(workoutsById.get(workout.getId())))
+                .toList();
+        return keysetCursor.toPage(window, content);
+    }
+
+    private CatalogIndex<WorkoutResponseDto>.Filter filterDefaultWorkouts(
+            String title, String description, Boolean needsEquipment, List<Long> bodyPartsIds) {
+        return defaultCatalog
+                .getWorkouts()
+                .filter()
+                .containsIgnoreCase("title", title)
+                .containsIgnoreCase("description", description)
+                .equal("needsEquipment", needsEquipment)
+                .hasAnyBit("bodyPartsMask", referenceDataRegistry.getBodyPartsFilterMask(bodyPartsIds));
+    }
+
+    private Map<Long, Workout> getWorkoutsWithExercises(List<Long> ids) {
+        Map<Long, Workout> workoutsById = new HashMap<>();
+        if (!ids.isEmpty()) {
+            List<Workout> workouts = workoutRepository.findAllByIdWithExercises(ids);
+            Set<Long> exerciseIds = new HashSet<>();
+            for (Workout workout : workouts) {
+                workoutsById.put(workout.getId(), workout);
+                workout.getExercises().forEach(exercise -> exerciseIds.add(exercise.getId()));
             }
-            workoutResponseDto.setNeedsEquipment(workoutNeedsEquipment);
-            return workoutResponseDto;
-        });
-        return dtoPage;
+            // Initializes body parts and http refs of all exercises on the page with one query
+            if (!exerciseIds.isEmpty()) exerciseRepository.findAllByIdWithBodyPartsAndHttpRefs(exerciseIds);
+        }
+        return workoutsById;
     }
 
     @Override
@@ -274,10 +352,12 @@ public class WorkoutServiceImpl implements WorkoutService {
 
         if (exercisesAreDifferent) {
             updateExercises(workout, requestDto.getExerciseIds());
+            workout.refreshSummary();
         }
 
         Workout savedWorkout = workoutRepository.save(workout);
-        WorkoutResponseDto workoutResponseDto = mapWorkoutToWorkoutResponseDto(savedWorkout);
+        userListingCache.bump(userId);
+        WorkoutResponseDto workoutResponseDto = workoutMapper.toResponseDto(savedWorkout);
         return workoutResponseDto;
     }
 
@@ -296,60 +376,62 @@ public class WorkoutServiceImpl implements WorkoutService {
             }
         }
 
-        for (long id : idsToAdd) {
-            Exercise exercise = exerciseRepository
-                    .findById(id)
-                    .orElseThrow(() -> new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, id, HttpStatus.NOT_FOUND));
-
-            if (exercise.isCustom() && !workout.getUser().equals(exercise.getUser())) {
-                throw new ApiException(ErrorMessage.USER_EXERCISE_MISMATCH, id, HttpStatus.BAD_REQUEST);
-            }
-            workout.getExercises().add(exercise);
+        if (!idsToRemove.isEmpty()) {
+            Set<Long> existingIds = exerciseRepository.findExistingIds(idsToRemove);
+            idsToRemove.stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .min(Long::compare)
+                    .ifPresent(id -> {
+                        throw new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, id, HttpStatus.NOT_FOUND);
+                    });
         }
 
-        for (long id : idsToRemove) {
-            Exercise exercise = exerciseRepository
-                    .findById(id)
-                    .orElseThrow(() -> new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, id, HttpStatus.NOT_FOUND));
-            workout.getExercises().remove(exercise);
+        if (!idsToAdd.isEmpty()) {
+            workout.getExercises()
+                    .addAll(getExercisesAvailableToUser(workout.getUser().getId(), idsToAdd));
         }
+
+        workout.getExercises().removeIf(exercise -> idsToRemove.contains(exercise.getId()));
     }
 
-    private WorkoutResponseDto mapWorkoutToWorkoutResponseDto(Workout workout) {
-        boolean workoutNeedsEquipment = false;
-        for (Exercise exercise : workout.getExercises()) {
-            if (exercise.isNeedsEquipment()) {
-                workoutNeedsEquipment = true;
-                break;
-            }
+    /**
+     * Loads the exercises with their body parts and http refs in one query. All ids that don't exist or
+     * belong to another user are reported in a single error.
+     */
+    private List<Exercise> getExercisesAvailableToUser(long userId, Collection<Long> exerciseIds) {
+        Set<Long> requestedIds = new LinkedHashSet<>(exerciseIds);
+        if (requestedIds.isEmpty()) return new ArrayList<>();
+        List<Exercise> exercises = exerciseRepository.findAllByIdWithBodyPartsAndHttpRefs(requestedIds);
+
+        Set<Long> foundIds = new HashSet<>();
+        List<Long> mismatchedIds = new ArrayList<>();
+        for (Exercise exercise : exercises) {
+            foundIds.add(exercise.getId());
+            if (exercise.isCustom() && exercise.getUser().getId() != userId) mismatchedIds.add(exercise.getId());
         }
+        List<Long> notFoundIds =
+                requestedIds.stream().filter(id -> !foundIds.contains(id)).toList();
 
-        WorkoutResponseDto workoutResponseDto = modelMapper.map(workout, WorkoutResponseDto.class);
+        if (notFoundIds.isEmpty() && mismatchedIds.isEmpty()) return exercises;
 
-        List<BodyPartResponseDto> workoutBodyPartResponseDtoList = workout.getDistinctBodyPartsSortedById().stream()
-                .map(bodyPart -> modelMapper.map(bodyPart, BodyPartResponseDto.class))
-                .toList();
-        workoutResponseDto.setBodyParts(workoutBodyPartResponseDtoList);
-        workoutResponseDto.setNeedsEquipment(workoutNeedsEquipment);
-
-        List<ExerciseResponseDto> exerciseResponseDtoList = workout.getExercisesSortedById().stream()
-                .map(exercise -> modelMapper.map(exercise, ExerciseResponseDto.class))
-                .peek(elt -> {
-                    List<BodyPartResponseDto> bodyPartsSorted = elt.getBodyParts().stream()
-                            .sorted(Comparator.comparingLong(BodyPartResponseDto::getId))
-                            .toList();
-
-                    List<HttpRefResponseDto> httpRefsSorted = elt.getHttpRefs().stream()
-                            .sorted(Comparator.comparingLong(HttpRefResponseDto::getId))
-                            .toList();
-
-                    elt.setBodyParts(bodyPartsSorted);
-                    elt.setHttpRefs(httpRefsSorted);
-                })
-                .toList();
+        if (notFoundIds.size() == 1 && mismatchedIds.isEmpty())
+            throw new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, notFoundIds.get(0), HttpStatus.NOT_FOUND);
 
-        workoutResponseDto.setExercises(exerciseResponseDtoList);
-        return workoutResponseDto;
+        if (notFoundIds.isEmpty() && mismatchedIds.size() == 1)
+            throw new ApiException(ErrorMessage.USER_EXERCISE_MISMATCH, mismatchedIds.get(0), HttpStatus.BAD_REQUEST);
+
+        List<String> messages = new ArrayList<>();
+        if (!notFoundIds.isEmpty())
+            messages.add(String.format(ErrorMessage.EXERCISES_NOT_FOUND.getName(), joinIds(notFoundIds)));
+        if (!mismatchedIds.isEmpty())
+            messages.add(String.format(ErrorMessage.USER_EXERCISES_MISMATCH.getName(), joinIds(mismatchedIds)));
+
+        throw new ApiExceptionCustomMessage(
+                String.join("; ", messages), notFoundIds.isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.NOT_FOUND);
+    }
+
+    private String joinIds(List<Long> ids) {
+        return String.join(", ", ids.stream().sorted().map(String::valueOf).toList());
     }
 
     @Override
@@ -363,8 +445,7 @@ public class WorkoutServiceImpl implements WorkoutService {
                     ErrorMessage.DEFAULT_RESOURCE_HAS_BEEN_REQUESTED_INSTEAD_OF_CUSTOM, null, HttpStatus.BAD_REQUEST);
         if (userId != workout.getUser().getId())
             throw new ApiException(ErrorMessage.USER_WORKOUT_MISMATCH, workoutId, HttpStatus.BAD_REQUEST);
-        User user = userService.getUserById(userId);
-        userService.deleteWorkoutFromUser(user, workout);
         workoutRepository.delete(workout);
+        userListingCache.bump(userId);
     }
 }
@@ -14,7 +14,7 @@ public interface UserAdminRepository extends JpaRepository<User, Long> {
             + "(:email IS NULL OR u.email = :email) AND "
             + "(:fullName IS NULL OR u.fullName = :fullName) AND "
             + "(:country IS NULL OR u.country = :country) AND "
-            + "(:age IS NULL OR u.age = :age)")
+            + "(:age IS NULL OR u.age = :age) ORDER BY u.id")
     List<User> findWithFilter(
             @Param("role") Role role,
             @Param("username") String username,
@@ -1,16 +1,14 @@
 package healthy.lifestyle.backend.admin.user.service;
 
 import healthy.lifestyle.backend.admin.user.repository.UserAdminRepository;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.user.dto.UserResponseDto;
+import healthy.lifestyle.backend.user.mapper.UserMapper;
 import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.User;
-import healthy.lifestyle.backend.user.repository.CountryRepository;
-import healthy.lifestyle.backend.user.repository.RoleRepository;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -20,26 +18,21 @@ public class UserAdminServiceImpl implements UserAdminService {
     UserAdminRepository userAdminRepository;
 
     @Autowired
-    RoleRepository roleRepository;
+    ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
-    CountryRepository countryRepository;
-
-    @Autowired
-    ModelMapper modelMapper;
+    UserMapper userMapper;
 
     @Override
     public List<UserResponseDto> getUsersWithFilter(
             Long roleId, String username, String email, String fullName, Long countryId, Integer age) {
 
-        Optional<Role> role = roleId != null ? roleRepository.findById(roleId) : Optional.empty();
-        Optional<Country> country = countryId != null ? countryRepository.findById(countryId) : Optional.empty();
+        Optional<Role> role = roleId != null ? referenceDataRegistry.findRoleById(roleId) : Optional.empty();
+        Optional<Country> country =
+                countryId != null ? referenceDataRegistry.findCountryById(countryId) : Optional.empty();
         List<User> users = userAdminRepository.findWithFilter(
                 role.orElse(null), username, email, fullName, country.orElse(null), age);
 
-        return users.stream()
-                .map(user -> modelMapper.map(user, UserResponseDto.class))
-                .sorted(Comparator.comparing(UserResponseDto::getId))
-                .toList();
+        return users.stream().map(userMapper::toResponseDto).toList();
     }
 }
@@ -11,7 +11,7 @@ public interface ExerciseAdminRepository extends JpaRepository<Exercise, Long> {
     @Query("SELECT e FROM Exercise e WHERE (:title is NULL OR e.title LIKE %:title%) AND "
             + "(:description is NULL OR e.description LIKE %:description%) AND "
             + "(:isCustom is NULL OR e.isCustom = :isCustom) AND "
-            + "(:needsEquipment is NULL OR e.needsEquipment = :needsEquipment)")
+            + "(:needsEquipment is NULL OR e.needsEquipment = :needsEquipment) ORDER BY e.id")
     Optional<List<Exercise>> findWithFilter(
             @Param("title") String title,
             @Param("description") String description,
@@ -0,0 +1,47 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import healthy.lifestyle.backend.calendar.dto.ActivityDayDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityRowDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityWeekDto;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Renders activities into the day and week views of the calendar, activities of a day are sorted by time.
+ */
+final class ActivityViews {
+    static final Comparator<ActivityRowDto> BY_TIME =
+            Comparator.comparingInt(ActivityRowDto::getHours).thenComparingInt(ActivityRowDto::getMinutes);
+
+    private ActivityViews() {}
+
+    static Map<LocalDate, List<ActivityRowDto>> byDate(List<PlanActivity> activities) {
+        Map<LocalDate, List<ActivityRowDto>> rows = new HashMap<>();
+        for (PlanActivity activity : activities)
+            rows.computeIfAbsent(activity.date(), date -> new ArrayList<>()).add(activity.row());
+        rows.values().forEach(dayRows -> dayRows.sort(BY_TIME));
+        return rows;
+    }
+
+    static ActivityDayDto day(LocalDate date, Map<LocalDate, List<ActivityRowDto>> rows) {
+        return ActivityDayDto.builder()
+                .dayDate(date)
+                .dayOfWeek(date.getDayOfWeek())
+                .activities(rows.getOrDefault(date, List.of()))
+                .build();
+    }
+
+    static ActivityWeekDto week(LocalDate weekStartDate, Map<LocalDate, List<ActivityRowDto>> rows) {
+        return ActivityWeekDto.builder()
+                .weekStartDate(weekStartDate)
+                .weekEndDate(weekStartDate.plusDays(6))
+                .monday(day(weekStartDate, rows))
+                .tuesday(day(weekStartDate.plusDays(1), rows))
+                .wednesday(day(weekStartDate.plusDays(2), rows))
+                .thursday(day(weekStartDate.plusDays(3), rows))
+                .friday(day(weekStartDate.plusDays(4), rows))
+                .saturday(day(weekStartDate.plusDays(5), rows))
+                .sunday(day(weekStartDate.plusDays(6), rows))
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import healthy.lifestyle.backend.calendar.dto.ActivityDayDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityWeekDto;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Day and week views of the calendar per user, e.g. "today" and "this week", keyed by the user's zone and the first
+ * local date of the view. A view expires at the local midnight that ends it, so "today" rolls over to a new entry at
+ * the user's midnight and a change of the user's timezone makes new entries.
+ * <p>
+ * Views live in this instance only and are patched by the writes it handles. With several instances, plans and
+ * completions written through another instance show up once the view expires, at the latest
+ * {@link CalendarCacheProps#expireAfterWriteSeconds} after it was loaded.
+ * <p>
+ * New plans, deactivated plans and completions patch the views of the user once their transaction commits, rather
+ * than dropping them. A view loaded while a patch is applied isn't stored, since it may predate the commit; patches
+ * are idempotent, so a view loaded after the commit may be patched again.
+ * <p>
+ * Bounded by the number of users, see {@link CalendarCacheProps}. Hit and miss counts of views are exported as the
+ * calendar.cache.views metric.
+ */
+@Component
+public class CalendarCache {
+    static final int MAX_VIEWS_PER_USER = 16;
+
+    private final boolean enabled;
+
+    private final Duration expireAfterWrite;
+
+    private final Cache<Long, UserViews> cache;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    @Autowired
+    Clock clock;
+
+    @Autowired
+    DateTimeService dateTimeService;
+
+    private enum Kind {
+        DAY,
+        WEEK
+    }
+
+    private record Key(ZoneId zone, Kind kind, LocalDate startDate) {}
+
+    /**
+     * Activities from the start date of the key to the end date inclusive and the view rendered from them.
+     */
+    private record View(Key key, LocalDate endDate, Instant expiresAt, List<PlanActivity> activities, Object dto) {}
+
+    /**
+     * Guarded by itself. The version changes with every patch.
+     */
+    private static final class UserViews {
+        final Map<Key, View> views = new HashMap<>();
+
+        long version;
+    }
+
+    @Autowired
+    public CalendarCache(CalendarCacheProps calendarCacheProps, MeterRegistry meterRegistry) {
+        this.enabled = calendarCacheProps.enabled();
+        this.expireAfterWrite = Duration.ofSeconds(calendarCacheProps.expireAfterWriteSeconds());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(calendarCacheProps.maximumUsers())
+                .expireAfterAccess(Duration.ofSeconds(calendarCacheProps.expireAfterAccessSeconds()))
+                .build();
+        this.hits = meterRegistry.counter("calendar.cache.views", "result", "hit");
+        this.misses = meterRegistry.counter("calendar.cache.views", "result", "miss");
+    }
+
+    ActivityDayDto getDay(long userId, ZoneId userZone, LocalDate date, Supplier<List<PlanActivity>> loader) {
+        return (ActivityDayDto) get(userId, new Key(userZone, Kind.DAY, date), date, loader);
+    }
+
+    ActivityWeekDto getWeek(
+            long userId, ZoneId userZone, LocalDate weekStartDate, Supplier<List<PlanActivity>> loader) {
+        return (ActivityWeekDto)
+                get(userId, new Key(userZone, Kind.WEEK, weekStartDate), weekStartDate.plusDays(6), loader);
+    }
+
+    /**
+     * Adds the occurrences of a new plan to the views of its user. The occurrences are read right away, the
+     * transaction that wrote them may be the one that loaded their workout.
+     */
+    public void addWorkoutPlan(long userId, List<WorkoutPlanOccurrence> occurrences) {
+        ZoneId databaseZone = dateTimeService.getDatabaseZoneId();
+        List<PlanSchedule> schedules = occurrences.stream()
+                .map(occurrence -> PlanSchedule.of(occurrence, databaseZone))
+                .toList();
+        Set<Long> workoutPlanIds =
+                schedules.stream().map(PlanSchedule::workoutPlanId).collect(Collectors.toSet());
+        afterCommit(() -> patch(userId, view -> {
+            ZoneId zone = view.key().zone();
+            Instant from = view.key().startDate().atStartOfDay(zone).toInstant();
+            Instant to = view.endDate().plusDays(1).atStartOfDay(zone).toInstant();
+            List<PlanActivity> activities = new ArrayList<>();
+            for (PlanActivity activity : view.activities())
+                if (!workoutPlanIds.contains(activity.workoutPlanId())) activities.add(activity);
+            for (PlanSchedule schedule : schedules) activities.addAll(schedule.expand(zone, from, to, Set.of()));
+            return activities;
+        }));
+    }
+
+    public void removeWorkoutPlan(long userId, long workoutPlanId) {
+        afterCommit(() -> patch(userId, view -> view.activities().stream()
+                .filter(activity -> activity.workoutPlanId() != workoutPlanId)
+                .toList()));
+    }
+
+    /**
+     * @param userDate the date of the completed occurrence in user's zone
+     */
+    public void setCompleted(long userId, long workoutPlanId, Long jsonId, LocalDate userDate) {
+        PlanDayCompletion completion = new PlanDayCompletion(workoutPlanId, jsonId, userDate);
+        afterCommit(() -> patch(userId, view -> view.activities().stream()
+                .map(activity -> activity.isOf(completion) ? activity.completed() : activity)
+                .toList()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Object get(long userId, Key key, LocalDate endDate, Supplier<List<PlanActivity>> loader) {
+        if (!enabled) return render(key, loader.get());
+
+        Instant now = clock.instant();
+        UserViews userViews = cache.get(userId, id -> new UserViews());
+        long version;
+        synchronized (userViews) {
+            View view = userViews.views.get(key);
+            if (view != null && now.isBefore(view.expiresAt())) {
+                hits.increment();
+                return view.dto();
+            }
+            version = userViews.version;
+        }
+
+        misses.increment();
+        List<PlanActivity> activities = loader.get();
+        Instant endsAt = endDate.plusDays(1).atStartOfDay(key.zone()).toInstant();
+        Instant expiresAt = Collections.min(List.of(endsAt, now.plus(expireAfterWrite)));
+        View view = new View(key, endDate, expiresAt, activities, render(key, activities));
+        synchronized (userViews) {
+            if (userViews.version == version) {
+                userViews.views.values().removeIf(stored -> !now.isBefore(stored.expiresAt()));
+                if (userViews.views.size() >= MAX_VIEWS_PER_USER) userViews.views.clear();
+                userViews.views.put(key, view);
+            }
+        }
+        return view.dto();
+    }
+
+    private void patch(long userId, Function<View, List<PlanActivity>> patcher) {
+        UserViews userViews = cache.getIfPresent(userId);
+        if (userViews == null) return;
+        synchronized (userViews) {
+            userViews.version++;
+            userViews.views.replaceAll((key, view) -> {
+                List<PlanActivity> activities = patcher.apply(view);
+                return new View(key, view.endDate(), view.expiresAt(), activities, render(key, activities));
+            });
+        }
+    }
+
+    private static Object render(Key key, List<PlanActivity> activities) {
+        return key.kind() == Kind.DAY
+                ? ActivityViews.day(key.startDate(), ActivityViews.byDate(activities))
+                : ActivityViews.week(key.startDate(), ActivityViews.byDate(activities));
+    }
+
+    private static void afterCommit(Runnable patch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            patch.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                patch.run();
+            }
+        });
+    }
+}
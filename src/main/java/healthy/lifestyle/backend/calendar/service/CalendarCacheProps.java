@@ -0,0 +1,14 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maximumUsers users whose views {@link CalendarCache} keeps, each with at most
+ * {@link CalendarCache#MAX_VIEWS_PER_USER} views
+ * @param expireAfterAccessSeconds drops the views of users who haven't opened the calendar for a while
+ * @param expireAfterWriteSeconds reloads a view this long after it was loaded, even when requested meanwhile; the
+ * staleness bound for writes made through other instances
+ */
+@ConfigurationProperties(prefix = "calendar-cache")
+public record CalendarCacheProps(
+        boolean enabled, long maximumUsers, long expireAfterAccessSeconds, long expireAfterWriteSeconds) {}
@@ -0,0 +1,14 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import healthy.lifestyle.backend.calendar.dto.ActivityDayDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityMonthDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityWeekDto;
+import java.time.LocalDate;
+
+public interface CalendarService {
+    ActivityDayDto getDayActivity(long userId, LocalDate userDate);
+
+    ActivityWeekDto getWeekActivity(long userId, LocalDate userDate);
+
+    ActivityMonthDto getMonthActivity(long userId, LocalDate userDate);
+}
@@ -0,0 +1,118 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import healthy.lifestyle.backend.calendar.dto.ActivityDayDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityMonthDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityRowDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityWeekDto;
+import healthy.lifestyle.backend.plan.workout.api.WorkoutPlanApi;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
+import healthy.lifestyle.backend.user.api.UserApi;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CalendarServiceImpl implements CalendarService {
+    @Autowired
+    UserApi userApi;
+
+    @Autowired
+    WorkoutPlanApi workoutPlanApi;
+
+    @Autowired
+    DateTimeService dateTimeService;
+
+    @Autowired
+    CalendarCache calendarCache;
+
+    /**
+     * @param userDate in user's zone, today when null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityDayDto getDayActivity(long userId, LocalDate userDate) {
+        ZoneId userZone = dateTimeService.getZoneId(userApi.getUserById(userId).getTimezone());
+        LocalDate date = userDate != null ? userDate : dateTimeService.getCurrentDate(userZone);
+        return calendarCache.getDay(userId, userZone, date, () -> getActivities(userId, userZone, date, date));
+    }
+
+    /**
+     * @param userDate any day of the week in user's zone, the current week when null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityWeekDto getWeekActivity(long userId, LocalDate userDate) {
+        ZoneId userZone = dateTimeService.getZoneId(userApi.getUserById(userId).getTimezone());
+        LocalDate weekStartDate = (userDate != null ? userDate : dateTimeService.getCurrentDate(userZone))
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return calendarCache.getWeek(
+                userId,
+                userZone,
+                weekStartDate,
+                () -> getActivities(userId, userZone, weekStartDate, weekStartDate.plusDays(6)));
+    }
+
+    /**
+     * Weeks of the month from Monday to Sunday, the first and last ones may include days of the neighbouring months.
+     *
+     * @param userDate any day of the month in user's zone, the current month when null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityMonthDto getMonthActivity(long userId, LocalDate userDate) {
+        ZoneId userZone = dateTimeService.getZoneId(userApi.getUserById(userId).getTimezone());
+        LocalDate date = userDate != null ? userDate : dateTimeService.getCurrentDate(userZone);
+        LocalDate monthStartDate = date.with(TemporalAdjusters.firstDayOfMonth());
+        LocalDate monthEndDate = date.with(TemporalAdjusters.lastDayOfMonth());
+        LocalDate firstWeekStartDate = monthStartDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate lastWeekEndDate = monthEndDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+
+        Map<LocalDate, List<ActivityRowDto>> rows =
+                ActivityViews.byDate(getActivities(userId, userZone, firstWeekStartDate, lastWeekEndDate));
+        int weeksNumber = (int) ChronoUnit.WEEKS.between(firstWeekStartDate, lastWeekEndDate) + 1;
+        List<ActivityWeekDto> weeks = IntStream.range(0, weeksNumber)
+                .mapToObj(week -> ActivityViews.week(firstWeekStartDate.plusWeeks(week), rows))
+                .toList();
+
+        return ActivityMonthDto.builder()
+                .monthStartDate(monthStartDate)
+                .monthEndDate(monthEndDate)
+                .weeks(weeks)
+                .build();
+    }
+
+    /**
+     * Activities between the dates inclusive. Takes two range queries whatever the number of plans: the occurrences
+     * of the active plans along with their workouts, and the completions of the plans.
+     */
+    private List<PlanActivity> getActivities(long userId, ZoneId userZone, LocalDate startDate, LocalDate endDate) {
+        ZoneId databaseZone = dateTimeService.getDatabaseZoneId();
+        Instant from = startDate.atStartOfDay(userZone).toInstant();
+        Instant to = endDate.plusDays(1).atStartOfDay(userZone).toInstant();
+
+        Set<PlanDayCompletion> completions = new HashSet<>();
+        List<WorkoutCompletionRecord> completionRecords = workoutPlanApi.getPlanCompletions(
+                userId,
+                dateTimeService.convertToDBDate(startDate, userZone),
+                dateTimeService.convertToDBDate(endDate, userZone));
+        for (WorkoutCompletionRecord record : completionRecords)
+            completions.add(new PlanDayCompletion(
+                    record.getWorkoutPlan().getId(),
+                    record.getJsonId(),
+                    dateTimeService.convertToUserDate(record.getCompletedAt(), userZone)));
+
+        List<PlanActivity> activities = new ArrayList<>();
+        List<WorkoutPlanOccurrence> occurrences = workoutPlanApi.getActiveOccurrences(
+                userId, LocalDateTime.ofInstant(from, databaseZone), LocalDateTime.ofInstant(to, databaseZone));
+        for (WorkoutPlanOccurrence occurrence : occurrences)
+            activities.addAll(PlanSchedule.of(occurrence, databaseZone).expand(userZone, from, to, completions));
+        return activities;
+    }
+}
@@ -0,0 +1,35 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import healthy.lifestyle.backend.calendar.dto.ActivityRowDto;
+import java.time.LocalDate;
+
+/**
+ * An occurrence of a day of a workout plan as shown by the calendar, along with what identifies it for patches.
+ */
+record PlanActivity(long workoutPlanId, Long jsonId, LocalDate date, ActivityRowDto row) {
+    boolean isOf(PlanDayCompletion completion) {
+        return workoutPlanId == completion.workoutPlanId()
+                && date.equals(completion.userDate())
+                && (jsonId == null ? completion.jsonId() == null : jsonId.equals(completion.jsonId()));
+    }
+
+    /**
+     * A copy, rows may already be part of a view returned to a caller.
+     */
+    PlanActivity completed() {
+        return new PlanActivity(
+                workoutPlanId,
+                jsonId,
+                date,
+                ActivityRowDto.builder()
+                        .activityId(row.getActivityId())
+                        .activityType(row.getActivityType())
+                        .isSingle(row.isSingle())
+                        .isPausedBilling(row.isPausedBilling())
+                        .isCompleted(true)
+                        .title(row.getTitle())
+                        .hours(row.getHours())
+                        .minutes(row.getMinutes())
+                        .build());
+    }
+}
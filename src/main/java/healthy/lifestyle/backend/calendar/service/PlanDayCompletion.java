@@ -0,0 +1,8 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import java.time.LocalDate;
+
+/**
+ * A day of a workout plan completed on a date in user's zone.
+ */
+record PlanDayCompletion(long workoutPlanId, Long jsonId, LocalDate userDate) {}
@@ -0,0 +1,60 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.calendar.dto.ActivityRowDto;
+import healthy.lifestyle.backend.calendar.model.ActivityType;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Weekly occurrences of a day of a workout plan on the same instant of the week, see {@link WorkoutPlanOccurrence}.
+ * Holds everything the calendar shows, so that it can be expanded after the transaction that read it.
+ */
+record PlanSchedule(long workoutPlanId, Long jsonId, long workoutId, String title, Instant first, Instant last) {
+    static final Duration WEEK = Duration.ofDays(7);
+
+    static PlanSchedule of(WorkoutPlanOccurrence occurrence, ZoneId databaseZone) {
+        Workout workout = occurrence.getWorkoutPlan().getWorkout();
+        return new PlanSchedule(
+                occurrence.getWorkoutPlan().getId(),
+                occurrence.getJsonId(),
+                workout.getId(),
+                workout.getTitle(),
+                occurrence.getFirstOccurrenceAt().atZone(databaseZone).toInstant(),
+                occurrence.getLastOccurrenceAt().atZone(databaseZone).toInstant());
+    }
+
+    /**
+     * Occurrences from the first instant inclusive to the second one exclusive, in user's zone.
+     */
+    List<PlanActivity> expand(ZoneId userZone, Instant from, Instant to, Set<PlanDayCompletion> completions) {
+        List<PlanActivity> activities = new ArrayList<>();
+
+        // Occurrences are a week apart on the same UTC minute, skip the weeks before the window
+        long weeksBefore = first.isBefore(from)
+                ? (Duration.between(first, from).getSeconds() + WEEK.getSeconds() - 1) / WEEK.getSeconds()
+                : 0;
+        for (Instant at = first.plus(WEEK.multipliedBy(weeksBefore));
+                !at.isAfter(last) && at.isBefore(to);
+                at = at.plus(WEEK)) {
+            ZonedDateTime userDateTime = at.atZone(userZone);
+            LocalDate date = userDateTime.toLocalDate();
+            ActivityRowDto row = ActivityRowDto.builder()
+                    .activityId(workoutId)
+                    .activityType(ActivityType.WORKOUT)
+                    .isSingle(false)
+                    .isPausedBilling(false)
+                    .isCompleted(completions.contains(new PlanDayCompletion(workoutPlanId, jsonId, date)))
+                    .title(title)
+                    .hours(userDateTime.getHour())
+                    .minutes(userDateTime.getMinute())
+                    .build();
+            activities.add(new PlanActivity(workoutPlanId, jsonId, date, row));
+        }
+
+        return activities;
+    }
+}
@@ -1,24 +1,21 @@
 package healthy.lifestyle.backend.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.modelmapper.ModelMapper;
+import java.time.Clock;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class Config {
-    @Bean
-    public ModelMapper modelMapper() {
-        // Add custom configurations here, if needed. Example:
-        // ModelMapper modelMapper = new ModelMapper();
-        // modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-        return new ModelMapper();
-    }
-
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules();
         return objectMapper;
     }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
 }
@@ -0,0 +1,19 @@
+package healthy.lifestyle.backend.config;
+
+import org.mapstruct.Builder;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared settings of the MapStruct entity to DTO mappers. Every DTO field has to be mapped or ignored explicitly, so
+ * a new field can't silently stay null and a mapper touches only the associations it names. DTOs are filled through
+ * setters rather than their Lombok builders to avoid the intermediate builder objects.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR,
+        builder = @Builder(disableBuilder = true))
+public interface MapperConfiguration {}
@@ -0,0 +1,68 @@
+package healthy.lifestyle.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Regions of the Hibernate second-level cache, backed by Caffeine through JCache. Region names are the ones of the
+ * {@link org.hibernate.annotations.Cache} annotations of the entities and their collections. Reference data is
+ * read-only; exercises, workouts and http refs are nonstrict read-write, a change evicts the entry after the commit.
+ * <p>
+ * Hit, miss and put counts per region are exported as the hibernate.second.level.cache metrics.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    static final List<String> REFERENCE_DATA_REGIONS = List.of(
+            "bodyParts", "httpRefTypes", "mentalTypes", "nutritionTypes", "roles", "countries", "timezones");
+
+    static final List<String> CONTENT_REGIONS = List.of(
+            "exercises", "exercises.bodyParts", "exercises.httpRefs", "workouts", "workouts.exercises", "httpRefs");
+
+    /**
+     * Each application context gets its own cache manager, so that the contexts of tests don't share regions.
+     */
+    @Bean
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProps secondLevelCacheProps) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                URI.create("second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : REFERENCE_DATA_REGIONS)
+            cacheManager.createCache(
+                    region, regionConfiguration(secondLevelCacheProps.referenceDataMaximumSize(), null));
+
+        Duration contentExpireAfterWrite =
+                Duration.ofSeconds(secondLevelCacheProps.contentExpireAfterWriteSeconds());
+        for (String region : CONTENT_REGIONS)
+            cacheManager.createCache(
+                    region,
+                    regionConfiguration(secondLevelCacheProps.contentMaximumSize(), contentExpireAfterWrite));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(
+            long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterWrite != null) configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,12 @@
+package healthy.lifestyle.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param referenceDataMaximumSize entries of each read-only region, e.g. body parts or timezones
+ * @param contentMaximumSize entries of each region of exercises, workouts and http refs, including their collections
+ * @param contentExpireAfterWriteSeconds bounds how long a nonstrict entry may outlive a concurrent change
+ */
+@ConfigurationProperties(prefix = "second-level-cache")
+public record SecondLevelCacheProps(
+        long referenceDataMaximumSize, long contentMaximumSize, long contentExpireAfterWriteSeconds) {}
@@ -0,0 +1,18 @@
+package healthy.lifestyle.backend.config;
+
+import healthy.lifestyle.backend.shared.http.VersionedContentInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    @Autowired
+    VersionedContentInterceptor versionedContentInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(versionedContentInterceptor);
+    }
+}
@@ -14,8 +14,10 @@ public enum ErrorMessage {
     TIMEZONE_NOT_FOUND("Timezone with id %d not found"),
     INCORRECT_TIME("The specified date or time is incorrect"),
     EXERCISE_NOT_FOUND("Exercise with id %d not found"),
+    EXERCISES_NOT_FOUND("Exercises with ids %s not found"),
     WORKOUT_NOT_FOUND("Workout with id %d not found"),
     WORKOUT_PLAN_NOT_FOUND("Workout plan with id %d not found"),
+    WORKOUT_PLAN_DAY_NOT_FOUND("Workout plan day with json id %d not found"),
     USER_NOT_FOUND("User with id %d not found"),
     NUTRITION_NOT_FOUND("Nutrition with id %d not found"),
     ROLE_NOT_FOUND("Role not found"),
@@ -25,7 +27,11 @@ public enum ErrorMessage {
     DEFAULT_RESOURCE_IS_NOT_ALLOWED_TO_MODIFY("Default resource is not allowed to modify"),
     USER_HTTP_REF_MISMATCH("Http ref with id %d doesn't belong to the user"),
     USER_EXERCISE_MISMATCH("Exercise with id %d doesn't belong to the user"),
+    USER_EXERCISES_MISMATCH("Exercises with ids %s don't belong to the user"),
     USER_WORKOUT_MISMATCH("Workout with id %d doesn't belong to the user"),
+    USER_WORKOUT_PLAN_MISMATCH("Workout plan with id %d doesn't belong to the user"),
+    WORKOUT_PLAN_IS_NOT_ACTIVE("Workout plan with id %d is not active"),
+    WORKOUT_PLAN_DAY_NOT_SCHEDULED("Workout plan day with json id %d is not scheduled on the date"),
     USER_NUTRITION_MISMATCH("Nutrition with id %d doesn't belong to the user"),
     USER_REQUESTED_ANOTHER_USER_PROFILE("User has been requested another user profile"),
     EMPTY_REQUEST("Empty request"),
@@ -46,6 +52,9 @@ public enum ErrorMessage {
     INTERNAL_SERVER_ERROR("Internal server error"),
     MENTAL_TYPE_NOT_FOUND("Mental type with id %d not found"),
     MENTAL_WORKOUT_NOT_FOUND("Mental workout with id %d not found"),
+    INVALID_CURSOR("Invalid cursor"),
+    INVALID_CURSOR_SORT_FIELD("Sort field isn't supported with cursor pagination"),
+    INVALID_PAGE_SIZE("Page size should be positive"),
 
     USER_MENTAL_WORKOUT_MISMATCH("Mental workout with id %d doesn't belong to the user");
 
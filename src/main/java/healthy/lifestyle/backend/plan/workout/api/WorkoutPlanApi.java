@@ -0,0 +1,13 @@
+package healthy.lifestyle.backend.plan.workout.api;
+
+import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WorkoutPlanApi {
+    List<WorkoutPlanOccurrence> getActiveOccurrences(long userId, LocalDateTime dbFrom, LocalDateTime dbTo);
+
+    List<WorkoutCompletionRecord> getPlanCompletions(long userId, LocalDate dbFrom, LocalDate dbTo);
+}
@@ -0,0 +1,30 @@
+package healthy.lifestyle.backend.plan.workout.api;
+
+import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutCompletionRecordRepository;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanOccurrenceRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class WorkoutPlanApiImpl implements WorkoutPlanApi {
+    @Autowired
+    WorkoutPlanOccurrenceRepository workoutPlanOccurrenceRepository;
+
+    @Autowired
+    WorkoutCompletionRecordRepository workoutCompletionRecordRepository;
+
+    @Override
+    public List<WorkoutPlanOccurrence> getActiveOccurrences(long userId, LocalDateTime dbFrom, LocalDateTime dbTo) {
+        return workoutPlanOccurrenceRepository.findActiveByUserIdBetween(userId, dbFrom, dbTo);
+    }
+
+    @Override
+    public List<WorkoutCompletionRecord> getPlanCompletions(long userId, LocalDate dbFrom, LocalDate dbTo) {
+        return workoutCompletionRecordRepository.findPlanCompletionsByUserIdBetween(userId, dbFrom, dbTo);
+    }
+}
@@ -4,19 +4,25 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanCreateRequestDto;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanResponseDto;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutWithoutPlanResponseDto;
+import healthy.lifestyle.backend.plan.workout.service.WorkoutCompletionService;
 import healthy.lifestyle.backend.plan.workout.service.WorkoutPlanService;
+import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import healthy.lifestyle.backend.user.service.AuthUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+@Validated
 @Controller
 @RequestMapping("${api.basePath}/${api.version}/calendar/workouts")
 public class WorkoutPlanController {
@@ -26,6 +32,9 @@ public class WorkoutPlanController {
     @Autowired
     WorkoutPlanService workoutPlanService;
 
+    @Autowired
+    WorkoutCompletionService workoutCompletionService;
+
     @PostMapping("/plans")
     @PreAuthorize("hasRole('ROLE_USER')")
     @Operation(summary = "Create workout plan (add workout to the calendar)")
@@ -57,4 +66,27 @@ public class WorkoutPlanController {
         List<WorkoutPlanResponseDto> responseDto = workoutPlanService.getWorkoutPlans(userId);
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
+
+    @DeleteMapping("/plans/{workoutPlanId}")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Deactivate workout plan (remove workout from the calendar)")
+    public ResponseEntity<?> deactivateWorkoutPlan(@PathVariable("workoutPlanId") @IdValidation long workoutPlanId) {
+        Long userId = authUtil.getUserIdFromAuthentication(
+                SecurityContextHolder.getContext().getAuthentication());
+        workoutPlanService.deactivateWorkoutPlan(workoutPlanId, userId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @PostMapping("/plans/{workoutPlanId}/days/{jsonId}/completions")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "Mark a day of workout plan as completed on the date in user's zone")
+    public ResponseEntity<?> setWorkoutPlanDayCompleted(
+            @PathVariable("workoutPlanId") @IdValidation long workoutPlanId,
+            @PathVariable("jsonId") @IdValidation long jsonId,
+            @RequestParam(name = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        Long userId = authUtil.getUserIdFromAuthentication(
+                SecurityContextHolder.getContext().getAuthentication());
+        workoutCompletionService.setWorkoutPlanDayCompleted(userId, workoutPlanId, jsonId, date);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
 }
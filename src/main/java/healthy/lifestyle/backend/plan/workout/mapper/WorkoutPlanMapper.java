@@ -0,0 +1,21 @@
+package healthy.lifestyle.backend.plan.workout.mapper;
+
+import healthy.lifestyle.backend.config.MapperConfiguration;
+import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanResponseDto;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfiguration.class)
+public interface WorkoutPlanMapper {
+    /**
+     * Dates and the json description depend on the user's timezone and are set by the service.
+     */
+    @Mapping(target = "workoutId", source = "workout.id")
+    @Mapping(target = "workoutTitle", source = "workout.title")
+    @Mapping(target = "startDate", ignore = true)
+    @Mapping(target = "endDate", ignore = true)
+    @Mapping(target = "jsonDescription", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    WorkoutPlanResponseDto toResponseDto(WorkoutPlan workoutPlan);
+}
@@ -3,6 +3,7 @@ package healthy.lifestyle.backend.plan.workout.model;
 import healthy.lifestyle.backend.activity.workout.model.Exercise;
 import healthy.lifestyle.backend.activity.workout.model.Workout;
 import healthy.lifestyle.backend.calendar.model.CompletionRecordBase;
+import healthy.lifestyle.backend.user.model.User;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -16,6 +17,10 @@ import lombok.experimental.SuperBuilder;
 @Table(name = "workout_completion_records")
 public class WorkoutCompletionRecord extends CompletionRecordBase {
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = false)
+    private User user;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workout_id", nullable = false, unique = false)
     private Workout workout;
@@ -23,4 +28,12 @@ public class WorkoutCompletionRecord extends CompletionRecordBase {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "exercise_id", nullable = true, unique = false)
     private Exercise exercise;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workout_plan_id", nullable = true, unique = false)
+    private WorkoutPlan workoutPlan;
+
+    // Day of the plan, null for a single workout
+    @Column(name = "json_id", nullable = true, unique = false)
+    private Long jsonId;
 }
@@ -0,0 +1,47 @@
+package healthy.lifestyle.backend.plan.workout.model;
+
+import healthy.lifestyle.backend.user.model.User;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Weekly occurrences of a day of a workout plan that fall on the same UTC minute of the week, from the first to the
+ * last occurrence inclusive. A day of the plan gets a row per period between the offset transitions of the user's
+ * timezone, e.g. summer and winter time, and a daily day gets a row per day of the week.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "workout_plan_occurrences")
+public class WorkoutPlanOccurrence {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workout_plan_id", nullable = false)
+    private WorkoutPlan workoutPlan;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "json_id", nullable = false)
+    private Long jsonId;
+
+    /**
+     * Minutes since Monday 00:00 UTC.
+     */
+    @Column(name = "utc_minute_of_week", nullable = false)
+    private Integer utcMinuteOfWeek;
+
+    @Column(name = "first_occurrence_at", nullable = false)
+    private LocalDateTime firstOccurrenceAt;
+
+    @Column(name = "last_occurrence_at", nullable = false)
+    private LocalDateTime lastOccurrenceAt;
+}
@@ -1,6 +1,18 @@
 package healthy.lifestyle.backend.plan.workout.repository;
 
 import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
+import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface WorkoutCompletionRecordRepository extends JpaRepository<WorkoutCompletionRecord, Long> {}
+public interface WorkoutCompletionRecordRepository extends JpaRepository<WorkoutCompletionRecord, Long> {
+    /**
+     * Completions of whole days of workout plans, completions of a single exercise are left out.
+     */
+    @Query("SELECT r FROM WorkoutCompletionRecord r WHERE r.user.id = :userId AND r.workoutPlan IS NOT NULL "
+            + "AND r.exercise IS NULL AND r.completedAt BETWEEN :from AND :to")
+    List<WorkoutCompletionRecord> findPlanCompletionsByUserIdBetween(long userId, LocalDate from, LocalDate to);
+
+    boolean existsByWorkoutPlanIdAndJsonIdAndCompletedAt(long workoutPlanId, long jsonId, LocalDate completedAt);
+}
@@ -1,6 +1,14 @@
 package healthy.lifestyle.backend.plan.workout.repository;
 
 import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanDayId;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface WorkoutDayIdRepository extends JpaRepository<WorkoutPlanDayId, Long> {}
+public interface WorkoutDayIdRepository extends JpaRepository<WorkoutPlanDayId, Long> {
+    /**
+     * Each value ends a block of json ids, the sequence is incremented by the block size.
+     */
+    @Query(value = "SELECT nextval('workout_json_id_seq') FROM generate_series(1, :blocks)", nativeQuery = true)
+    List<Long> reserveJsonIdBlocks(int blocks);
+}
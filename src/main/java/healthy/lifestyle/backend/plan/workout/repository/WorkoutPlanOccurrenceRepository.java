@@ -0,0 +1,36 @@
+package healthy.lifestyle.backend.plan.workout.repository;
+
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface WorkoutPlanOccurrenceRepository extends JpaRepository<WorkoutPlanOccurrence, Long> {
+    /**
+     * Rows of the active plans of the user with at least one occurrence in the window, along with their plan and
+     * workout. Times are in the database's timezone.
+     */
+    @Query("SELECT o FROM WorkoutPlanOccurrence o JOIN FETCH o.workoutPlan p JOIN FETCH p.workout "
+            + "WHERE o.user.id = :userId AND p.isActive = true "
+            + "AND o.lastOccurrenceAt >= :from AND o.firstOccurrenceAt < :to")
+    List<WorkoutPlanOccurrence> findActiveByUserIdBetween(long userId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Rows of a day of the plan with at least one occurrence in the window. Times are in the database's timezone.
+     */
+    @Query("SELECT o FROM WorkoutPlanOccurrence o WHERE o.workoutPlan.id = :workoutPlanId AND o.jsonId = :jsonId "
+            + "AND o.lastOccurrenceAt >= :from AND o.firstOccurrenceAt < :to")
+    List<WorkoutPlanOccurrence> findByWorkoutPlanIdAndJsonIdBetween(
+            long workoutPlanId, long jsonId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Rows of all users with an occurrence at the given minutes of the week, e.g. the next few minutes of the
+     * notifications. The window must not wrap around the end of the week.
+     */
+    @Query("SELECT o FROM WorkoutPlanOccurrence o "
+            + "WHERE o.utcMinuteOfWeek >= :fromMinute AND o.utcMinuteOfWeek < :toMinute "
+            + "AND o.firstOccurrenceAt <= :to AND o.lastOccurrenceAt >= :from")
+    List<WorkoutPlanOccurrence> findByMinuteOfWeekBetween(
+            int fromMinute, int toMinute, LocalDateTime from, LocalDateTime to);
+}
@@ -3,7 +3,9 @@ package healthy.lifestyle.backend.plan.workout.service;
 import java.time.LocalDate;
 
 public interface WorkoutCompletionService {
-    void setSingleWorkoutCompleted(long workoutId, LocalDate completedAt);
+    void setSingleWorkoutCompleted(long userId, long workoutId, LocalDate completedAt);
 
-    void setExerciseCompleted(long workoutId, long exerciseId, LocalDate completedAt);
+    void setExerciseCompleted(long userId, long workoutId, long exerciseId, LocalDate completedAt);
+
+    void setWorkoutPlanDayCompleted(long userId, long workoutPlanId, long jsonId, LocalDate userDate);
 }
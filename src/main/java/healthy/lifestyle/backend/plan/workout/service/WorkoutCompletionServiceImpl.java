@@ -3,22 +3,61 @@ package healthy.lifestyle.backend.plan.workout.service;
 import healthy.lifestyle.backend.activity.workout.api.WorkoutApi;
 import healthy.lifestyle.backend.activity.workout.model.Exercise;
 import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.calendar.service.CalendarCache;
+import healthy.lifestyle.backend.exception.ApiException;
+import healthy.lifestyle.backend.exception.ErrorMessage;
 import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
 import healthy.lifestyle.backend.plan.workout.repository.WorkoutCompletionRecordRepository;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanOccurrenceRepository;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanRepository;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
+import healthy.lifestyle.backend.user.api.UserApi;
+import healthy.lifestyle.backend.user.model.User;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Service
 public class WorkoutCompletionServiceImpl implements WorkoutCompletionService {
+    static final Duration WEEK = Duration.ofDays(7);
+
     @Autowired
     WorkoutCompletionRecordRepository workoutCompletionRecordRepository;
 
+    @Autowired
+    WorkoutPlanRepository workoutPlanRepository;
+
+    @Autowired
+    WorkoutPlanOccurrenceRepository workoutPlanOccurrenceRepository;
+
     @Autowired
     WorkoutApi workoutApi;
 
+    @Autowired
+    UserApi userApi;
+
+    @Autowired
+    DateTimeService dateTimeService;
+
+    @Autowired
+    CalendarCache calendarCache;
+
     @Override
-    public void setSingleWorkoutCompleted(long workoutId, LocalDate completedAt) {
+    @Transactional
+    public void setSingleWorkoutCompleted(long userId, long workoutId, LocalDate completedAt) {
+        User user = userApi.getUserById(userId);
         Workout workout = workoutApi.getWorkoutById(workoutId);
         WorkoutCompletionRecord workoutCompletionRecord = WorkoutCompletionRecord.builder()
+                .user(user)
                 .workout(workout)
                 .completedAt(completedAt)
                 .build();
@@ -26,14 +65,81 @@ public class WorkoutCompletionServiceImpl implements WorkoutCompletionService {
     }
 
     @Override
-    public void setExerciseCompleted(long workoutId, long exerciseId, LocalDate completedAt) {
+    @Transactional
+    public void setExerciseCompleted(long userId, long workoutId, long exerciseId, LocalDate completedAt) {
+        User user = userApi.getUserById(userId);
         Workout workout = workoutApi.getWorkoutById(workoutId);
         Exercise exercise = workoutApi.getExerciseById(exerciseId);
         WorkoutCompletionRecord workoutCompletionRecord = WorkoutCompletionRecord.builder()
+                .user(user)
                 .workout(workout)
                 .exercise(exercise)
                 .completedAt(completedAt)
                 .build();
         workoutCompletionRecordRepository.save(workoutCompletionRecord);
     }
+
+    /**
+     * @param userDate the date of the completed occurrence in user's zone
+     */
+    @Override
+    @Transactional
+    public void setWorkoutPlanDayCompleted(long userId, long workoutPlanId, long jsonId, LocalDate userDate) {
+        WorkoutPlan workoutPlan = workoutPlanRepository
+                .findById(workoutPlanId)
+                .orElseThrow(() ->
+                        new ApiException(ErrorMessage.WORKOUT_PLAN_NOT_FOUND, workoutPlanId, HttpStatus.NOT_FOUND));
+        if (!workoutPlan.getUser().getId().equals(userId))
+            throw new ApiException(ErrorMessage.USER_WORKOUT_PLAN_MISMATCH, workoutPlanId, HttpStatus.BAD_REQUEST);
+        if (!workoutPlan.getIsActive())
+            throw new ApiException(ErrorMessage.WORKOUT_PLAN_IS_NOT_ACTIVE, workoutPlanId, HttpStatus.BAD_REQUEST);
+        if (workoutPlan.getJsonDescription().stream().noneMatch(day -> day.getJson_id() == jsonId))
+            throw new ApiException(ErrorMessage.WORKOUT_PLAN_DAY_NOT_FOUND, jsonId, HttpStatus.NOT_FOUND);
+
+        User user = userApi.getUserById(userId);
+        ZoneId userZone = dateTimeService.getZoneId(user.getTimezone());
+        if (!isScheduledOn(workoutPlanId, jsonId, userDate, userZone))
+            throw new ApiException(ErrorMessage.WORKOUT_PLAN_DAY_NOT_SCHEDULED, jsonId, HttpStatus.BAD_REQUEST);
+        LocalDate completedAt = dateTimeService.convertToDBDate(userDate, userZone);
+        // Completing the same day again is a no-op
+        if (workoutCompletionRecordRepository.existsByWorkoutPlanIdAndJsonIdAndCompletedAt(
+                workoutPlanId, jsonId, completedAt)) return;
+
+        WorkoutCompletionRecord workoutCompletionRecord = WorkoutCompletionRecord.builder()
+                .user(user)
+                .workout(workoutPlan.getWorkout())
+                .workoutPlan(workoutPlan)
+                .jsonId(jsonId)
+                .completedAt(completedAt)
+                .build();
+        workoutCompletionRecordRepository.save(workoutCompletionRecord);
+        calendarCache.setCompleted(userId, workoutPlanId, jsonId, userDate);
+    }
+
+    /**
+     * Whether the day of the plan has an occurrence on the date, i.e. the date is between the start and end dates of
+     * the plan and on the day of the week of the day, both in user's zone.
+     */
+    private boolean isScheduledOn(long workoutPlanId, long jsonId, LocalDate userDate, ZoneId userZone) {
+        ZoneId databaseZone = dateTimeService.getDatabaseZoneId();
+        Instant from = userDate.atStartOfDay(userZone).toInstant();
+        Instant to = userDate.plusDays(1).atStartOfDay(userZone).toInstant();
+        List<WorkoutPlanOccurrence> occurrences = workoutPlanOccurrenceRepository.findByWorkoutPlanIdAndJsonIdBetween(
+                workoutPlanId,
+                jsonId,
+                LocalDateTime.ofInstant(from, databaseZone),
+                LocalDateTime.ofInstant(to, databaseZone));
+
+        for (WorkoutPlanOccurrence occurrence : occurrences) {
+            Instant first = occurrence.getFirstOccurrenceAt().atZone(databaseZone).toInstant();
+            Instant last = occurrence.getLastOccurrenceAt().atZone(databaseZone).toInstant();
+            // Occurrences are a week apart on the same UTC minute, take the first one from the start of the date
+            long weeksBefore = first.isBefore(from)
+                    ? (Duration.between(first, from).getSeconds() + WEEK.getSeconds() - 1) / WEEK.getSeconds()
+                    : 0;
+            Instant at = first.plus(WEEK.multipliedBy(weeksBefore));
+            if (!at.isAfter(last) && at.isBefore(to)) return true;
+        }
+        return false;
+    }
 }
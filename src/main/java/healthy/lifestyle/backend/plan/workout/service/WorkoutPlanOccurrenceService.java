@@ -0,0 +1,17 @@
+package healthy.lifestyle.backend.plan.workout.service;
+
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.shared.util.JsonDescription;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+public interface WorkoutPlanOccurrenceService {
+    List<WorkoutPlanOccurrence> createOccurrences(
+            WorkoutPlan workoutPlan,
+            List<JsonDescription> userDays,
+            LocalDate userStartDate,
+            LocalDate userEndDate,
+            ZoneId userZone);
+}
@@ -0,0 +1,124 @@
+package healthy.lifestyle.backend.plan.workout.service;
+
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanOccurrenceRepository;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
+import healthy.lifestyle.backend.shared.util.JsonDescription;
+import java.time.*;
+import java.time.temporal.TemporalAdjusters;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class WorkoutPlanOccurrenceServiceImpl implements WorkoutPlanOccurrenceService {
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Autowired
+    WorkoutPlanOccurrenceRepository workoutPlanOccurrenceRepository;
+
+    @Autowired
+    DateTimeService dateTimeService;
+
+    /**
+     * Expands the days of the plan, given in the user's timezone, into weekly occurrences between the start and end
+     * dates of the plan inclusive. A day keeps its local time across the offset transitions of the timezone, so its
+     * UTC minute of the week changes with them.
+     */
+    @Override
+    @Transactional
+    public List<WorkoutPlanOccurrence> createOccurrences(
+            WorkoutPlan workoutPlan,
+            List<JsonDescription> userDays,
+            LocalDate userStartDate,
+            LocalDate userEndDate,
+            ZoneId userZone) {
+        List<WorkoutPlanOccurrence> occurrences = new ArrayList<>();
+        for (JsonDescription day : userDays) {
+            LocalTime localTime = LocalTime.of(day.getHours(), day.getMinutes());
+            List<DayOfWeek> daysOfWeek =
+                    day.getDayOfWeek() != null ? List.of(day.getDayOfWeek()) : List.of(DayOfWeek.values());
+            for (DayOfWeek dayOfWeek : daysOfWeek)
+                addWeeklyOccurrences(
+                        occurrences,
+                        workoutPlan,
+                        day.getJson_id(),
+                        dayOfWeek,
+                        localTime,
+                        userStartDate,
+                        userEndDate,
+                        userZone);
+        }
+        return workoutPlanOccurrenceRepository.saveAll(occurrences);
+    }
+
+    /**
+     * Adds a row per period between two offset transitions, jumping from one transition to the next rather than
+     * walking the weeks of the plan. Periods on the same UTC minute of the week are merged.
+     */
+    private void addWeeklyOccurrences(
+            List<WorkoutPlanOccurrence> occurrences,
+            WorkoutPlan workoutPlan,
+            long jsonId,
+            DayOfWeek dayOfWeek,
+            LocalTime localTime,
+            LocalDate startDate,
+            LocalDate endDate,
+            ZoneId userZone) {
+        ZoneRules rules = userZone.getRules();
+        ZoneId databaseZone = dateTimeService.getDatabaseZoneId();
+        LocalDate lastDate = endDate.with(TemporalAdjusters.previousOrSame(dayOfWeek));
+        WorkoutPlanOccurrence previous = null;
+
+        LocalDate date = startDate.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+        while (!date.isAfter(lastDate)) {
+            Instant first = ZonedDateTime.of(date, localTime, userZone).toInstant();
+            LocalDate periodLastDate = lastDate;
+            if (rules.getValidOffsets(date.atTime(localTime)).isEmpty()) {
+                // In the gap of a transition the time is moved forward by the gap, only this week is
+                periodLastDate = date;
+            } else {
+                ZoneOffsetTransition transition = rules.nextTransition(first);
+                if (transition != null) {
+                    LocalDate afterTransition = LocalDate.ofInstant(transition.getInstant(), userZone)
+                            .with(TemporalAdjusters.nextOrSame(dayOfWeek));
+                    if (ZonedDateTime.of(afterTransition, localTime, userZone)
+                            .toInstant()
+                            .isBefore(transition.getInstant())) afterTransition = afterTransition.plusWeeks(1);
+                    if (afterTransition.isBefore(periodLastDate.plusWeeks(1)))
+                        periodLastDate = afterTransition.minusWeeks(1);
+                }
+            }
+
+            int utcMinuteOfWeek = getUtcMinuteOfWeek(first);
+            LocalDateTime lastAt = LocalDateTime.ofInstant(
+                    ZonedDateTime.of(periodLastDate, localTime, userZone).toInstant(), databaseZone);
+            if (previous != null && previous.getUtcMinuteOfWeek() == utcMinuteOfWeek) {
+                previous.setLastOccurrenceAt(lastAt);
+            } else {
+                previous = WorkoutPlanOccurrence.builder()
+                        .workoutPlan(workoutPlan)
+                        .user(workoutPlan.getUser())
+                        .jsonId(jsonId)
+                        .utcMinuteOfWeek(utcMinuteOfWeek)
+                        .firstOccurrenceAt(LocalDateTime.ofInstant(first, databaseZone))
+                        .lastOccurrenceAt(lastAt)
+                        .build();
+                occurrences.add(previous);
+            }
+            date = periodLastDate.plusWeeks(1);
+        }
+    }
+
+    static int getUtcMinuteOfWeek(Instant instant) {
+        ZonedDateTime utcDateTime = instant.atZone(ZoneOffset.UTC);
+        return (utcDateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + utcDateTime.getHour() * 60
+                + utcDateTime.getMinute();
+    }
+}
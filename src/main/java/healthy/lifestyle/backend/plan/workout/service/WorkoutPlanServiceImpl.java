@@ -3,12 +3,15 @@ package healthy.lifestyle.backend.plan.workout.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import healthy.lifestyle.backend.activity.workout.api.WorkoutApi;
 import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.calendar.service.CalendarCache;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanCreateRequestDto;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanResponseDto;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutWithoutPlanResponseDto;
+import healthy.lifestyle.backend.plan.workout.mapper.WorkoutPlanMapper;
 import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
 import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanRepository;
 import healthy.lifestyle.backend.shared.util.DateTimeService;
 import healthy.lifestyle.backend.shared.util.JsonDescription;
@@ -17,7 +20,6 @@ import healthy.lifestyle.backend.user.api.UserApi;
 import healthy.lifestyle.backend.user.model.User;
 import java.time.*;
 import java.util.*;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -41,7 +43,13 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
     DateTimeService dateTimeService;
 
     @Autowired
-    ModelMapper modelMapper;
+    WorkoutPlanMapper workoutPlanMapper;
+
+    @Autowired
+    WorkoutPlanOccurrenceService workoutPlanOccurrenceService;
+
+    @Autowired
+    CalendarCache calendarCache;
 
     @Override
     @Transactional
@@ -50,18 +58,16 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
         Map<String, Object> validated = validateCreateWorkoutPlan(requestDto, userId);
         User user = (User) validated.get("user");
         Workout workout = (Workout) validated.get("workout");
+        ZoneId userZone = dateTimeService.getZoneId(user.getTimezone());
 
         List<JsonDescription> days =
                 jsonUtil.deserializeJsonStringToJsonDescriptionList(requestDto.getJsonDescription());
 
-        List<JsonDescription> daysProcessed = jsonUtil.processJsonDescription(
-                days, ZoneId.of(user.getTimezone().getName()));
+        List<JsonDescription> daysProcessed = jsonUtil.processJsonDescription(days, userZone);
 
         WorkoutPlan workoutPlan = WorkoutPlan.builder()
-                .startDate(dateTimeService.convertToDBDate(
-                        requestDto.getStartDate(), user.getTimezone().getName()))
-                .endDate(dateTimeService.convertToDBDate(
-                        requestDto.getEndDate(), user.getTimezone().getName()))
+                .startDate(dateTimeService.convertToDBDate(requestDto.getStartDate(), userZone))
+                .endDate(dateTimeService.convertToDBDate(requestDto.getEndDate(), userZone))
                 .jsonDescription(daysProcessed)
                 .isActive(true)
                 .createdAt(dateTimeService.getCurrentDatabaseZonedDateTime().toLocalDateTime())
@@ -71,18 +77,17 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
                 .build();
 
         WorkoutPlan workoutPlanSaved = workoutPlanRepository.save(workoutPlan);
+        List<WorkoutPlanOccurrence> occurrences = workoutPlanOccurrenceService.createOccurrences(
+                workoutPlanSaved, days, requestDto.getStartDate(), requestDto.getEndDate(), userZone);
+        calendarCache.addWorkoutPlan(userId, occurrences);
+
         WorkoutPlanResponseDto responseDto = WorkoutPlanResponseDto.builder()
                 .id(workoutPlanSaved.getId())
                 .workoutId(workout.getId())
-                .startDate(dateTimeService.convertToUserDate(
-                        workoutPlanSaved.getStartDate(), user.getTimezone().getName()))
-                .endDate(dateTimeService.convertToUserDate(
-                        workoutPlanSaved.getEndDate(), user.getTimezone().getName()))
-                .jsonDescription(jsonUtil.serializeJsonDescriptionList(
-                        workoutPlanSaved.getJsonDescription(),
-                        user.getTimezone().getName()))
-                .createdAt(dateTimeService.convertToUserDateTime(
-                        workoutPlanSaved.getCreatedAt(), user.getTimezone().getName()))
+                .startDate(dateTimeService.convertToUserDate(workoutPlanSaved.getStartDate(), userZone))
+                .endDate(dateTimeService.convertToUserDate(workoutPlanSaved.getEndDate(), userZone))
+                .jsonDescription(jsonUtil.serializeJsonDescriptionList(workoutPlanSaved.getJsonDescription(), userZone))
+                .createdAt(dateTimeService.convertToUserDateTime(workoutPlanSaved.getCreatedAt(), userZone))
                 .build();
 
         return responseDto;
@@ -106,28 +111,46 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
     @Transactional
     public List<WorkoutPlanResponseDto> getWorkoutPlans(long userId) {
         User user = userApi.getUserById(userId);
+        ZoneId userZone = dateTimeService.getZoneId(user.getTimezone());
         List<WorkoutPlan> workoutPlans = workoutPlanRepository.getAcitveWorkoutPlans(userId);
         List<WorkoutPlanResponseDto> responseDtoList = workoutPlans.stream()
                 .map(elt -> {
-                    WorkoutPlanResponseDto responseDto = modelMapper.map(elt, WorkoutPlanResponseDto.class);
-                    responseDto.setStartDate(dateTimeService.convertToUserDate(
-                            elt.getStartDate(), user.getTimezone().getName()));
-                    responseDto.setEndDate(dateTimeService.convertToUserDate(
-                            elt.getEndDate(), user.getTimezone().getName()));
+                    WorkoutPlanResponseDto responseDto = workoutPlanMapper.toResponseDto(elt);
+                    responseDto.setStartDate(dateTimeService.convertToUserDate(elt.getStartDate(), userZone));
+                    responseDto.setEndDate(dateTimeService.convertToUserDate(elt.getEndDate(), userZone));
                     try {
-                        responseDto.setJsonDescription(jsonUtil.serializeJsonDescriptionList(
-                                elt.getJsonDescription(), user.getTimezone().getName()));
+                        responseDto.setJsonDescription(
+                                jsonUtil.serializeJsonDescriptionList(elt.getJsonDescription(), userZone));
                     } catch (JsonProcessingException e) {
                         throw new RuntimeException(e);
                     }
-                    responseDto.setCreatedAt(dateTimeService.convertToUserDateTime(
-                            elt.getCreatedAt(), user.getTimezone().getName()));
+                    responseDto.setCreatedAt(dateTimeService.convertToUserDateTime(elt.getCreatedAt(), userZone));
                     return responseDto;
                 })
                 .toList();
         return responseDtoList;
     }
 
+    /**
+     * The plan is kept with its occurrences, the calendar shows active plans only.
+     */
+    @Override
+    @Transactional
+    public void deactivateWorkoutPlan(long workoutPlanId, long userId) {
+        WorkoutPlan workoutPlan = workoutPlanRepository
+                .findById(workoutPlanId)
+                .orElseThrow(() ->
+                        new ApiException(ErrorMessage.WORKOUT_PLAN_NOT_FOUND, workoutPlanId, HttpStatus.NOT_FOUND));
+        if (userId != workoutPlan.getUser().getId())
+            throw new ApiException(ErrorMessage.USER_WORKOUT_PLAN_MISMATCH, workoutPlanId, HttpStatus.BAD_REQUEST);
+        if (!workoutPlan.getIsActive()) return;
+
+        workoutPlan.setIsActive(false);
+        workoutPlan.setDeactivatedAt(dateTimeService.getCurrentDatabaseZonedDateTime().toLocalDateTime());
+        workoutPlanRepository.save(workoutPlan);
+        calendarCache.removeWorkoutPlan(userId, workoutPlanId);
+    }
+
     private Map<String, Object> validateCreateWorkoutPlan(WorkoutPlanCreateRequestDto requestDto, long userId) {
         User user = userApi.getUserById(userId);
         if (user == null) {
@@ -151,7 +174,7 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
 
         // StartDate cannot be in the past
         LocalDate startDateDBZone = dateTimeService.convertToDBDate(
-                requestDto.getStartDate(), user.getTimezone().getName());
+                requestDto.getStartDate(), dateTimeService.getZoneId(user.getTimezone()));
         LocalDate currentDBDate = dateTimeService.getCurrentDBDate();
         if (startDateDBZone.isBefore(currentDBDate)) {
             throw new ApiException(ErrorMessage.INCORRECT_TIME, null, HttpStatus.BAD_REQUEST);
@@ -1,9 +1,12 @@
 package healthy.lifestyle.backend.security;
 
+import healthy.lifestyle.backend.shared.util.DateTimeService;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserUtil;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +23,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     UserUtil userUtil;
 
+    @Autowired
+    DateTimeService dateTimeService;
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String usernameOrEmail) {
@@ -30,11 +36,36 @@ public class CustomUserDetailsService implements UserDetailsService {
                     return new UsernameNotFoundException(message);
                 });
 
-        UserDetails userDetails = new org.springframework.security.core.userdetails.User(
-                user.getEmail(), user.getPassword(), mapRolesToAuthorities(Set.of(user.getRole())));
+        UserDetails userDetails = new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                mapRolesToAuthorities(Set.of(user.getRole())),
+                getTokensValidAfter(user));
         return userDetails;
     }
 
+    /**
+     * Builds the principal for an already authenticated token, so the password hash is not kept.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserPrincipal> loadUserById(long userId) {
+        return userUtil.getUserWithRoleById(userId)
+                .map(user -> new UserPrincipal(
+                        user.getId(),
+                        user.getEmail(),
+                        "",
+                        mapRolesToAuthorities(Set.of(user.getRole())),
+                        getTokensValidAfter(user)));
+    }
+
+    private Instant getTokensValidAfter(User user) {
+        if (user.getTokensValidAfter() == null) return null;
+        return user.getTokensValidAfter()
+                .atZone(dateTimeService.getDatabaseZoneId())
+                .toInstant();
+    }
+
     private Collection<? extends GrantedAuthority> mapRolesToAuthorities(Set<Role> roles) {
         return roles.stream()
                 .map(role -> new SimpleGrantedAuthority(role.getName()))
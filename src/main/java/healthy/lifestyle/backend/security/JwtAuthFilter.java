@@ -3,12 +3,16 @@ package healthy.lifestyle.backend.security;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
+import healthy.lifestyle.backend.exception.ApiException;
+import healthy.lifestyle.backend.exception.ErrorMessage;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +28,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     @Autowired
     JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    UserPrincipalCache userPrincipalCache;
+
     public JwtAuthFilter(CustomUserDetailsService customUserDetailsService, JwtTokenProvider jwtTokenProvider) {
         this.customUserDetailsService = customUserDetailsService;
         this.jwtTokenProvider = jwtTokenProvider;
@@ -34,9 +41,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getJwtFromRequestHeader(request);
 
-        if (nonNull(token) && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromJwt(token);
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+        if (nonNull(token)) {
+            Claims claims = jwtTokenProvider.getValidatedClaims(token);
+            UserDetails userDetails = getUserDetails(claims);
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -46,6 +53,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Verified claims are cached, revocation is checked against the principal, which is reloaded once the user's
+     * password changes.
+     */
+    private UserDetails getUserDetails(Claims claims) {
+        Long userId = claims.get(JwtTokenProvider.USER_ID_CLAIM, Long.class);
+
+        UserPrincipal principal;
+        if (isNull(userId)) {
+            // Tokens issued before the userId claim was introduced
+            jwtTokenProvider.validateSubject(claims);
+            principal = (UserPrincipal) customUserDetailsService.loadUserByUsername(claims.getSubject());
+        } else {
+            principal = userPrincipalCache.get(userId);
+            if (isNull(principal) || !principal.getUsername().equals(claims.getSubject()))
+                throw new ApiException(ErrorMessage.INVALID_TOKEN, null, HttpStatus.UNAUTHORIZED);
+        }
+
+        if (principal.isTokenRevoked(claims.getIssuedAt()))
+            throw new ApiException(ErrorMessage.INVALID_TOKEN, null, HttpStatus.UNAUTHORIZED);
+        return principal;
+    }
+
     private String getJwtFromRequestHeader(HttpServletRequest request) {
         if (isNull(request.getHeader("Authorization"))) return null;
         String bearerToken = request.getHeader("Authorization");
@@ -0,0 +1,62 @@
+package healthy.lifestyle.backend.security;
+
+import static java.util.Objects.isNull;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the HMAC keys and a thread-safe parser which are built once at startup. Tokens are signed with the
+ * current key and carry its id in the kid header; tokens without kid are verified with the current key.
+ */
+@Getter
+@Component
+public class JwtKeyRing {
+    private final String signingKeyId;
+
+    private final SecretKey signingKey;
+
+    private final Map<String, SecretKey> keys;
+
+    private final JwtParser parser;
+
+    @Autowired
+    public JwtKeyRing(SecurityProps securityProps) {
+        SecurityProps.Jwt jwt = securityProps.Jwt();
+        Map<String, SecretKey> keys = new HashMap<>();
+        if (!isNull(jwt.retiredSecrets()))
+            jwt.retiredSecrets().forEach((keyId, secret) -> keys.put(keyId, Keys.hmacShaKeyFor(secret.getBytes())));
+
+        this.signingKeyId = jwt.keyId();
+        this.signingKey = Keys.hmacShaKeyFor(jwt.secret().getBytes());
+        keys.put(signingKeyId, signingKey);
+        this.keys = Map.copyOf(keys);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    private SecretKey resolveKey(String keyId) {
+        if (isNull(keyId)) return signingKey;
+        SecretKey key = keys.get(keyId);
+        if (isNull(key)) throw new SignatureException("Unknown signing key id");
+        return key;
+    }
+}
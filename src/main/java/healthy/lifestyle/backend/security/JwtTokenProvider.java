@@ -6,7 +6,6 @@ import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
 import healthy.lifestyle.backend.user.service.UserUtil;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import java.util.Date;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,43 +15,69 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenProvider {
+    public static final String USER_ID_CLAIM = "userId";
+
     @Autowired
     SecurityProps securityProps;
 
     @Autowired
     UserUtil userUtil;
 
+    @Autowired
+    JwtKeyRing jwtKeyRing;
+
+    @Autowired
+    VerifiedTokenCache verifiedTokenCache;
+
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         Date currentDate = new Date();
         Date expirationDate =
                 new Date(currentDate.getTime() + securityProps.Jwt().expirationMilliseconds());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRing.getSigningKeyId())
                 .setSubject(username)
                 .setIssuedAt(currentDate)
-                .setExpiration(expirationDate)
-                .signWith(Keys.hmacShaKeyFor(securityProps.Jwt().secret().getBytes()), SignatureAlgorithm.HS512)
+                .setExpiration(expirationDate);
+
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            builder.claim(USER_ID_CLAIM, principal.getUserId());
+        }
+
+        return builder.signWith(jwtKeyRing.getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public String getUsernameFromJwt(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(securityProps.Jwt().secret().getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = jwtKeyRing.getParser().parseClaimsJws(token).getBody();
 
         return claims.getSubject();
     }
 
     public boolean validateToken(String token) {
+        validateSubject(getValidatedClaims(token));
+        return true;
+    }
+
+    public void validateSubject(Claims claims) {
+        String usernameOrEmail = claims.getSubject();
+        if (userUtil.getUserByUsernameOrEmail(usernameOrEmail, usernameOrEmail).isEmpty()) {
+            throw new ApiException(ErrorMessage.INVALID_TOKEN, null, HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    /**
+     * Parses the token once and checks its signature and lifetime. Doesn't touch the database, the caller is
+     * responsible for checking that the subject still exists.
+     */
+    public Claims getValidatedClaims(String token) {
+        return verifiedTokenCache.get(token, this::parseClaims);
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(
-                            Keys.hmacShaKeyFor(securityProps.Jwt().secret().getBytes()))
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> claims = jwtKeyRing.getParser().parseClaimsJws(token);
 
             String signature = claims.getSignature();
             if (isNull(signature)) {
@@ -66,12 +91,7 @@ public class JwtTokenProvider {
                 throw new ApiException(ErrorMessage.INVALID_TOKEN, null, HttpStatus.UNAUTHORIZED);
             }
 
-            String usernameOrEmail = claims.getBody().getSubject();
-            if (userUtil.getUserByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
-                    .isEmpty()) {
-                throw new ApiException(ErrorMessage.INVALID_TOKEN, null, HttpStatus.UNAUTHORIZED);
-            }
-
+            return claims.getBody();
         } catch (ExpiredJwtException
                 | UnsupportedJwtException
                 | MalformedJwtException
@@ -79,7 +99,5 @@ public class JwtTokenProvider {
                 | IllegalArgumentException ex) {
             throw new ApiException(ErrorMessage.INVALID_TOKEN, null, HttpStatus.UNAUTHORIZED);
         }
-
-        return true;
     }
 }
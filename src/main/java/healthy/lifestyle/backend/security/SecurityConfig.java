@@ -82,6 +82,11 @@ public class SecurityConfig {
                         .permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html")
                         .permitAll()
+                        // Write operations of actuator endpoints reload caches or shut the app down
+                        .requestMatchers(HttpMethod.POST, "/actuator/**")
+                        .hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, "/actuator/**")
+                        .hasRole("ADMIN")
                         .anyRequest()
                         .authenticated());
 
@@ -1,8 +1,17 @@
 package healthy.lifestyle.backend.security;
 
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "security")
-public record SecurityProps(Jwt Jwt) {
-    public record Jwt(long expirationMilliseconds, String secret) {}
+public record SecurityProps(Jwt Jwt, PrincipalCache principalCache, TokenCache tokenCache) {
+    /**
+     * @param keyId id of the signing key, written to the kid header of issued tokens
+     * @param retiredSecrets keys that are no longer used for signing but still accepted, mapped by key id
+     */
+    public record Jwt(long expirationMilliseconds, String secret, String keyId, Map<String, String> retiredSecrets) {}
+
+    public record PrincipalCache(long maximumSize, long expireAfterWriteSeconds) {}
+
+    public record TokenCache(boolean enabled, long maximumSize) {}
 }
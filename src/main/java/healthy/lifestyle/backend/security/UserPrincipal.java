@@ -0,0 +1,42 @@
+package healthy.lifestyle.backend.security;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * Authenticated principal that carries the user id, so request handlers don't have to look the user up
+ * by username or email again.
+ */
+@Getter
+public class UserPrincipal extends User {
+    private final long userId;
+
+    /**
+     * Tokens issued before this instant are revoked, null if none are.
+     */
+    private final Instant tokensValidAfter;
+
+    public UserPrincipal(
+            long userId, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        this(userId, username, password, authorities, null);
+    }
+
+    public UserPrincipal(
+            long userId,
+            String username,
+            String password,
+            Collection<? extends GrantedAuthority> authorities,
+            Instant tokensValidAfter) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.tokensValidAfter = tokensValidAfter;
+    }
+
+    public boolean isTokenRevoked(Date issuedAt) {
+        return tokensValidAfter != null && issuedAt.toInstant().isBefore(tokensValidAfter);
+    }
+}
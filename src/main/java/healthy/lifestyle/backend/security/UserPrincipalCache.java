@@ -0,0 +1,49 @@
+package healthy.lifestyle.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, TTL-evicted cache of authenticated principals keyed by user id. Keeps the JWT hot path free of
+ * database round-trips; entries must be evicted whenever the user's identity or role changes.
+ */
+@Component
+public class UserPrincipalCache {
+    private final CustomUserDetailsService customUserDetailsService;
+
+    private final Cache<Long, UserPrincipal> cache;
+
+    @Autowired
+    public UserPrincipalCache(CustomUserDetailsService customUserDetailsService, SecurityProps securityProps) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(securityProps.principalCache().maximumSize())
+                .expireAfterWrite(
+                        Duration.ofSeconds(securityProps.principalCache().expireAfterWriteSeconds()))
+                .build();
+    }
+
+    /**
+     * Returns null if the user doesn't exist anymore.
+     */
+    public UserPrincipal get(long userId) {
+        return cache.get(userId, id -> customUserDetailsService.loadUserById(id).orElse(null));
+    }
+
+    public void evict(long userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package healthy.lifestyle.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Claims of already verified tokens, keyed by the SHA-256 digest of the token so raw bearer tokens are not
+ * kept in memory. An entry expires together with its token. Hit and miss counts are exported as the
+ * verifiedTokens cache metrics.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final boolean enabled;
+
+    private final Cache<String, Claims> cache;
+
+    @Autowired
+    public VerifiedTokenCache(SecurityProps securityProps, MeterRegistry meterRegistry) {
+        this.enabled = securityProps.tokenCache().enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(securityProps.tokenCache().maximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    /**
+     * Returns the cached claims or verifies the token with the given function. Tokens that fail the
+     * verification are not cached.
+     */
+    public Claims get(String token, Function<String, Claims> verifier) {
+        if (!enabled) return verifier.apply(token);
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * Frees the entries of a removed user or a user whose tokens were revoked. Revocation itself is checked by
+     * {@link JwtAuthFilter}, a token verified again after the eviction is cached again. Runs again once the
+     * transaction completes, so that a concurrent request can't keep the entries of that transaction.
+     */
+    public void evictUser(long userId) {
+        removeUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removeUser(userId);
+                }
+            });
+        }
+    }
+
+    private void removeUser(long userId) {
+        cache.asMap()
+                .values()
+                .removeIf(claims -> Objects.equals(claims.get(JwtTokenProvider.USER_ID_CLAIM, Long.class), userId));
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long millisToExpiration = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millisToExpiration, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package healthy.lifestyle.backend.shared.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maximumWeight memory budget of {@link UserListingCache}, in listed items; a page weighs its number of items
+ * plus one
+ * @param expireAfterAccessSeconds drops listings nobody has requested for a while, including the ones left behind by
+ * version bumps
+ * @param expireAfterWriteSeconds drops listings this long after they were loaded, even when requested meanwhile; the
+ * staleness bound for writes made through other instances
+ */
+@ConfigurationProperties(prefix = "listing-cache")
+public record ListingCacheProps(
+        boolean enabled, long maximumWeight, long expireAfterAccessSeconds, long expireAfterWriteSeconds) {}
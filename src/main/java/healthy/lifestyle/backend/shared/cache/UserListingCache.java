@@ -0,0 +1,123 @@
+package healthy.lifestyle.backend.shared.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.shared.pagination.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listings requested by a user, e.g. the pages of "my workouts", keyed by the user, the resource, the query (filter,
+ * sort and page) and the version of the user. {@link #bump(long)} gives the user a new version whenever they create,
+ * update or delete a custom resource, listings of older versions are never hit again and age out. The
+ * {@link DefaultCatalog} version is part of the key as well, since most listings include default resources.
+ * <p>
+ * The versions of users live in this instance only. With several instances, writes made through another instance
+ * don't bump the version here, so a listing is cached no longer than {@link ListingCacheProps#expireAfterWriteSeconds}
+ * since it was loaded, which bounds how stale it can be.
+ * <p>
+ * Bounded by the number of listed items, see {@link ListingCacheProps}. Hit and miss counts are exported as the
+ * userListings cache metrics.
+ */
+@Component
+public class UserListingCache {
+    private final boolean enabled;
+
+    private final Cache<Key, Object> cache;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
+
+    private record Key(long userId, long version, String catalogVersion, String resource, List<?> query) {}
+
+    @Autowired
+    public UserListingCache(ListingCacheProps listingCacheProps, MeterRegistry meterRegistry) {
+        this(listingCacheProps, meterRegistry, Ticker.systemTicker());
+    }
+
+    UserListingCache(ListingCacheProps listingCacheProps, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = listingCacheProps.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(listingCacheProps.maximumWeight())
+                .weigher((Key key, Object listing) -> weigh(listing))
+                .expireAfterAccess(Duration.ofSeconds(listingCacheProps.expireAfterAccessSeconds()))
+                .expireAfterWrite(Duration.ofSeconds(listingCacheProps.expireAfterWriteSeconds()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userListings");
+    }
+
+    /**
+     * Returns the cached listing or loads it. Listings without a user aren't cached, neither are failed loads. The
+     * query must hold everything the listing depends on besides the user, see {@link #ignoreCase(String)}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, String resource, List<?> query, Supplier<T> loader) {
+        if (!enabled || userId == null) return loader.get();
+        Key key = new Key(userId, versions.getOrDefault(userId, 0L), defaultCatalog.getVersion(), resource, query);
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * Again after the transaction completes, otherwise a listing loaded before the commit could be cached under the
+     * new version.
+     */
+    public void bump(long userId) {
+        advance(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    advance(userId);
+                }
+            });
+        }
+    }
+
+    public void evictUser(long userId) {
+        versions.remove(userId);
+        cache.asMap().keySet().removeIf(key -> key.userId() == userId);
+    }
+
+    public void invalidateAll() {
+        versions.clear();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Title, name and description filters match case-insensitively, so their case doesn't make a different query.
+     */
+    public static String ignoreCase(String filterValue) {
+        return filterValue == null ? null : filterValue.toLowerCase(Locale.ROOT);
+    }
+
+    private void advance(long userId) {
+        versions.put(userId, sequence.incrementAndGet());
+    }
+
+    private static int weigh(Object listing) {
+        if (listing instanceof Slice<?> slice) return slice.getNumberOfElements() + 1;
+        if (listing instanceof CursorPage<?> cursorPage && cursorPage.getContent() != null)
+            return cursorPage.getContent().size() + 1;
+        return 1;
+    }
+}
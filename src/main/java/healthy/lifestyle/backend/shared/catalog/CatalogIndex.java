@@ -0,0 +1,405 @@
+package healthy.lifestyle.backend.shared.catalog;
+
+import healthy.lifestyle.backend.exception.ApiException;
+import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.pagination.KeysetCursor;
+import healthy.lifestyle.backend.shared.reference.BodyPartBitmapIndex;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Immutable in-memory counterpart of the filter specifications of default resources. Rows are kept in id order, a
+ * filter is a bitmap of row positions built from:
+ * <ul>
+ *     <li>text fields: a trigram index of the lower-cased text, {@link Filter#containsIgnoreCase} matches the value
+ *     literally like {@link healthy.lifestyle.backend.shared.specification.FilterSpecifications#containsIgnoreCase}
+ *     </li>
+ *     <li>term fields: a bitmap per distinct value for {@link Filter#equal}</li>
+ *     <li>mask fields: a {@link BodyPartBitmapIndex} for {@link Filter#hasAnyBit}</li>
+ * </ul>
+ * Sort fields have their order prebuilt, ties are ordered by id. Strings are ordered by code points, which is the
+ * order of the ucs_basic collation in Postgres rather than of the database collation, see
+ * {@link healthy.lifestyle.backend.shared.specification.FilterSpecifications#orderedLikeCatalog}. Nulls are last in
+ * ascending and first in descending order like in Postgres.
+ * <p>
+ * Rows are shared between callers and must not be modified.
+ */
+public final class CatalogIndex<D> {
+    private static final Comparator<Object> KEY_ORDER = Comparator.nullsLast(CatalogIndex::compareKeys);
+
+    private final ToLongFunction<D> id;
+
+    private final List<D> rows;
+
+    private final long[] ids;
+
+    private final BitSet all;
+
+    private final Map<String, TextIndex> texts;
+
+    private final Map<String, Map<Object, BitSet>> terms;
+
+    private final Map<String, BodyPartBitmapIndex> masks;
+
+    private final Map<String, SortOrder> sortOrders;
+
+    private CatalogIndex(Builder<D> builder) {
+        id = builder.id;
+        rows = builder.rows.stream().sorted(Comparator.comparingLong(id)).toList();
+        ids = rows.stream().mapToLong(id).toArray();
+        all = new BitSet(rows.size());
+        all.set(0, rows.size());
+
+        Map<String, TextIndex> texts = new HashMap<>();
+        builder.texts.forEach((field, text) -> texts.put(field, new TextIndex(rows, text)));
+        this.texts = Map.copyOf(texts);
+
+        Map<String, Map<Object, BitSet>> terms = new HashMap<>();
+        builder.terms.forEach((field, term) -> {
+            Map<Object, BitSet> bitmaps = new HashMap<>();
+            for (int position = 0; position < rows.size(); position++) {
+                Object value = term.apply(rows.get(position));
+                if (value != null)
+                    bitmaps.computeIfAbsent(value, key -> new BitSet()).set(position);
+            }
+            terms.put(field, Map.copyOf(bitmaps));
+        });
+        this.terms = Map.copyOf(terms);
+
+        Map<String, BodyPartBitmapIndex> masks = new HashMap<>();
+        builder.masks.forEach((field, mask) -> masks.put(field, new BodyPartBitmapIndex(rows, mask)));
+        this.masks = Map.copyOf(masks);
+
+        Map<String, SortOrder> sortOrders = new HashMap<>();
+        builder.sortKeys.forEach((field, key) -> sortOrders.put(field, new SortOrder(key)));
+        sortOrders.put(KeysetCursor.ID, new SortOrder(id::applyAsLong));
+        this.sortOrders = Map.copyOf(sortOrders);
+    }
+
+    public static <D> Builder<D> builder(List<D> rows, ToLongFunction<D> id) {
+        return new Builder<>(rows, id);
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * All rows in id order.
+     */
+    public List<D> rows() {
+        return rows;
+    }
+
+    public Optional<D> findById(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position < 0 ? Optional.empty() : Optional.of(rows.get(position));
+    }
+
+    /**
+     * Whether every property of the sort has a prebuilt order, otherwise the query has to go to the database.
+     */
+    public boolean sortsBy(Sort sort) {
+        return sort.isSorted() && sort.stream().allMatch(order -> sortOrders.containsKey(order.getProperty()));
+    }
+
+    public Filter filter() {
+        return new Filter();
+    }
+
+    /**
+     * The first rows of other rows needed to merge them into the given page, see {@link Filter#page(Pageable, Page)}.
+     */
+    public static Pageable otherRowsWindow(Pageable pageable) {
+        return PageRequest.of(0, (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareKeys(Object key, Object other) {
+        if (key instanceof String string && other instanceof String otherString)
+            return compareCodePoints(string, otherString);
+        return ((Comparable) key).compareTo(other);
+    }
+
+    /**
+     * Unlike {@link String#compareTo}, which compares UTF-16 chars, orders supplementary characters after all other
+     * characters like the UTF-8 bytes compared by Postgres.
+     */
+    private static int compareCodePoints(String string, String other) {
+        int i = 0;
+        int j = 0;
+        while (i < string.length() && j < other.length()) {
+            int codePoint = string.codePointAt(i);
+            int otherCodePoint = other.codePointAt(j);
+            if (codePoint != otherCodePoint) return Integer.compare(codePoint, otherCodePoint);
+            i += Character.charCount(codePoint);
+            j += Character.charCount(otherCodePoint);
+        }
+        return Integer.compare(string.length() - i, other.length() - j);
+    }
+
+    /**
+     * Like {@link org.springframework.data.jpa.domain.Specification}s, a null filter value leaves the filter as is.
+     */
+    public final class Filter {
+        private final BitSet matches = (BitSet) all.clone();
+
+        private Filter() {}
+
+        public Filter containsIgnoreCase(String field, String value) {
+            if (value != null) matches.and(texts.get(field).matchContaining(value));
+            return this;
+        }
+
+        public Filter equal(String field, Object value) {
+            if (value != null) {
+                BitSet bitmap = terms.get(field).get(value);
+                if (bitmap == null) matches.clear();
+                else matches.and(bitmap);
+            }
+            return this;
+        }
+
+        public Filter hasAnyBit(String field, Long mask) {
+            if (mask != null) matches.and(masks.get(field).matchAny(mask));
+            return this;
+        }
+
+        public Page<D> page(Pageable pageable) {
+            return page(pageable, Page.empty());
+        }
+
+        /**
+         * Merges the matching rows with other rows, e.g. custom resources of the user already filtered by the
+         * database, in the order of the page sort. Only the first rows of the {@link #otherRowsWindow} in the same
+         * order are needed, the total of the page counts all of the other rows. The rows of the page don't need to
+         * be sorted.
+         */
+        public Page<D> page(Pageable pageable, Page<D> others) {
+            Sort.Order order = pageable.getSort().iterator().next();
+            SortOrder sortOrder = sortOrders.get(order.getProperty());
+            Comparator<D> comparator = order.isAscending() ? sortOrder.comparator : sortOrder.comparator.reversed();
+            List<D> sortedOthers = others.stream().sorted(comparator).toList();
+
+            PrimitiveIterator.OfInt positions = sortOrder.positions(order.isAscending(), -1);
+            int next = nextMatch(positions);
+            int otherIndex = 0;
+            long skip = pageable.getOffset();
+            List<D> content = new ArrayList<>(pageable.getPageSize());
+            while (content.size() < pageable.getPageSize() && (next >= 0 || otherIndex < sortedOthers.size())) {
+                D row;
+                if (next >= 0
+                        && (otherIndex == sortedOthers.size()
+                                || comparator.compare(rows.get(next), sortedOthers.get(otherIndex)) <= 0)) {
+                    row = rows.get(next);
+                    next = nextMatch(positions);
+                } else {
+                    row = sortedOthers.get(otherIndex++);
+                }
+                if (skip > 0) skip--;
+                else content.add(row);
+            }
+            return new PageImpl<>(content, pageable, matches.cardinality() + others.getTotalElements());
+        }
+
+        /**
+         * Keyset scrolling over the matching rows, the sort and the position come from {@link KeysetCursor}.
+         */
+        public Window<D> scroll(Sort sort, KeysetScrollPosition position, int limit) {
+            Sort.Order order = sort.iterator().next();
+            SortOrder sortOrder = sortOrders.get(order.getProperty());
+            int start = -1;
+            if (!position.isInitial()) {
+                Map<String, Object> keys = position.getKeys();
+                start = sortOrder.positionAfter(
+                        keys.get(order.getProperty()), (Long) keys.get(KeysetCursor.ID), order.isAscending());
+            }
+
+            PrimitiveIterator.OfInt positions = sortOrder.positions(order.isAscending(), start);
+            List<D> content = new ArrayList<>(limit);
+            int next = nextMatch(positions);
+            while (next >= 0 && content.size() < limit) {
+                content.add(rows.get(next));
+                next = nextMatch(positions);
+            }
+            List<Function<D, Object>> keys = sort.stream()
+                    .map(sortProperty -> sortOrders.get(sortProperty.getProperty()).key)
+                    .toList();
+            List<String> properties = sort.stream().map(Sort.Order::getProperty).toList();
+            return Window.from(
+                    content,
+                    index -> {
+                        Map<String, Object> rowKeys = new LinkedHashMap<>();
+                        for (int i = 0; i < properties.size(); i++)
+                            rowKeys.put(properties.get(i), keys.get(i).apply(content.get(index)));
+                        return ScrollPosition.forward(rowKeys);
+                    },
+                    next >= 0);
+        }
+
+        private int nextMatch(PrimitiveIterator.OfInt positions) {
+            while (positions.hasNext()) {
+                int position = positions.nextInt();
+                if (matches.get(position)) return position;
+            }
+            return -1;
+        }
+    }
+
+    private final class SortOrder {
+        private final Function<D, Object> key;
+
+        private final Comparator<D> comparator;
+
+        /**
+         * Row positions in ascending order.
+         */
+        private final int[] positions;
+
+        @SuppressWarnings("unchecked")
+        private SortOrder(Function<D, ?> key) {
+            this.key = (Function<D, Object>) key;
+            comparator = Comparator.comparing(this.key, KEY_ORDER).thenComparingLong(id);
+            positions = IntStream.range(0, rows.size())
+                    .boxed()
+                    .sorted(Comparator.comparing(rows::get, comparator))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        /**
+         * Positions following the given index of {@link #positions} in the direction of the sort, all positions for
+         * -1.
+         */
+        private PrimitiveIterator.OfInt positions(boolean ascending, int after) {
+            return new PrimitiveIterator.OfInt() {
+                private int index = after < 0 ? (ascending ? 0 : positions.length - 1) : after + (ascending ? 1 : -1);
+
+                @Override
+                public boolean hasNext() {
+                    return index >= 0 && index < positions.length;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    int position = positions[index];
+                    index += ascending ? 1 : -1;
+                    return position;
+                }
+            };
+        }
+
+        /**
+         * Index of {@link #positions} to scroll from, see {@link #positions(boolean, int)}: the last index not after
+         * the keys in ascending order, the first index not before them in descending order.
+         */
+        private int positionAfter(Object keyValue, long idValue, boolean ascending) {
+            int low = 0;
+            int high = positions.length;
+            try {
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    D row = rows.get(positions[middle]);
+                    int compared = KEY_ORDER.compare(key.apply(row), keyValue);
+                    if (compared == 0) compared = Long.compare(id.applyAsLong(row), idValue);
+                    if (compared < 0 || (ascending && compared == 0)) low = middle + 1;
+                    else high = middle;
+                }
+            } catch (ClassCastException e) {
+                throw new ApiException(ErrorMessage.INVALID_CURSOR, null, HttpStatus.BAD_REQUEST);
+            }
+            return ascending ? low - 1 : low;
+        }
+    }
+
+    private static final class TextIndex {
+        private static final int GRAM = 3;
+
+        private final String[] lowered;
+
+        private final Map<String, BitSet> grams;
+
+        private <D> TextIndex(List<D> rows, Function<D, String> text) {
+            lowered = new String[rows.size()];
+            Map<String, BitSet> grams = new HashMap<>();
+            for (int position = 0; position < rows.size(); position++) {
+                String value = text.apply(rows.get(position));
+                if (value == null) continue;
+                lowered[position] = value.toLowerCase(Locale.ROOT);
+                for (int i = 0; i + GRAM <= lowered[position].length(); i++)
+                    grams.computeIfAbsent(lowered[position].substring(i, i + GRAM), gram -> new BitSet())
+                            .set(position);
+            }
+            this.grams = Map.copyOf(grams);
+        }
+
+        /**
+         * The value is a literal, '%' and '_' included. The trigrams of the value narrow down the rows which are then
+         * checked one by one.
+         */
+        private BitSet matchContaining(String value) {
+            String part = value.toLowerCase(Locale.ROOT);
+            BitSet candidates = new BitSet(lowered.length);
+            candidates.set(0, lowered.length);
+            for (int i = 0; i + GRAM <= part.length(); i++) {
+                BitSet bitmap = grams.get(part.substring(i, i + GRAM));
+                if (bitmap == null) return new BitSet();
+                candidates.and(bitmap);
+            }
+            for (int position = candidates.nextSetBit(0);
+                    position >= 0;
+                    position = candidates.nextSetBit(position + 1)) {
+                if (lowered[position] == null || !lowered[position].contains(part)) candidates.clear(position);
+            }
+            return candidates;
+        }
+    }
+
+    public static final class Builder<D> {
+        private final List<D> rows;
+
+        private final ToLongFunction<D> id;
+
+        private final Map<String, Function<D, String>> texts = new HashMap<>();
+
+        private final Map<String, Function<D, ?>> terms = new HashMap<>();
+
+        private final Map<String, ToLongFunction<D>> masks = new HashMap<>();
+
+        private final Map<String, Function<D, ? extends Comparable<?>>> sortKeys = new HashMap<>();
+
+        private Builder(List<D> rows, ToLongFunction<D> id) {
+            this.rows = rows;
+            this.id = id;
+        }
+
+        public Builder<D> text(String field, Function<D, String> text) {
+            texts.put(field, text);
+            return this;
+        }
+
+        public Builder<D> term(String field, Function<D, ?> term) {
+            terms.put(field, term);
+            return this;
+        }
+
+        public Builder<D> mask(String field, ToLongFunction<D> mask) {
+            masks.put(field, mask);
+            return this;
+        }
+
+        public Builder<D> sortKey(String field, Function<D, ? extends Comparable<?>> key) {
+            sortKeys.put(field, key);
+            return this;
+        }
+
+        public CatalogIndex<D> build() {
+            return new CatalogIndex<>(this);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package healthy.lifestyle.backend.shared.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import healthy.lifestyle.backend.activity.mental.dto.MentalActivityResponseDto;
+import healthy.lifestyle.backend.activity.mental.dto.MentalWorkoutResponseDto;
+import healthy.lifestyle.backend.activity.mental.mapper.MentalMapper;
+import healthy.lifestyle.backend.activity.mental.model.MentalActivity;
+import healthy.lifestyle.backend.activity.mental.repository.MentalActivityRepository;
+import healthy.lifestyle.backend.activity.mental.repository.MentalWorkoutRepository;
+import healthy.lifestyle.backend.activity.nutrition.dto.NutritionResponseDto;
+import healthy.lifestyle.backend.activity.nutrition.mapper.NutritionMapper;
+import healthy.lifestyle.backend.activity.nutrition.repository.NutritionRepository;
+import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.WorkoutResponseDto;
+import healthy.lifestyle.backend.activity.workout.mapper.ExerciseMapper;
+import healthy.lifestyle.backend.activity.workout.mapper.WorkoutMapper;
+import healthy.lifestyle.backend.activity.workout.model.Exercise;
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.activity.workout.repository.ExerciseRepository;
+import healthy.lifestyle.backend.activity.workout.repository.WorkoutRepository;
+import healthy.lifestyle.backend.shared.util.ContentDigest;
+import healthy.lifestyle.backend.shared.util.ReloadableData;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Default exercises, workouts and mental activities are seeded by changelogs, read-only and the same for every user,
+ * so they are loaded once and filtered, sorted and paged in memory, see {@link CatalogIndex}. Field names of the
+ * indexes are the attribute names of the filter specifications. Default nutritions and mental workouts are only
+ * looked up by id.
+ * <p>
+ * {@link #getVersion()} changes whenever the content does, it's part of the ETags of default content responses.
+ * <p>
+ * {@link #refresh()} reloads the catalog, it's exposed by {@link DefaultCatalogEndpoint}.
+ */
+@Component
+public class DefaultCatalog implements ReloadableData {
+    @Autowired
+    ExerciseRepository exerciseRepository;
+
+    @Autowired
+    WorkoutRepository workoutRepository;
+
+    @Autowired
+    MentalActivityRepository mentalActivityRepository;
+
+    @Autowired
+    MentalWorkoutRepository mentalWorkoutRepository;
+
+    @Autowired
+    NutritionRepository nutritionRepository;
+
+    @Autowired
+    ExerciseMapper exerciseMapper;
+
+    @Autowired
+    WorkoutMapper workoutMapper;
+
+    @Autowired
+    MentalMapper mentalMapper;
+
+    @Autowired
+    NutritionMapper nutritionMapper;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(
+            CatalogIndex<ExerciseResponseDto> exercises,
+            CatalogIndex<WorkoutResponseDto> workouts,
+            CatalogIndex<MentalActivityResponseDto> mentalActivities,
+            CatalogIndex<MentalWorkoutResponseDto> mentalWorkouts,
+            CatalogIndex<NutritionResponseDto> nutritions,
+            String version,
+            Instant loadedAt) {}
+
+    @Override
+    @PostConstruct
+    public void refresh() {
+        snapshot = load();
+    }
+
+    /**
+     * Loads in a separate read-only transaction, so that the entities never join the persistence context of the
+     * request which happens to trigger the load.
+     */
+    private Snapshot load() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> {
+            List<Exercise> exercises = exerciseRepository.findAllDefaultWithBodyPartsAndHttpRefs();
+            // Exercises of default workouts are default exercises, which are already loaded with their associations
+            List<Workout> workouts = workoutRepository.findAllDefaultWithExercises();
+            List<MentalActivity> mentalActivities = mentalActivityRepository.findAllDefaultWithHttpRefs();
+            // Same for the mental activities of default mental workouts
+            List<MentalWorkoutResponseDto> mentalWorkouts =
+                    mentalWorkoutRepository.findAllDefaultWithMentalActivities().stream()
+                            .map(mentalMapper::toResponseDto)
+                            .toList();
+            List<NutritionResponseDto> nutritions = nutritionRepository.findAllDefaultWithHttpRefsAndType().stream()
+                    .map(nutritionMapper::toResponseDto)
+                    .toList();
+
+            CatalogIndex<ExerciseResponseDto> exerciseIndex = indexExercises(exercises);
+            CatalogIndex<WorkoutResponseDto> workoutIndex = indexWorkouts(workouts);
+            CatalogIndex<MentalActivityResponseDto> mentalActivityIndex = CatalogIndex.builder(
+                            mentalActivities.stream()
+                                    .map(mentalMapper::toResponseDto)
+                                    .toList(),
+                            MentalActivityResponseDto::getId)
+                    .text("title", MentalActivityResponseDto::getTitle)
+                    .text("description", MentalActivityResponseDto::getDescription)
+                    .term("mentalTypeId", MentalActivityResponseDto::getMentalTypeId)
+                    .sortKey("title", MentalActivityResponseDto::getTitle)
+                    .sortKey("description", MentalActivityResponseDto::getDescription)
+                    .build();
+            CatalogIndex<MentalWorkoutResponseDto> mentalWorkoutIndex = CatalogIndex.builder(
+                            mentalWorkouts, MentalWorkoutResponseDto::getId)
+                    .build();
+            CatalogIndex<NutritionResponseDto> nutritionIndex = CatalogIndex.builder(
+                            nutritions, NutritionResponseDto::getId)
+                    .build();
+            return new Snapshot(
+                    exerciseIndex,
+                    workoutIndex,
+                    mentalActivityIndex,
+                    mentalWorkoutIndex,
+                    nutritionIndex,
+                    ContentDigest.of(
+                            objectMapper,
+                            exerciseIndex.rows(),
+                            workoutIndex.rows(),
+                            mentalActivityIndex.rows(),
+                            mentalWorkoutIndex.rows(),
+                            nutritionIndex.rows()),
+                    Instant.now());
+        });
+    }
+
+    private CatalogIndex<ExerciseResponseDto> indexExercises(List<Exercise> exercises) {
+        Map<Long, Long> masks =
+                exercises.stream().collect(Collectors.toMap(Exercise::getId, Exercise::getBodyPartsMask));
+        return CatalogIndex.builder(
+                        exercises.stream().map(exerciseMapper::toResponseDto).toList(), ExerciseResponseDto::getId)
+                .text("title", ExerciseResponseDto::getTitle)
+                .text("description", ExerciseResponseDto::getDescription)
+                .term("needsEquipment", ExerciseResponseDto::isNeedsEquipment)
+                .mask("bodyPartsMask", exercise -> masks.get(exercise.getId()))
+                .sortKey("title", ExerciseResponseDto::getTitle)
+                .sortKey("description", ExerciseResponseDto::getDescription)
+                .sortKey("needsEquipment", ExerciseResponseDto::isNeedsEquipment)
+                .build();
+    }
+
+    private CatalogIndex<WorkoutResponseDto> indexWorkouts(List<Workout> workouts) {
+        Map<Long, Long> masks = workouts.stream().collect(Collectors.toMap(Workout::getId, Workout::getBodyPartsMask));
+        return CatalogIndex.builder(
+                        workouts.stream().map(workoutMapper::toResponseDto).toList(), WorkoutResponseDto::getId)
+                .text("title", WorkoutResponseDto::getTitle)
+                .text("description", WorkoutResponseDto::getDescription)
+                .term("needsEquipment", WorkoutResponseDto::isNeedsEquipment)
+                .mask("bodyPartsMask", workout -> masks.get(workout.getId()))
+                .sortKey("title", WorkoutResponseDto::getTitle)
+                .sortKey("description", WorkoutResponseDto::getDescription)
+                .sortKey("needsEquipment", WorkoutResponseDto::isNeedsEquipment)
+                .build();
+    }
+
+    public CatalogIndex<ExerciseResponseDto> getExercises() {
+        return snapshot.exercises();
+    }
+
+    public CatalogIndex<WorkoutResponseDto> getWorkouts() {
+        return snapshot.workouts();
+    }
+
+    public CatalogIndex<MentalActivityResponseDto> getMentalActivities() {
+        return snapshot.mentalActivities();
+    }
+
+    public Optional<MentalWorkoutResponseDto> findMentalWorkoutById(long id) {
+        return snapshot.mentalWorkouts().findById(id);
+    }
+
+    public Optional<NutritionResponseDto> findNutritionById(long id) {
+        return snapshot.nutritions().findById(id);
+    }
+
+    public String getVersion() {
+        return snapshot.version();
+    }
+
+    public Optional<ExerciseResponseDto> findExerciseById(long id) {
+        return getExercises().findById(id);
+    }
+
+    public Optional<WorkoutResponseDto> findWorkoutById(long id) {
+        return getWorkouts().findById(id);
+    }
+
+    public Optional<MentalActivityResponseDto> findMentalActivityById(long id) {
+        return getMentalActivities().findById(id);
+    }
+
+    @Override
+    public Map<String, Object> getSummary() {
+        Snapshot current = snapshot;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("exercises", current.exercises().size());
+        summary.put("workouts", current.workouts().size());
+        summary.put("mentalActivities", current.mentalActivities().size());
+        summary.put("mentalWorkouts", current.mentalWorkouts().size());
+        summary.put("nutritions", current.nutritions().size());
+        summary.put("version", current.version());
+        summary.put("loadedAt", current.loadedAt());
+        return summary;
+    }
+}
@@ -0,0 +1,18 @@
+package healthy.lifestyle.backend.shared.catalog;
+
+import healthy.lifestyle.backend.shared.util.ReloadableDataEndpoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the default catalog after a changelog has altered default content.
+ */
+@Component
+@Endpoint(id = "defaultcatalog")
+public class DefaultCatalogEndpoint extends ReloadableDataEndpoint {
+    @Autowired
+    public DefaultCatalogEndpoint(DefaultCatalog defaultCatalog) {
+        super(defaultCatalog);
+    }
+}
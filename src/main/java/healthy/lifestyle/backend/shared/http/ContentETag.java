@@ -0,0 +1,63 @@
+package healthy.lifestyle.backend.shared.http;
+
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Strong ETag of {@link VersionedContent} responses, built from the versions of the default catalog and the reference
+ * data. It changes on every instance at once when either is reloaded with different content, and stays the same
+ * across restarts and instances otherwise.
+ */
+@Component
+public class ContentETag {
+    /**
+     * The ETag taken before the handler runs. Content reloaded meanwhile then goes out with the older ETag, which
+     * only makes the next conditional request fetch it again.
+     */
+    static final String REQUEST_ATTRIBUTE = ContentETag.class.getName() + ".eTag";
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
+
+    @Autowired
+    ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    HttpCacheProps httpCacheProps;
+
+    public String current() {
+        return "\"" + defaultCatalog.getVersion() + "-" + referenceDataRegistry.getVersion() + "\"";
+    }
+
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(httpCacheProps.maxAgeSeconds()))
+                .cachePublic();
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match: a W/ prefix is ignored. * isn't matched here, see
+     * {@link #matchesAny}.
+     */
+    public boolean matches(String ifNoneMatch, String eTag) {
+        if (!StringUtils.hasText(ifNoneMatch)) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) trimmed = trimmed.substring(2);
+            if (trimmed.equals(eTag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * If-None-Match: * matches only when the resource exists. The ETag is the same for all resources, so unlike a
+     * concrete ETag it can't be answered before the handler has found the resource.
+     */
+    public boolean matchesAny(String ifNoneMatch) {
+        return StringUtils.hasText(ifNoneMatch) && ifNoneMatch.trim().equals("*");
+    }
+}
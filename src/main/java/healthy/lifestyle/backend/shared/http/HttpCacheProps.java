@@ -0,0 +1,9 @@
+package healthy.lifestyle.backend.shared.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxAgeSeconds how long clients may reuse a {@link VersionedContent} response before revalidating it
+ */
+@ConfigurationProperties(prefix = "http-cache")
+public record HttpCacheProps(long maxAgeSeconds) {}
@@ -0,0 +1,15 @@
+package healthy.lifestyle.backend.shared.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks GET handlers whose response depends only on the request and on default content or reference data, never on
+ * the user. Such responses get the ETag of {@link ContentETag} and a public Cache-Control header, and a request whose
+ * If-None-Match holds the current ETag is answered with 304 before the handler runs.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VersionedContent {}
@@ -0,0 +1,54 @@
+package healthy.lifestyle.backend.shared.http;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the ETag and Cache-Control headers to successful responses of {@link VersionedContent} handlers. Error
+ * responses are written by exception handlers, which this advice doesn't apply to. A successful response to
+ * If-None-Match: * becomes 304 without body, a missing resource keeps its error status.
+ */
+@ControllerAdvice
+public class VersionedContentAdvice implements ResponseBodyAdvice<Object> {
+    @Autowired
+    ContentETag contentETag;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(VersionedContent.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (response instanceof ServletServerHttpResponse servletResponse
+                && HttpStatus.valueOf(servletResponse.getServletResponse().getStatus())
+                        .is2xxSuccessful()) {
+            Object eTag = request instanceof ServletServerHttpRequest servletRequest
+                    ? servletRequest.getServletRequest().getAttribute(ContentETag.REQUEST_ATTRIBUTE)
+                    : null;
+            response.getHeaders().setETag(eTag != null ? (String) eTag : contentETag.current());
+            response.getHeaders().setCacheControl(contentETag.cacheControl());
+            if (contentETag.matchesAny(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+                servletResponse.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return null;
+            }
+        }
+        return body;
+    }
+}
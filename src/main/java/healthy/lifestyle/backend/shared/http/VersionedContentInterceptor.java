@@ -0,0 +1,39 @@
+package healthy.lifestyle.backend.shared.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers conditional requests to {@link VersionedContent} handlers with 304 when the client already has the current
+ * content, so neither the handler nor the service layer runs. If-None-Match: * is left to
+ * {@link VersionedContentAdvice}, since only the handler knows whether the resource exists.
+ */
+@Component
+public class VersionedContentInterceptor implements HandlerInterceptor {
+    @Autowired
+    ContentETag contentETag;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(VersionedContent.class)) return true;
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) return true;
+
+        String eTag = contentETag.current();
+        if (!contentETag.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            request.setAttribute(ContentETag.REQUEST_ATTRIBUTE, eTag);
+            return true;
+        }
+
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, contentETag.cacheControl().getHeaderValue());
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package healthy.lifestyle.backend.shared.pagination;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * Page of a keyset (cursor) listing. Unlike {@link org.springframework.data.domain.Page} it has no total count,
+ * the next page is requested with {@link #nextCursor}, which is null on the last page.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+}
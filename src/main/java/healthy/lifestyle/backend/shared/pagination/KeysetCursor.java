@@ -0,0 +1,87 @@
+package healthy.lifestyle.backend.shared.pagination;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import healthy.lifestyle.backend.exception.ApiException;
+import healthy.lifestyle.backend.exception.ErrorMessage;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encodes keyset scroll positions into opaque cursors and back. A cursor is the url-safe base64 of the sort key
+ * values of the last row of a page, the id is always part of the sort key to make it unique. Sort fields are given
+ * with the type of their attribute, a decoded key of another type is rejected before it reaches a query.
+ */
+@Component
+public class KeysetCursor {
+    public static final String ID = "id";
+
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    public void validatePageSize(int pageSize) {
+        if (pageSize < 1) throw new ApiException(ErrorMessage.INVALID_PAGE_SIZE, null, HttpStatus.BAD_REQUEST);
+    }
+
+    public Sort sort(String sortField, String sortDirection, Map<String, Class<?>> sortFields) {
+        if (!sortFields.containsKey(sortField))
+            throw new ApiException(ErrorMessage.INVALID_CURSOR_SORT_FIELD, null, HttpStatus.BAD_REQUEST);
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = Sort.by(direction, sortField);
+        return ID.equals(sortField) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    public KeysetScrollPosition decode(String cursor, Sort sort, Map<String, Class<?>> sortFields) {
+        if (cursor == null || cursor.isBlank()) return ScrollPosition.keyset();
+
+        Map<String, Object> keys;
+        try {
+            keys = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), KEYS_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ApiException(ErrorMessage.INVALID_CURSOR, null, HttpStatus.BAD_REQUEST);
+        }
+
+        Set<String> sortProperties = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+        if (!keys.keySet().equals(sortProperties) || !(keys.get(ID) instanceof Number id))
+            throw new ApiException(ErrorMessage.INVALID_CURSOR, null, HttpStatus.BAD_REQUEST);
+
+        keys.put(ID, id.longValue());
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            if (!sortFields.get(key.getKey()).isInstance(key.getValue()))
+                throw new ApiException(ErrorMessage.INVALID_CURSOR, null, HttpStatus.BAD_REQUEST);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public <T> CursorPage<T> toPage(Window<?> window, List<T> content) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty())
+            nextCursor = encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        return CursorPage.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private String encode(KeysetScrollPosition position) {
+        try {
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(position.getKeys()));
+        } catch (IOException e) {
+            throw new ApiException(ErrorMessage.INTERNAL_SERVER_ERROR, null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package healthy.lifestyle.backend.shared.reference;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-memory counterpart of the body_parts_mask columns: one bitmap of row positions per body part bit, see
+ * {@link healthy.lifestyle.backend.activity.workout.model.BodyPart#getMask()}. Positions refer to the list the index
+ * was built from, the index is immutable and can be shared between threads.
+ */
+public final class BodyPartBitmapIndex {
+    private final BitSet[] bitmaps = new BitSet[Long.SIZE];
+
+    private final int size;
+
+    public <T> BodyPartBitmapIndex(List<T> rows, ToLongFunction<? super T> mask) {
+        size = rows.size();
+        for (int position = 0; position < size; position++) {
+            long rowMask = mask.applyAsLong(rows.get(position));
+            while (rowMask != 0) {
+                int bit = Long.numberOfTrailingZeros(rowMask);
+                if (bitmaps[bit] == null) bitmaps[bit] = new BitSet(size);
+                bitmaps[bit].set(position);
+                rowMask &= rowMask - 1;
+            }
+        }
+    }
+
+    /**
+     * Positions of the rows having any of the body parts of the mask, a zero mask matches nothing.
+     */
+    public BitSet matchAny(long mask) {
+        BitSet result = new BitSet(size);
+        while (mask != 0) {
+            int bit = Long.numberOfTrailingZeros(mask);
+            if (bitmaps[bit] != null) result.or(bitmaps[bit]);
+            mask &= mask - 1;
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,18 @@
+package healthy.lifestyle.backend.shared.reference;
+
+import healthy.lifestyle.backend.shared.util.ReloadableDataEndpoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the cached reference data after a changelog has altered reference tables.
+ */
+@Component
+@Endpoint(id = "referencedata")
+public class ReferenceDataEndpoint extends ReloadableDataEndpoint {
+    @Autowired
+    public ReferenceDataEndpoint(ReferenceDataRegistry referenceDataRegistry) {
+        super(referenceDataRegistry);
+    }
+}
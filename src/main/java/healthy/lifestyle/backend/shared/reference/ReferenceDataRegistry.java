@@ -0,0 +1,226 @@
+package healthy.lifestyle.backend.shared.reference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
+import healthy.lifestyle.backend.activity.workout.mapper.ExerciseMapper;
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.model.HttpRefType;
+import healthy.lifestyle.backend.activity.workout.repository.BodyPartRepository;
+import healthy.lifestyle.backend.activity.workout.repository.HttpRefTypeRepository;
+import healthy.lifestyle.backend.shared.util.ContentDigest;
+import healthy.lifestyle.backend.shared.util.ReloadableData;
+import healthy.lifestyle.backend.user.dto.CountryResponseDto;
+import healthy.lifestyle.backend.user.dto.TimezoneResponseDto;
+import healthy.lifestyle.backend.user.mapper.UserMapper;
+import healthy.lifestyle.backend.user.model.Country;
+import healthy.lifestyle.backend.user.model.Role;
+import healthy.lifestyle.backend.user.model.Timezone;
+import healthy.lifestyle.backend.user.repository.CountryRepository;
+import healthy.lifestyle.backend.user.repository.RoleRepository;
+import healthy.lifestyle.backend.user.repository.TimezoneRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Body parts, countries, timezones, roles and http ref types change only through Liquibase, so they are loaded once
+ * at startup and served from memory. {@link #refresh()} reloads them, it's exposed by {@link ReferenceDataEndpoint}.
+ * <p>
+ * DTO lists are shared between callers and must not be modified. {@link #getVersion()} changes whenever they do, it's
+ * part of the ETags of reference data responses. Entities returned by the find methods are new
+ * detached instances holding the id and the columns, they can be set as association values without loading the row.
+ */
+@Component
+public class ReferenceDataRegistry implements ReloadableData {
+    // Every bit set, matches the rows having any body part
+    static final long ANY_BODY_PART_MASK = -1L;
+
+    @Autowired
+    BodyPartRepository bodyPartRepository;
+
+    @Autowired
+    CountryRepository countryRepository;
+
+    @Autowired
+    TimezoneRepository timezoneRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Autowired
+    HttpRefTypeRepository httpRefTypeRepository;
+
+    @Autowired
+    ExerciseMapper exerciseMapper;
+
+    @Autowired
+    UserMapper userMapper;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    private record Named(long id, String name) {}
+
+    private record Part(long id, String name, int bitIndex) {}
+
+    private record Zone(long id, String name, String gmt) {}
+
+    private record Snapshot(
+            Map<Long, Part> bodyParts,
+            Map<Long, Named> countries,
+            Map<Long, Zone> timezones,
+            Map<Long, Named> rolesById,
+            Map<String, Named> rolesByName,
+            Map<String, Named> httpRefTypesByName,
+            List<BodyPartResponseDto> bodyPartDtos,
+            List<CountryResponseDto> countryDtos,
+            List<TimezoneResponseDto> timezoneDtos,
+            String version,
+            Instant loadedAt) {}
+
+    @Override
+    @PostConstruct
+    public void refresh() {
+        List<BodyPart> bodyParts = bodyPartRepository.findAll();
+        List<Country> countries = countryRepository.findAll();
+        List<Timezone> timezones = timezoneRepository.findAll();
+        List<Role> roles = roleRepository.findAll();
+        List<HttpRefType> httpRefTypes = httpRefTypeRepository.findAll();
+
+        List<BodyPartResponseDto> bodyPartDtos = bodyParts.stream()
+                .map(exerciseMapper::toResponseDto)
+                .sorted(Comparator.comparingLong(BodyPartResponseDto::getId))
+                .toList();
+        List<CountryResponseDto> countryDtos = countries.stream()
+                .map(userMapper::toResponseDto)
+                .sorted(Comparator.comparing(CountryResponseDto::getName))
+                .toList();
+        List<TimezoneResponseDto> timezoneDtos = timezones.stream()
+                .map(userMapper::toResponseDto)
+                .sorted(Comparator.comparing(TimezoneResponseDto::getId))
+                .toList();
+
+        snapshot = new Snapshot(
+                index(
+                        bodyParts,
+                        bodyPart -> new Part(bodyPart.getId(), bodyPart.getName(), bodyPart.getBitIndex()),
+                        Part::id),
+                index(countries, country -> new Named(country.getId(), country.getName()), Named::id),
+                index(
+                        timezones,
+                        timezone -> new Zone(timezone.getId(), timezone.getName(), timezone.getGMT()),
+                        Zone::id),
+                index(roles, role -> new Named(role.getId(), role.getName()), Named::id),
+                index(roles, role -> new Named(role.getId(), role.getName()), Named::name),
+                index(httpRefTypes, httpRefType -> new Named(httpRefType.getId(), httpRefType.getName()), Named::name),
+                bodyPartDtos,
+                countryDtos,
+                timezoneDtos,
+                ContentDigest.of(objectMapper, bodyPartDtos, countryDtos, timezoneDtos),
+                Instant.now());
+    }
+
+    private static <E, V, K> Map<K, V> index(List<E> entities, Function<E, V> mapper, Function<V, K> key) {
+        return entities.stream().map(mapper).collect(Collectors.toUnmodifiableMap(key, Function.identity()));
+    }
+
+    public List<BodyPartResponseDto> getBodyParts() {
+        return snapshot.bodyPartDtos();
+    }
+
+    public List<CountryResponseDto> getCountries() {
+        return snapshot.countryDtos();
+    }
+
+    public List<TimezoneResponseDto> getTimezones() {
+        return snapshot.timezoneDtos();
+    }
+
+    public String getVersion() {
+        return snapshot.version();
+    }
+
+    public Optional<BodyPart> findBodyPartById(long id) {
+        return Optional.ofNullable(snapshot.bodyParts().get(id)).map(part -> BodyPart.builder()
+                .id(part.id())
+                .name(part.name())
+                .bitIndex(part.bitIndex())
+                .build());
+    }
+
+    /**
+     * Union of the bits of the body parts, see {@link BodyPart#getMask()}, null when no ids are given. Ids of unknown
+     * body parts add no bits, so a mask of such ids matches nothing.
+     */
+    public Long getBodyPartsMask(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return null;
+        Map<Long, Part> bodyParts = snapshot.bodyParts();
+        long mask = 0;
+        for (Long id : ids) {
+            Part part = bodyParts.get(id);
+            if (part != null) mask |= 1L << part.bitIndex();
+        }
+        return mask;
+    }
+
+    /**
+     * Mask of the body parts filter of exercises and workouts: the body parts of the ids, or every bit when no ids are
+     * given, so that rows without any body part are left out as before the filter was built from masks.
+     */
+    public long getBodyPartsFilterMask(Collection<Long> ids) {
+        Long mask = getBodyPartsMask(ids);
+        return mask != null ? mask : ANY_BODY_PART_MASK;
+    }
+
+    public Optional<Country> findCountryById(long id) {
+        return Optional.ofNullable(snapshot.countries().get(id))
+                .map(named ->
+                        Country.builder().id(named.id()).name(named.name()).build());
+    }
+
+    public Optional<Timezone> findTimezoneById(long id) {
+        return Optional.ofNullable(snapshot.timezones().get(id)).map(zone -> Timezone.builder()
+                .id(zone.id())
+                .name(zone.name())
+                .GMT(zone.gmt())
+                .build());
+    }
+
+    public Optional<Role> findRoleById(long id) {
+        return Optional.ofNullable(snapshot.rolesById().get(id)).map(this::toRole);
+    }
+
+    public Optional<Role> findRoleByName(String name) {
+        return Optional.ofNullable(snapshot.rolesByName().get(name)).map(this::toRole);
+    }
+
+    private Role toRole(Named named) {
+        return Role.builder().id(named.id()).name(named.name()).build();
+    }
+
+    public Optional<HttpRefType> findHttpRefTypeByName(String name) {
+        return Optional.ofNullable(snapshot.httpRefTypesByName().get(name))
+                .map(named ->
+                        HttpRefType.builder().id(named.id()).name(named.name()).build());
+    }
+
+    @Override
+    public Map<String, Object> getSummary() {
+        Snapshot current = snapshot;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("bodyParts", current.bodyParts().size());
+        summary.put("countries", current.countries().size());
+        summary.put("timezones", current.timezones().size());
+        summary.put("roles", current.rolesById().size());
+        summary.put("httpRefTypes", current.httpRefTypesByName().size());
+        summary.put("version", current.version());
+        summary.put("loadedAt", current.loadedAt());
+        return summary;
+    }
+}
@@ -0,0 +1,88 @@
+package healthy.lifestyle.backend.shared.specification;
+
+import jakarta.persistence.criteria.Expression;
+import java.util.List;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Predicates shared by the filters of default and custom resources, which all have isCustom and user attributes.
+ * A null filter value yields a null specification, which {@link Specification#where} and {@code and} skip.
+ */
+public final class FilterSpecifications {
+    private FilterSpecifications() {}
+
+    /**
+     * isCustom == null: default resources and custom resources of the user. Otherwise either default or custom
+     * resources, the latter restricted to the user when userId isn't null.
+     */
+    public static <T> Specification<T> defaultOrCustom(Boolean isCustom, Long userId) {
+        return (root, query, cb) -> {
+            if (isCustom == null) {
+                if (userId == null) return cb.isFalse(root.get("isCustom"));
+                return cb.or(
+                        cb.isFalse(root.get("isCustom")),
+                        cb.and(
+                                cb.isTrue(root.get("isCustom")),
+                                cb.equal(root.get("user").get("id"), userId)));
+            }
+            if (userId == null) return cb.equal(root.get("isCustom"), isCustom);
+            return cb.and(
+                    cb.equal(root.get("isCustom"), isCustom),
+                    cb.equal(root.get("user").get("id"), userId));
+        };
+    }
+
+    /**
+     * Renders as ILIKE on the bare column, which the pg_trgm GIN indexes of the text columns support. Wrapping the
+     * column into lower() would need separate expression indexes. The value is matched literally: its '%', '_' and
+     * '\' are escaped with backslash, the default escape character of LIKE in Postgres, so that the default rows
+     * of {@link healthy.lifestyle.backend.shared.catalog.CatalogIndex} match the same values.
+     */
+    public static <T> Specification<T> containsIgnoreCase(String attribute, String value) {
+        if (value == null) return null;
+        String pattern = "%" + escapeLike(value) + "%";
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).ilike(root.get(attribute), pattern);
+    }
+
+    public static <T> Specification<T> equal(String attribute, Object value) {
+        if (value == null) return null;
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    /**
+     * Rows having any of the bits of the mask, e.g. any of the body parts of a body parts mask. A zero mask matches
+     * nothing.
+     */
+    public static <T> Specification<T> hasAnyBit(String attribute, Long mask) {
+        if (mask == null) return null;
+        return (root, query, cb) ->
+                cb.notEqual(cb.function("bitand", Long.class, root.get(attribute), cb.literal(mask)), 0L);
+    }
+
+    /**
+     * Orders like the pages of {@link healthy.lifestyle.backend.shared.catalog.CatalogIndex}, so that rows of the
+     * database can be merged into them: by the first property of the sort, strings by code points with the ucs_basic
+     * collation, ties by id in the same direction. Nulls take the Postgres default position, which the index follows.
+     * Spring Data replaces the order of a specification with the sort of a sorted Pageable, so it goes with an
+     * unsorted one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Specification<T> orderedLikeCatalog(Sort sort) {
+        Sort.Order order = sort.iterator().next();
+        return (root, query, cb) -> {
+            Expression<?> key = root.get(order.getProperty());
+            if (String.class.equals(key.getJavaType()))
+                key = ((HibernateCriteriaBuilder) cb).collate((Expression<String>) key, "ucs_basic");
+            Expression<?> id = root.get("id");
+            query.orderBy(
+                    order.isAscending() ? List.of(cb.asc(key), cb.asc(id)) : List.of(cb.desc(key), cb.desc(id)));
+            return null;
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
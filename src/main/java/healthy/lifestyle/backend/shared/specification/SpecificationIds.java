@@ -0,0 +1,56 @@
+package healthy.lifestyle.backend.shared.specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.Collections;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * First phase of the id-then-hydrate listings: pages a {@link Specification} over the id column only, the entities
+ * of the page are then loaded by id together with their collections. The sort of a sorted Pageable replaces the
+ * order of the specification, like in {@code JpaSpecificationExecutor#findAll}.
+ */
+@Component
+public class SpecificationIds {
+    @PersistenceContext
+    EntityManager entityManager;
+
+    public <T> Page<Long> findPage(Class<T> domainClass, Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.select(root.<Long>get("id"));
+        if (pageable.getSort().isSorted()) query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Long> idsQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            idsQuery.setFirstResult((int) pageable.getOffset());
+            idsQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(idsQuery.getResultList(), pageable, () -> count(domainClass, spec));
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        // A specification may order the query, a count has nothing to order
+        query.orderBy(Collections.emptyList());
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,36 @@
+package healthy.lifestyle.backend.shared.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Version stamp of content served to clients: the start of the SHA-256 of its JSON, so the stamp changes exactly when
+ * the serialized content does and is the same on every instance running the same data.
+ */
+public final class ContentDigest {
+    private static final int LENGTH = 8;
+
+    private ContentDigest() {}
+
+    public static String of(ObjectMapper objectMapper, Object... contents) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            objectMapper.writeValue(out, contents);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] hash = digest.digest();
+        return HexFormat.of().formatHex(hash, 0, LENGTH);
+    }
+}
@@ -1,75 +1,127 @@
 package healthy.lifestyle.backend.shared.util;
 
+import healthy.lifestyle.backend.user.model.Timezone;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+/**
+ * Conversions between the database zone (UTC) and the zones of users. Zones are resolved once per row of the timezones
+ * table, or per name, and reused; conversions work on {@link ZoneId}s only. The current time comes from the
+ * {@link Clock} bean, tests may replace it.
+ */
 @Service
 public class DateTimeService {
+    private static final ZoneId DATABASE_ZONE = ZoneId.of("UTC");
+
+    @Autowired
+    Clock clock = Clock.systemUTC();
+
+    private final ConcurrentMap<Long, ZoneId> zonesByTimezoneId = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, ZoneId> zonesByName = new ConcurrentHashMap<>();
+
     public TimeZone getDatabaseTimezone() {
-        return TimeZone.getTimeZone("UTC");
+        return TimeZone.getTimeZone(DATABASE_ZONE);
+    }
+
+    public ZoneId getDatabaseZoneId() {
+        return DATABASE_ZONE;
+    }
+
+    /**
+     * Timezones are reference data, a timezone keeps its name, so its zone is resolved on first use only.
+     */
+    public ZoneId getZoneId(Timezone timezone) {
+        if (timezone.getId() == null) return getZoneId(timezone.getName());
+        return zonesByTimezoneId.computeIfAbsent(timezone.getId(), id -> getZoneId(timezone.getName()));
+    }
+
+    /**
+     * Unknown names resolve to GMT, as {@link TimeZone#getTimeZone(String)} does.
+     */
+    public ZoneId getZoneId(String timezoneName) {
+        return zonesByName.computeIfAbsent(timezoneName, name -> TimeZone.getTimeZone(name).toZoneId());
     }
 
     public LocalDate getCurrentDatabaseDate() {
-        return LocalDate.now(getDatabaseTimezone().toZoneId());
+        return LocalDate.ofInstant(clock.instant(), DATABASE_ZONE);
+    }
+
+    public LocalDate getCurrentDate(ZoneId zone) {
+        return LocalDate.ofInstant(clock.instant(), zone);
     }
 
     public int getCurrentDatabaseDayOfMonth() {
-        return LocalDate.now(getDatabaseTimezone().toZoneId()).getDayOfMonth();
+        return getCurrentDatabaseDate().getDayOfMonth();
     }
 
     public DayOfWeek getCurrentDatabaseDayOfWeek() {
-        return LocalDate.now(getDatabaseTimezone().toZoneId()).getDayOfWeek();
+        return getCurrentDatabaseDate().getDayOfWeek();
     }
 
     public int getCurrentDatabaseMonth() {
-        return LocalDate.now(getDatabaseTimezone().toZoneId()).getMonthValue();
+        return getCurrentDatabaseDate().getMonthValue();
     }
 
     public int getCurrentDatabaseYear() {
-        return LocalDate.now(getDatabaseTimezone().toZoneId()).getYear();
+        return getCurrentDatabaseDate().getYear();
     }
 
+    /**
+     * Millisecond precision, like the timestamps stored so far.
+     */
     public ZonedDateTime getCurrentDatabaseZonedDateTime() {
-        TimeZone timeZone = getDatabaseTimezone();
-        ZoneId zoneId = timeZone.toZoneId();
-        Calendar calendar = new GregorianCalendar();
-        calendar.setTimeZone(timeZone);
-        long currentTimeMillis = calendar.getTimeInMillis();
-        return ZonedDateTime.ofInstant(java.time.Instant.ofEpochMilli(currentTimeMillis), zoneId);
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(clock.millis()), DATABASE_ZONE);
     }
 
     public LocalDate getCurrentDBDate() {
-        return getCurrentDatabaseZonedDateTime().toLocalDate();
+        return getCurrentDatabaseDate();
     }
 
     public ZonedDateTime convertToNewZone(ZonedDateTime sourceDateTime, TimeZone targetZone) {
         return sourceDateTime.withZoneSameInstant(targetZone.toZoneId());
     }
 
+    public ZonedDateTime convertToNewZone(ZonedDateTime sourceDateTime, ZoneId targetZone) {
+        return sourceDateTime.withZoneSameInstant(targetZone);
+    }
+
     public LocalDate convertToDBDate(LocalDate sourceDate, String userTimezoneName) {
-        ZoneId userZone = TimeZone.getTimeZone(userTimezoneName).toZoneId();
+        return convertToDBDate(sourceDate, getZoneId(userTimezoneName));
+    }
+
+    public LocalDate convertToDBDate(LocalDate sourceDate, ZoneId userZone) {
         return sourceDate
                 .atTime(LocalTime.NOON)
                 .atZone(userZone)
-                .withZoneSameInstant(this.getDatabaseTimezone().toZoneId())
+                .withZoneSameInstant(DATABASE_ZONE)
                 .toLocalDate();
     }
 
     public LocalDate convertToUserDate(LocalDate dbSourceDate, String userTimezoneName) {
-        ZoneId userZone = TimeZone.getTimeZone(userTimezoneName).toZoneId();
+        return convertToUserDate(dbSourceDate, getZoneId(userTimezoneName));
+    }
+
+    public LocalDate convertToUserDate(LocalDate dbSourceDate, ZoneId userZone) {
         return dbSourceDate
                 .atTime(LocalTime.NOON)
-                .atZone(this.getDatabaseTimezone().toZoneId())
+                .atZone(DATABASE_ZONE)
                 .withZoneSameInstant(userZone)
                 .toLocalDate();
     }
 
     public LocalDateTime convertToUserDateTime(LocalDateTime dbSourceDateTime, String userTimezoneName) {
-        ZoneId userZone = TimeZone.getTimeZone(userTimezoneName).toZoneId();
+        return convertToUserDateTime(dbSourceDateTime, getZoneId(userTimezoneName));
+    }
+
+    public LocalDateTime convertToUserDateTime(LocalDateTime dbSourceDateTime, ZoneId userZone) {
         return dbSourceDateTime
-                .atZone(this.getDatabaseTimezone().toZoneId())
+                .atZone(DATABASE_ZONE)
                 .withZoneSameInstant(userZone)
                 .toLocalDateTime();
     }
@@ -141,7 +193,7 @@ public class DateTimeService {
                 hour,
                 minutes);
         ZonedDateTime userZonedDateTime = ZonedDateTime.of(userLocalDateTime, userTimeZone.toZoneId());
-        ZonedDateTime userZonedDateTimeInServerZone = convertToNewZone(userZonedDateTime, getDatabaseTimezone());
+        ZonedDateTime userZonedDateTimeInServerZone = convertToNewZone(userZonedDateTime, DATABASE_ZONE);
 
         if (serverZonedDateTime.getHour() == userZonedDateTimeInServerZone.getHour()) {
             return true;
@@ -0,0 +1,46 @@
+package healthy.lifestyle.backend.shared.util;
+
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutDayIdRepository;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Allocates the json ids of workout plan days. Ids are reserved from the workout_json_id_seq sequence in blocks of
+ * {@link #BLOCK_SIZE}, the sequence value ends its block. Instances reserve disjoint blocks, so ids are unique
+ * across instances without locking a row; ids of a block left unused on shutdown are skipped.
+ */
+@Component
+public class JsonIdAllocator {
+    /**
+     * Must be the increment of workout_json_id_seq.
+     */
+    static final int BLOCK_SIZE = 50;
+
+    @Autowired
+    WorkoutDayIdRepository workoutDayIdRepository;
+
+    private final Deque<long[]> blocks = new ArrayDeque<>();
+
+    /**
+     * Reserves the missing blocks, if any, in one statement.
+     */
+    public synchronized long[] allocate(int count) {
+        int available = blocks.stream().mapToInt(block -> (int) (block[1] - block[0])).sum();
+        if (available < count) {
+            int missingBlocks = (count - available + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            List<Long> blockEnds = workoutDayIdRepository.reserveJsonIdBlocks(missingBlocks);
+            for (long blockEnd : blockEnds) blocks.addLast(new long[] {blockEnd - BLOCK_SIZE + 1, blockEnd + 1});
+        }
+
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            long[] block = blocks.peekFirst();
+            ids[i] = block[0]++;
+            if (block[0] == block[1]) blocks.removeFirst();
+        }
+        return ids;
+    }
+}
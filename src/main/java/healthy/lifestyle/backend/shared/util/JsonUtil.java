@@ -3,16 +3,10 @@ package healthy.lifestyle.backend.shared.util;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import healthy.lifestyle.backend.exception.ApiException;
-import healthy.lifestyle.backend.exception.ErrorMessage;
-import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanDayId;
-import healthy.lifestyle.backend.plan.workout.repository.WorkoutDayIdRepository;
 import java.time.*;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.TimeZone;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,7 +15,7 @@ public class JsonUtil {
     ObjectMapper objectMapper;
 
     @Autowired
-    WorkoutDayIdRepository workoutDayIdRepository;
+    JsonIdAllocator jsonIdAllocator;
 
     @Autowired
     DateTimeService dateTimeService;
@@ -32,71 +26,73 @@ public class JsonUtil {
         return objectMapper.readValue(jsonString, typeReference);
     }
 
+    /**
+     * Returns the days in the database's timezone. The days of the user keep their time and get the same json ids,
+     * e.g. to expand them into occurrences.
+     */
     public List<JsonDescription> processJsonDescription(
             List<JsonDescription> jsonDescriptionList, ZoneId userTimeZone) {
+        long[] jsonIds = jsonIdAllocator.allocate(jsonDescriptionList.size());
+        ZoneId databaseZone = dateTimeService.getDatabaseZoneId();
+        LocalDate userCurrentDate = dateTimeService.getCurrentDate(userTimeZone);
+        List<JsonDescription> databaseJsonDescriptionList = new ArrayList<>(jsonDescriptionList.size());
 
-        for (JsonDescription jsonDescription : jsonDescriptionList) {
-            Optional<WorkoutPlanDayId> currentDayIdOptional =
-                    workoutDayIdRepository.findAll().stream().findFirst();
-            WorkoutPlanDayId currentDayId = currentDayIdOptional.orElseThrow(
-                    () -> new ApiException(ErrorMessage.INTERNAL_SERVER_ERROR, null, HttpStatus.INTERNAL_SERVER_ERROR));
-            currentDayId.setJson_id(currentDayId.getJson_id() + 1);
-            WorkoutPlanDayId newWorkoutPlanDayId = workoutDayIdRepository.save(currentDayId);
+        for (int i = 0; i < jsonDescriptionList.size(); i++) {
+            JsonDescription jsonDescription = jsonDescriptionList.get(i);
+            jsonDescription.setJson_id(jsonIds[i]);
 
             // Convert day and time from user's timezone to database's timezone
-            LocalDateTime userBaseDateTime;
-            if (jsonDescription.getDayOfWeek() != null) {
-                userBaseDateTime = LocalDateTime.now(userTimeZone).with(jsonDescription.getDayOfWeek());
-            } else {
-                userBaseDateTime = LocalDateTime.now(userTimeZone);
-            }
-            LocalTime userTime = LocalTime.of(jsonDescription.getHours(), jsonDescription.getMinutes());
-            LocalDateTime userDateTime = LocalDateTime.of(userBaseDateTime.toLocalDate(), userTime);
-            ZonedDateTime userZonedDateTime = userDateTime.atZone(userTimeZone);
+            LocalDate userDate = jsonDescription.getDayOfWeek() != null
+                    ? userCurrentDate.with(jsonDescription.getDayOfWeek())
+                    : userCurrentDate;
+            LocalDateTime userDateTime = userDate.atTime(jsonDescription.getHours(), jsonDescription.getMinutes());
             ZonedDateTime databaseZonedDateTime =
-                    dateTimeService.convertToNewZone(userZonedDateTime, dateTimeService.getDatabaseTimezone());
+                    userDateTime.atZone(userTimeZone).withZoneSameInstant(databaseZone);
 
-            jsonDescription.setJson_id(newWorkoutPlanDayId.getJson_id());
-            jsonDescription.setHours(databaseZonedDateTime.getHour());
-            jsonDescription.setMinutes(databaseZonedDateTime.getMinute());
-            if (jsonDescription.getDayOfWeek() != null) {
-                jsonDescription.setDayOfWeek(databaseZonedDateTime.getDayOfWeek());
-            } else {
-                jsonDescription.setDayOfWeek(null);
-            }
+            databaseJsonDescriptionList.add(JsonDescription.builder()
+                    .json_id(jsonIds[i])
+                    .dayOfWeek(
+                            jsonDescription.getDayOfWeek() != null ? databaseZonedDateTime.getDayOfWeek() : null)
+                    .hours(databaseZonedDateTime.getHour())
+                    .minutes(databaseZonedDateTime.getMinute())
+                    .build());
         }
 
-        return jsonDescriptionList;
+        return databaseJsonDescriptionList;
     }
 
     public String serializeJsonDescriptionList(List<JsonDescription> jsonDescriptionList, String userTimezoneName)
             throws JsonProcessingException {
+        return serializeJsonDescriptionList(jsonDescriptionList, dateTimeService.getZoneId(userTimezoneName));
+    }
+
+    /**
+     * Serializes converted copies, the list is usually the one of a managed workout plan and must stay in the
+     * database's timezone.
+     */
+    public String serializeJsonDescriptionList(List<JsonDescription> jsonDescriptionList, ZoneId userZone)
+            throws JsonProcessingException {
+        ZoneId databaseZone = dateTimeService.getDatabaseZoneId();
+        LocalDate databaseCurrentDate = dateTimeService.getCurrentDatabaseDate();
+        List<JsonDescription> userJsonDescriptionList = new ArrayList<>(jsonDescriptionList.size());
 
         for (JsonDescription jsonDescription : jsonDescriptionList) {
             // Convert day and time from db's timezone to user's timezone
-            LocalDateTime DBBaseDateTime;
-            if (jsonDescription.getDayOfWeek() != null) {
-                DBBaseDateTime = LocalDateTime.now(
-                                dateTimeService.getDatabaseTimezone().toZoneId())
-                        .with(jsonDescription.getDayOfWeek());
-            } else {
-                DBBaseDateTime =
-                        LocalDateTime.now(dateTimeService.getDatabaseTimezone().toZoneId());
-            }
-            LocalTime DBTime = LocalTime.of(jsonDescription.getHours(), jsonDescription.getMinutes());
-            LocalDateTime DBDateTime = LocalDateTime.of(DBBaseDateTime.toLocalDate(), DBTime);
-            ZonedDateTime DBZonedDateTime =
-                    DBDateTime.atZone(dateTimeService.getDatabaseTimezone().toZoneId());
-            ZonedDateTime userZonedDateTime =
-                    dateTimeService.convertToNewZone(DBZonedDateTime, TimeZone.getTimeZone(userTimezoneName));
+            LocalDate databaseDate = jsonDescription.getDayOfWeek() != null
+                    ? databaseCurrentDate.with(jsonDescription.getDayOfWeek())
+                    : databaseCurrentDate;
+            LocalDateTime databaseDateTime =
+                    databaseDate.atTime(jsonDescription.getHours(), jsonDescription.getMinutes());
+            ZonedDateTime userZonedDateTime = databaseDateTime.atZone(databaseZone).withZoneSameInstant(userZone);
 
-            if (jsonDescription.getDayOfWeek() != null) {
-                jsonDescription.setDayOfWeek(userZonedDateTime.getDayOfWeek());
-            }
-            jsonDescription.setHours(userZonedDateTime.getHour());
-            jsonDescription.setMinutes(userZonedDateTime.getMinute());
+            userJsonDescriptionList.add(JsonDescription.builder()
+                    .json_id(jsonDescription.getJson_id())
+                    .dayOfWeek(jsonDescription.getDayOfWeek() != null ? userZonedDateTime.getDayOfWeek() : null)
+                    .hours(userZonedDateTime.getHour())
+                    .minutes(userZonedDateTime.getMinute())
+                    .build());
         }
 
-        return objectMapper.writeValueAsString(jsonDescriptionList);
+        return objectMapper.writeValueAsString(userJsonDescriptionList);
     }
 }
@@ -0,0 +1,12 @@
+package healthy.lifestyle.backend.shared.util;
+
+import java.util.Map;
+
+/**
+ * Data loaded into memory at startup that can be reloaded after a changelog has altered its tables.
+ */
+public interface ReloadableData {
+    void refresh();
+
+    Map<String, Object> getSummary();
+}
@@ -0,0 +1,28 @@
+package healthy.lifestyle.backend.shared.util;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * GET shows sizes of the data, POST reloads it. Subclasses only declare the endpoint id. Write operations are
+ * restricted to admins, see {@link healthy.lifestyle.backend.security.SecurityConfig}.
+ */
+public abstract class ReloadableDataEndpoint {
+    private final ReloadableData data;
+
+    protected ReloadableDataEndpoint(ReloadableData data) {
+        this.data = data;
+    }
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        return data.getSummary();
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        data.refresh();
+        return data.getSummary();
+    }
+}
@@ -0,0 +1,32 @@
+package healthy.lifestyle.backend.shared.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Associations mapped with {@code @OrderBy("id")} are loaded into insertion-ordered sets, so they are usually
+ * sorted already. The elements are copied in one pass which also checks the order, and sorted only when they
+ * aren't, e.g. for entities built in memory.
+ */
+public final class SortedById {
+    private SortedById() {}
+
+    public static <T> List<T> list(Collection<T> items, ToLongFunction<? super T> id) {
+        if (items == null || items.isEmpty()) return List.of();
+        List<T> list = new ArrayList<>(items.size());
+        boolean sorted = true;
+        long previousId = Long.MIN_VALUE;
+        for (T item : items) {
+            long currentId = id.applyAsLong(item);
+            if (currentId < previousId) sorted = false;
+            previousId = currentId;
+            list.add(item);
+        }
+        if (!sorted) list.sort(Comparator.comparingLong(id));
+        return Collections.unmodifiableList(list);
+    }
+}
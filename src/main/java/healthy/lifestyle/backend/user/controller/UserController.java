@@ -1,5 +1,6 @@
 package healthy.lifestyle.backend.user.controller;
 
+import healthy.lifestyle.backend.shared.http.VersionedContent;
 import healthy.lifestyle.backend.shared.validation.annotation.IdValidation;
 import healthy.lifestyle.backend.user.dto.*;
 import healthy.lifestyle.backend.user.service.*;
@@ -65,12 +66,14 @@ public class UserController {
     }
 
     @GetMapping("/countries")
+    @VersionedContent
     public ResponseEntity<List<CountryResponseDto>> getCountries() {
         List<CountryResponseDto> responseDtoList = countryService.getCountries();
         return ResponseEntity.ok(responseDtoList);
     }
 
     @GetMapping("/timezones")
+    @VersionedContent
     public ResponseEntity<List<TimezoneResponseDto>> getTimezones() {
         List<TimezoneResponseDto> responseDtoList = timezoneService.getTimezones();
         return ResponseEntity.ok(responseDtoList);
@@ -0,0 +1,25 @@
+package healthy.lifestyle.backend.user.mapper;
+
+import healthy.lifestyle.backend.config.MapperConfiguration;
+import healthy.lifestyle.backend.user.dto.CountryResponseDto;
+import healthy.lifestyle.backend.user.dto.TimezoneResponseDto;
+import healthy.lifestyle.backend.user.dto.UserResponseDto;
+import healthy.lifestyle.backend.user.model.Country;
+import healthy.lifestyle.backend.user.model.Timezone;
+import healthy.lifestyle.backend.user.model.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfiguration.class)
+public interface UserMapper {
+    /**
+     * Reads only the ids of country and timezone, which doesn't initialize lazy proxies.
+     */
+    @Mapping(target = "countryId", source = "country.id")
+    @Mapping(target = "timezoneId", source = "timezone.id")
+    UserResponseDto toResponseDto(User user);
+
+    CountryResponseDto toResponseDto(Country country);
+
+    TimezoneResponseDto toResponseDto(Timezone timezone);
+}
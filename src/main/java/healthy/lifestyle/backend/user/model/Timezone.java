@@ -3,6 +3,8 @@ package healthy.lifestyle.backend.user.model;
 import jakarta.persistence.*;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -11,6 +13,8 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "timezones")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "timezones")
 public class Timezone {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -9,9 +9,12 @@ import healthy.lifestyle.backend.activity.workout.model.HttpRef;
 import healthy.lifestyle.backend.activity.workout.model.Workout;
 import healthy.lifestyle.backend.notification.model.FirebaseUserToken;
 import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.shared.util.SortedById;
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 @Getter
 @Setter
@@ -40,6 +43,12 @@ public class User {
     @Column(name = "age", nullable = true, unique = false)
     private Integer age;
 
+    /**
+     * Tokens issued before this time, in the database's timezone, are rejected. Set when the password changes.
+     */
+    @Column(name = "tokens_valid_after", nullable = true, unique = false)
+    private LocalDateTime tokensValidAfter;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role_id") // FOREIGN KEY(role_id) REFERENCES roles(id)
     private Role role;
@@ -53,33 +62,39 @@ public class User {
     private Timezone timezone;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<Exercise> exercises;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<Workout> workouts;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<HttpRef> httpRefs;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<MentalActivity> mentalActivities;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<MentalWorkout> mentalWorkouts;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<Nutrition> nutritions;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<WorkoutPlan> workoutPlans;
 
     @OneToMany(mappedBy = "user")
+    @BatchSize(size = 100)
     private Set<FirebaseUserToken> firebaseUserTokens;
 
     public List<Exercise> getExercisesSortedById() {
-        return this.getExercises().stream()
-                .sorted(Comparator.comparingLong(Exercise::getId))
-                .toList();
+        return SortedById.list(this.getExercises(), Exercise::getId);
     }
 
     public List<Long> getExercisesIdsSorted() {
@@ -87,9 +102,7 @@ public class User {
     }
 
     public List<Workout> getWorkoutsSortedById() {
-        return this.getWorkouts().stream()
-                .sorted(Comparator.comparingLong(Workout::getId))
-                .toList();
+        return SortedById.list(this.getWorkouts(), Workout::getId);
     }
 
     public List<Long> getWorkoutsIdsSorted() {
@@ -97,9 +110,7 @@ public class User {
     }
 
     public List<HttpRef> getHttpRefsSortedById() {
-        return this.getHttpRefs().stream()
-                .sorted(Comparator.comparingLong(HttpRef::getId))
-                .toList();
+        return SortedById.list(this.getHttpRefs(), HttpRef::getId);
     }
 
     public List<Long> getHttpRefsIdsSorted() {
@@ -113,14 +124,10 @@ public class User {
     }
 
     public List<MentalActivity> getMentalsSortedById() {
-        return this.getMentalActivities().stream()
-                .sorted(Comparator.comparingLong(MentalActivity::getId))
-                .toList();
+        return SortedById.list(this.getMentalActivities(), MentalActivity::getId);
     }
 
     public List<Nutrition> getNutritionsSortedById() {
-        return this.getNutritions().stream()
-                .sorted(Comparator.comparingLong(Nutrition::getId))
-                .toList();
+        return SortedById.list(this.getNutritions(), Nutrition::getId);
     }
 }
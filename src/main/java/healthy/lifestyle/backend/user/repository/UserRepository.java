@@ -2,6 +2,7 @@ package healthy.lifestyle.backend.user.repository;
 
 import healthy.lifestyle.backend.user.model.User;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,6 +12,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
 
+    @EntityGraph(attributePaths = {"role"})
+    Optional<User> findWithRoleById(long id);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
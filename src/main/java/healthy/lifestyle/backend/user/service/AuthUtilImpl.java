@@ -2,6 +2,7 @@ package healthy.lifestyle.backend.user.service;
 
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.security.UserPrincipal;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +18,7 @@ public class AuthUtilImpl implements AuthUtil {
     @Override
     public Long getUserIdFromAuthentication(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) return null;
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) return principal.getUserId();
         String usernameOrEmail = authentication.getName();
         return userRepository
                 .findByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
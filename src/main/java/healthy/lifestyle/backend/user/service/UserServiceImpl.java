@@ -1,27 +1,25 @@
 package healthy.lifestyle.backend.user.service;
 
-import healthy.lifestyle.backend.activity.mental.model.MentalActivity;
-import healthy.lifestyle.backend.activity.mental.model.MentalWorkout;
-import healthy.lifestyle.backend.activity.workout.model.Exercise;
-import healthy.lifestyle.backend.activity.workout.model.Workout;
 import healthy.lifestyle.backend.activity.workout.service.RemovalService;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ApiExceptionCustomMessage;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.security.UserPrincipalCache;
+import healthy.lifestyle.backend.security.VerifiedTokenCache;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.user.dto.*;
+import healthy.lifestyle.backend.user.mapper.UserMapper;
 import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.Timezone;
 import healthy.lifestyle.backend.user.model.User;
-import healthy.lifestyle.backend.user.repository.CountryRepository;
-import healthy.lifestyle.backend.user.repository.RoleRepository;
-import healthy.lifestyle.backend.user.repository.TimezoneRepository;
 import healthy.lifestyle.backend.user.repository.UserRepository;
-import java.util.HashSet;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -35,25 +33,31 @@ public class UserServiceImpl implements UserService {
     UserRepository userRepository;
 
     @Autowired
-    RoleRepository roleRepository;
+    ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
-    CountryRepository countryRepository;
+    PasswordEncoder passwordEncoder;
 
     @Autowired
-    TimezoneRepository timezoneRepository;
+    UserMapper userMapper;
 
     @Autowired
-    PasswordEncoder passwordEncoder;
+    RemovalService removalService;
+
+    @Autowired
+    VerificationUtil verificationUtil;
 
     @Autowired
-    ModelMapper modelMapper;
+    UserPrincipalCache userPrincipalCache;
 
     @Autowired
-    RemovalService removalService;
+    VerifiedTokenCache verifiedTokenCache;
 
     @Autowired
-    VerificationUtil verificationUtil;
+    UserListingCache userListingCache;
+
+    @Autowired
+    DateTimeService dateTimeService;
 
     @Override
     public void createUser(SignupRequestDto requestDto) {
@@ -63,18 +67,18 @@ public class UserServiceImpl implements UserService {
         if (userRepository.existsByUsername(requestDto.getUsername()))
             throw new ApiException(ErrorMessage.ALREADY_EXISTS, null, HttpStatus.BAD_REQUEST);
 
-        Role role = roleRepository
-                .findByName("ROLE_USER")
+        Role role = referenceDataRegistry
+                .findRoleByName("ROLE_USER")
                 .orElseThrow(
                         () -> new ApiException(ErrorMessage.ROLE_NOT_FOUND, null, HttpStatus.INTERNAL_SERVER_ERROR));
 
-        Country country = countryRepository
-                .findById(requestDto.getCountryId())
+        Country country = referenceDataRegistry
+                .findCountryById(requestDto.getCountryId())
                 .orElseThrow(() -> new ApiException(
                         ErrorMessage.COUNTRY_NOT_FOUND, requestDto.getCountryId(), HttpStatus.NOT_FOUND));
 
-        Timezone timezone = timezoneRepository
-                .findById(requestDto.getTimezoneId())
+        Timezone timezone = referenceDataRegistry
+                .findTimezoneById(requestDto.getTimezoneId())
                 .orElseThrow(() -> new ApiException(
                         ErrorMessage.TIMEZONE_NOT_FOUND, requestDto.getTimezoneId(), HttpStatus.NOT_FOUND));
 
@@ -104,12 +108,13 @@ public class UserServiceImpl implements UserService {
     public UserResponseDto getUserDetailsById(long userId) {
         UserResponseDto responseDto = userRepository
                 .findById(userId)
-                .map(user -> modelMapper.map(user, UserResponseDto.class))
+                .map(userMapper::toResponseDto)
                 .orElseThrow(() -> new ApiException(ErrorMessage.USER_NOT_FOUND, userId, HttpStatus.NOT_FOUND));
         return responseDto;
     }
 
     @Override
+    @Transactional
     public UserResponseDto updateUser(Long userId, UserUpdateRequestDto requestDto)
             throws NoSuchFieldException, IllegalAccessException {
 
@@ -154,6 +159,11 @@ public class UserServiceImpl implements UserService {
 
         if (requestDto.getPassword() != null) {
             user.setPassword(passwordEncoder.encode(requestDto.getPassword()));
+            // Token times are in whole seconds, a token issued in the same second stays valid
+            user.setTokensValidAfter(dateTimeService
+                    .getCurrentDatabaseZonedDateTime()
+                    .toLocalDateTime()
+                    .truncatedTo(ChronoUnit.SECONDS));
         }
         if (requestDto.getFullName() != null) {
             user.setFullName(requestDto.getFullName());
@@ -163,8 +173,8 @@ public class UserServiceImpl implements UserService {
         }
         if (requestDto.getCountryId() != null
                 && !requestDto.getCountryId().equals(user.getCountry().getId())) {
-            Country country = countryRepository
-                    .findById(requestDto.getCountryId())
+            Country country = referenceDataRegistry
+                    .findCountryById(requestDto.getCountryId())
                     .orElseThrow(() -> new ApiException(
                             ErrorMessage.COUNTRY_NOT_FOUND, requestDto.getCountryId(), HttpStatus.NOT_FOUND));
             user.setCountry(country);
@@ -172,15 +182,17 @@ public class UserServiceImpl implements UserService {
 
         if (requestDto.getTimezoneId() != null
                 && !requestDto.getTimezoneId().equals(user.getTimezone().getId())) {
-            Timezone timezone = timezoneRepository
-                    .findById(requestDto.getTimezoneId())
+            Timezone timezone = referenceDataRegistry
+                    .findTimezoneById(requestDto.getTimezoneId())
                     .orElseThrow(() -> new ApiException(
                             ErrorMessage.TIMEZONE_NOT_FOUND, requestDto.getTimezoneId(), HttpStatus.NOT_FOUND));
             user.setTimezone(timezone);
         }
 
         User savedUser = userRepository.save(user);
-        UserResponseDto responseDto = modelMapper.map(savedUser, UserResponseDto.class);
+        userPrincipalCache.evict(userId);
+        if (requestDto.getPassword() != null) verifiedTokenCache.evictUser(userId);
+        UserResponseDto responseDto = userMapper.toResponseDto(savedUser);
         return responseDto;
     }
 
@@ -194,70 +206,8 @@ public class UserServiceImpl implements UserService {
         removalService.deleteCustomExercises(user.getExercisesIdsSorted());
         removalService.deleteCustomHttpRefs(user.getHttpRefsIdsSorted());
         userRepository.delete(user);
-    }
-
-    @Override
-    @Transactional(propagation = Propagation.MANDATORY)
-    public void addExerciseToUser(long userId, Exercise exercise) {
-        User user = userRepository
-                .findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorMessage.USER_NOT_FOUND, userId, HttpStatus.NOT_FOUND));
-        if (user.getExercises() == null) user.setExercises(new HashSet<>());
-        user.getExercises().add(exercise);
-        userRepository.save(user);
-    }
-
-    @Override
-    @Transactional(propagation = Propagation.MANDATORY)
-    public void deleteExerciseFromUser(long userId, Exercise exercise) {
-        User user = userRepository
-                .findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorMessage.USER_NOT_FOUND, userId, HttpStatus.NOT_FOUND));
-        if (user.getExercises() != null) user.getExercises().remove(exercise);
-        userRepository.save(user);
-    }
-
-    @Override
-    @Transactional(propagation = Propagation.MANDATORY)
-    public void addWorkoutToUser(User user, Workout workout) {
-        if (user.getWorkouts() == null) user.setWorkouts(new HashSet<>());
-        user.getWorkouts().add(workout);
-        userRepository.save(user);
-    }
-
-    @Override
-    @Transactional(propagation = Propagation.MANDATORY)
-    public void deleteWorkoutFromUser(User user, Workout workout) {
-        if (user.getWorkouts() != null) user.getWorkouts().remove(workout);
-        userRepository.save(user);
-    }
-
-    @Override
-    @Transactional(propagation = Propagation.MANDATORY)
-    public void deleteMentalActivitiesFromUser(long userId, MentalActivity mental) {
-        User user = userRepository
-                .findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorMessage.USER_NOT_FOUND, userId, HttpStatus.NOT_FOUND));
-        if (user.getMentalActivities() != null) user.getMentalActivities().remove(mental);
-        userRepository.save(user);
-    }
-
-    @Override
-    @Transactional
-    public void addMentalActivitiesToUser(long userId, MentalActivity mental) {
-        User user = userRepository
-                .findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorMessage.USER_NOT_FOUND, userId, HttpStatus.NOT_FOUND));
-        if (user.getMentalActivities() == null) user.setMentalActivities(new HashSet<>());
-        user.getMentalActivities().add(mental);
-        userRepository.save(user);
-    }
-
-    @Override
-    @Transactional
-    public void addMentalWorkoutToUser(User user, MentalWorkout mentalWorkout) {
-        if (user.getMentalWorkouts() == null) user.setMentalWorkouts(new HashSet<>());
-        user.getMentalWorkouts().add(mentalWorkout);
-        userRepository.save(user);
+        userPrincipalCache.evict(userId);
+        verifiedTokenCache.evictUser(userId);
+        userListingCache.evictUser(userId);
     }
 }
@@ -5,4 +5,6 @@ import java.util.Optional;
 
 public interface UserUtil {
     Optional<User> getUserByUsernameOrEmail(String username, String email);
+
+    Optional<User> getUserWithRoleById(long userId);
 }
@@ -15,4 +15,9 @@ public class UserUtilImpl implements UserUtil {
     public Optional<User> getUserByUsernameOrEmail(String username, String email) {
         return userRepository.findByUsernameOrEmail(username, email);
     }
+
+    @Override
+    public Optional<User> getUserWithRoleById(long userId) {
+        return userRepository.findWithRoleById(userId);
+    }
 }
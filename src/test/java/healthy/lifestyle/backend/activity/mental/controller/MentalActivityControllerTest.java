@@ -32,6 +32,7 @@ import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.Timezone;
 import healthy.lifestyle.backend.user.model.User;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -1126,6 +1127,56 @@ public class MentalActivityControllerTest {
                 .isEqualTo(expectedFilteredMentalActivities);
     }
 
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollMentalActivities_shouldReturnAllPagesOfDefaultAndCustomWith200_whenFilteredByType() throws Exception {
+        // Given
+        MentalType mentalType1 = dbUtil.createMeditationType();
+        MentalType mentalType2 = dbUtil.createAffirmationType();
+        HttpRef defaultHttpRef1 = dbUtil.createDefaultHttpRef(1);
+
+        MentalActivity defaultMental1 = dbUtil.createDefaultMentalActivity(1, List.of(defaultHttpRef1), mentalType1);
+        dbUtil.createDefaultMentalActivity(2, List.of(defaultHttpRef1), mentalType2);
+        MentalActivity defaultMental3 = dbUtil.createDefaultMentalActivity(3, List.of(defaultHttpRef1), mentalType1);
+
+        Role role = dbUtil.createUserRole();
+        Country country = dbUtil.createCountry(1);
+        Timezone timezone = dbUtil.createTimezone(1);
+        User user1 = dbUtil.createUser(1, role, country, timezone);
+        User user2 = dbUtil.createUser(2, role, country, timezone);
+        MentalActivity customMental1User1 =
+                dbUtil.createCustomMentalActivity(4, List.of(defaultHttpRef1), mentalType1, user1);
+        dbUtil.createCustomMentalActivity(5, List.of(defaultHttpRef1), mentalType2, user1);
+        dbUtil.createCustomMentalActivity(6, List.of(defaultHttpRef1), mentalType1, user2);
+
+        List<Long> expectedIds = List.of(defaultMental1.getId(), defaultMental3.getId(), customMental1User1.getId());
+
+        // When
+        List<Long> scrolledIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            MvcResult mvcResult = mockMvc.perform(get(URL.CUSTOM_MENTALS)
+                            .param("mentalTypeId", String.valueOf(mentalType1.getId()))
+                            .param("cursor", cursor)
+                            .param("pageSize", "2")
+                            .contentType(MediaType.APPLICATION_JSON))
+
+                    // Then
+                    .andExpect(status().isOk())
+                    .andDo(print())
+                    .andReturn();
+
+            JsonNode rootNode = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+            rootNode.path("content")
+                    .forEach(node -> scrolledIds.add(node.path("id").asLong()));
+            cursor = rootNode.path("hasNext").asBoolean()
+                    ? rootNode.path("nextCursor").asText()
+                    : null;
+        }
+
+        assertEquals(expectedIds, scrolledIds);
+    }
+
     @Test
     @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
     void getMentalActivitiesWithFilter_shouldReturnValidationErrorMessageWith400_whenInvalidFilters() throws Exception {
@@ -7,18 +7,25 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import healthy.lifestyle.backend.activity.mental.dto.MentalActivityResponseDto;
+import healthy.lifestyle.backend.activity.mental.mapper.MentalMapper;
+import healthy.lifestyle.backend.activity.mental.mapper.MentalMapperImpl;
 import healthy.lifestyle.backend.activity.mental.model.MentalActivity;
 import healthy.lifestyle.backend.activity.mental.model.MentalType;
 import healthy.lifestyle.backend.activity.mental.repository.MentalActivityRepository;
 import healthy.lifestyle.backend.activity.mental.repository.MentalTypeRepository;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapperImpl;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
 import healthy.lifestyle.backend.activity.workout.repository.HttpRefRepository;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.cache.ListingCacheProps;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
 import healthy.lifestyle.backend.testutil.DtoUtil;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -30,7 +37,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 
@@ -51,8 +57,15 @@ class MentalActivityServiceTest {
     @Mock
     private UserServiceImpl userService;
 
+    @Mock
+    DefaultCatalog defaultCatalog;
+
+    @Spy
+    UserListingCache userListingCache =
+            new UserListingCache(new ListingCacheProps(false, 0, 0, 0), new SimpleMeterRegistry());
+
     @Spy
-    ModelMapper modelMapper;
+    MentalMapper mentalMapper = new MentalMapperImpl(new HttpRefMapperImpl());
 
     TestUtil testUtil = new TestUtil();
 
@@ -154,7 +167,6 @@ class MentalActivityServiceTest {
                 ErrorMessage.USER_MENTAL_MISMATCH, customMentalActivity.getId(), HttpStatus.BAD_REQUEST);
 
         when(mentalRepository.findById(customMentalActivity.getId())).thenReturn(Optional.of(customMentalActivity));
-        when(userService.getUserById(user2.getId())).thenReturn(user2);
 
         // When
         ApiException actualException = assertThrows(
@@ -163,7 +175,7 @@ class MentalActivityServiceTest {
 
         // Then
         verify((mentalRepository), times(1)).findById(customMentalActivity.getId());
-        verify(userService, times(1)).getUserById(user2.getId());
+        verify(userService, times(0)).getUserById(anyLong());
 
         assertEquals(expectedException.getMessageWithResourceId(), actualException.getMessageWithResourceId());
         assertEquals(expectedException.getHttpStatusValue(), actualException.getHttpStatusValue());
@@ -180,7 +192,6 @@ class MentalActivityServiceTest {
                 testUtil.createCustomMentalActivity(1, List.of(defaultHttpRef, customHttpRef), mentalType, user);
 
         when(mentalRepository.findById(customMentalActivity.getId())).thenReturn(Optional.of(customMentalActivity));
-        when(userService.getUserById(user.getId())).thenReturn(user);
 
         // When
         MentalActivityResponseDto mentalDtoActual =
@@ -188,7 +199,7 @@ class MentalActivityServiceTest {
 
         // Then
         verify((mentalRepository), times(1)).findById(customMentalActivity.getId());
-        verify(userService, times(1)).getUserById(user.getId());
+        verify(userService, times(0)).getUserById(anyLong());
 
         Assertions.assertThat(customMentalActivity)
                 .usingRecursiveComparison()
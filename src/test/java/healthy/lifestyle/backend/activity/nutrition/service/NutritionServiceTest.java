@@ -7,14 +7,18 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import healthy.lifestyle.backend.activity.nutrition.dto.NutritionResponseDto;
+import healthy.lifestyle.backend.activity.nutrition.mapper.NutritionMapper;
+import healthy.lifestyle.backend.activity.nutrition.mapper.NutritionMapperImpl;
 import healthy.lifestyle.backend.activity.nutrition.model.Nutrition;
 import healthy.lifestyle.backend.activity.nutrition.model.NutritionType;
 import healthy.lifestyle.backend.activity.nutrition.repository.NutritionRepository;
 import healthy.lifestyle.backend.activity.nutrition.repository.NutritionTypeRepository;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapperImpl;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
 import healthy.lifestyle.backend.activity.workout.repository.HttpRefRepository;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserServiceImpl;
@@ -27,7 +31,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,8 +50,11 @@ public class NutritionServiceTest {
     @Mock
     private UserServiceImpl userService;
 
+    @Mock
+    DefaultCatalog defaultCatalog;
+
     @Spy
-    ModelMapper modelMapper;
+    NutritionMapper nutritionMapper = new NutritionMapperImpl(new HttpRefMapperImpl());
 
     TestUtil testUtil = new TestUtil();
 
@@ -149,7 +155,6 @@ public class NutritionServiceTest {
                 new ApiException(ErrorMessage.USER_NUTRITION_MISMATCH, customNutrition.getId(), HttpStatus.BAD_REQUEST);
 
         when(nutritionRepository.findById(customNutrition.getId())).thenReturn(Optional.of(customNutrition));
-        when(userService.getUserById(user2.getId())).thenReturn(user2);
 
         // When
         ApiException actualException = assertThrows(
@@ -158,7 +163,7 @@ public class NutritionServiceTest {
 
         // Then
         verify((nutritionRepository), times(1)).findById(customNutrition.getId());
-        verify(userService, times(1)).getUserById(user2.getId());
+        verify(userService, times(0)).getUserById(anyLong());
 
         assertEquals(expectedException.getMessageWithResourceId(), actualException.getMessageWithResourceId());
         assertEquals(expectedException.getHttpStatusValue(), actualException.getHttpStatusValue());
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,6 +21,7 @@ import healthy.lifestyle.backend.activity.workout.dto.ExerciseUpdateRequestDto;
 import healthy.lifestyle.backend.activity.workout.model.BodyPart;
 import healthy.lifestyle.backend.activity.workout.model.Exercise;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.activity.workout.model.Workout;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
 import healthy.lifestyle.backend.testconfig.BeanConfig;
@@ -43,6 +45,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -351,6 +354,110 @@ class ExerciseControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    void getDefaultExerciseById_shouldReturn304WithoutBody_whenETagIsCurrent() throws Exception {
+        // Given
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        HttpRef defaultHttpRef = dbUtil.createDefaultHttpRef(1);
+        Exercise defaultExercise = dbUtil.createDefaultExercise(1, true, List.of(bodyPart), List.of(defaultHttpRef));
+
+        MvcResult firstResult = mockMvc.perform(get(URL.DEFAULT_EXERCISE_ID, defaultExercise.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andReturn();
+        String eTag = firstResult.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(
+                        get(URL.DEFAULT_EXERCISE_ID, defaultExercise.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+
+                // Then
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andDo(print())
+                .andReturn();
+
+        assertTrue(eTag.startsWith("\""));
+        assertEquals("", mvcResult.getResponse().getContentAsString());
+    }
+
+    @Test
+    void getDefaultExerciseById_shouldReturnDtoWithNewETag_whenDefaultContentChanged() throws Exception {
+        // Given
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        HttpRef defaultHttpRef = dbUtil.createDefaultHttpRef(1);
+        Exercise defaultExercise = dbUtil.createDefaultExercise(1, true, List.of(bodyPart), List.of(defaultHttpRef));
+        String eTag = mockMvc.perform(get(URL.DEFAULT_EXERCISE_ID, defaultExercise.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        dbUtil.createDefaultExercise(2, false, List.of(bodyPart), List.of(defaultHttpRef));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(
+                        get(URL.DEFAULT_EXERCISE_ID, defaultExercise.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(defaultExercise.getId().intValue())))
+                .andDo(print())
+                .andReturn();
+
+        assertNotNull(mvcResult.getResponse().getHeader(HttpHeaders.ETAG));
+        assertNotEquals(eTag, mvcResult.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getDefaultExerciseById_shouldReturn304WithoutBody_whenAnyETagAndExerciseExists() throws Exception {
+        // Given
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        HttpRef defaultHttpRef = dbUtil.createDefaultHttpRef(1);
+        Exercise defaultExercise = dbUtil.createDefaultExercise(1, true, List.of(bodyPart), List.of(defaultHttpRef));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(
+                        get(URL.DEFAULT_EXERCISE_ID, defaultExercise.getId()).header(HttpHeaders.IF_NONE_MATCH, "*"))
+
+                // Then
+                .andExpect(status().isNotModified())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andDo(print())
+                .andReturn();
+
+        assertEquals("", mvcResult.getResponse().getContentAsString());
+    }
+
+    @Test
+    void getDefaultExerciseById_shouldReturnErrorMessageWith404_whenAnyETagAndExerciseNotFound() throws Exception {
+        // Given
+        long nonExistentDefaultExerciseId = 1000L;
+        ApiException expectedException =
+                new ApiException(ErrorMessage.EXERCISE_NOT_FOUND, nonExistentDefaultExerciseId, HttpStatus.NOT_FOUND);
+
+        // When
+        mockMvc.perform(get(URL.DEFAULT_EXERCISE_ID, nonExistentDefaultExerciseId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+
+                // Then
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is(expectedException.getMessageWithResourceId())))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andDo(print());
+    }
+
+    @Test
+    void getDefaultExerciseById_shouldNotReturnETag_whenNotFound() throws Exception {
+        // When
+        mockMvc.perform(get(URL.DEFAULT_EXERCISE_ID, 1000L))
+
+                // Then
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andDo(print());
+    }
+
     @Test
     @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
     void getCustomExerciseById_shouldReturnDtoWith200_whenValidRequest() throws Exception {
@@ -981,6 +1088,121 @@ class ExerciseControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollExercisesWithFilter_shouldReturnAllPagesWith200_whenNextCursorFollowed() throws Exception {
+        // Given
+        BodyPart bodyPart1 = dbUtil.createBodyPart(1);
+        BodyPart bodyPart2 = dbUtil.createBodyPart(2);
+        HttpRef defaultHttpRef1 = dbUtil.createDefaultHttpRef(1);
+
+        Exercise defaultExercise1 = dbUtil.createDefaultExercise(0, true, List.of(bodyPart1), List.of(defaultHttpRef1));
+        Exercise defaultExercise2 = dbUtil.createDefaultExercise(1, true, List.of(bodyPart2), List.of(defaultHttpRef1));
+        Exercise defaultExercise3 =
+                dbUtil.createDefaultExercise(2, false, List.of(bodyPart1, bodyPart2), List.of(defaultHttpRef1));
+
+        Role role = dbUtil.createUserRole();
+        Country country = dbUtil.createCountry(1);
+        Timezone timezone = dbUtil.createTimezone(1);
+        User user1 = dbUtil.createUser(1, role, country, timezone);
+        User user2 = dbUtil.createUser(2, role, country, timezone);
+
+        Exercise customExercise1User1 =
+                dbUtil.createCustomExercise(3, true, List.of(bodyPart1), List.of(defaultHttpRef1), user1);
+        Exercise customExercise2User1 =
+                dbUtil.createCustomExercise(4, false, List.of(bodyPart2), List.of(defaultHttpRef1), user1);
+        dbUtil.createCustomExercise(5, false, List.of(bodyPart1), List.of(defaultHttpRef1), user2);
+
+        List<Long> expectedIds = List.of(
+                customExercise2User1.getId(),
+                customExercise1User1.getId(),
+                defaultExercise3.getId(),
+                defaultExercise2.getId(),
+                defaultExercise1.getId());
+
+        // When
+        List<Long> scrolledIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            MvcResult mvcResult = mockMvc.perform(get(URL.CUSTOM_EXERCISES)
+                            .param("cursor", cursor)
+                            .param("pageSize", "2")
+                            .param("sortDirection", "DESC")
+                            .contentType(MediaType.APPLICATION_JSON))
+
+                    // Then
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andDo(print())
+                    .andReturn();
+
+            JsonNode rootNode = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+            rootNode.path("content")
+                    .forEach(node -> scrolledIds.add(node.path("id").asLong()));
+            pageSizes.add(rootNode.path("size").asInt());
+            cursor = rootNode.path("hasNext").asBoolean()
+                    ? rootNode.path("nextCursor").asText()
+                    : null;
+        }
+
+        assertEquals(expectedIds, scrolledIds);
+        assertEquals(List.of(2, 2, 1), pageSizes);
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollExercisesWithFilter_shouldReturnErrorMessageWith400_whenInvalidCursor() throws Exception {
+        // Given
+        dbUtil.createUser(1);
+        ApiException expectedException = new ApiException(ErrorMessage.INVALID_CURSOR, null, HttpStatus.BAD_REQUEST);
+
+        // When
+        mockMvc.perform(get(URL.CUSTOM_EXERCISES)
+                        .param("cursor", "not-a-cursor")
+                        .contentType(MediaType.APPLICATION_JSON))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(expectedException.getMessageWithResourceId())))
+                .andDo(print());
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollExercisesWithFilter_shouldReturnErrorMessageWith400_whenCursorKeyHasWrongType() throws Exception {
+        // Given
+        dbUtil.createUser(1);
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"title\":1,\"id\":1}".getBytes());
+        ApiException expectedException = new ApiException(ErrorMessage.INVALID_CURSOR, null, HttpStatus.BAD_REQUEST);
+
+        // When
+        mockMvc.perform(get(URL.CUSTOM_EXERCISES).param("cursor", cursor).contentType(MediaType.APPLICATION_JSON))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(expectedException.getMessageWithResourceId())))
+                .andDo(print());
+    }
+
+    @Test
+    void scrollDefaultExercises_shouldReturnErrorMessageWith400_whenSortFieldNotIndexed() throws Exception {
+        // Given
+        ApiException expectedException =
+                new ApiException(ErrorMessage.INVALID_CURSOR_SORT_FIELD, null, HttpStatus.BAD_REQUEST);
+
+        // When
+        mockMvc.perform(get(URL.DEFAULT_EXERCISES)
+                        .param("cursor", "")
+                        .param("sortField", "description")
+                        .contentType(MediaType.APPLICATION_JSON))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(expectedException.getMessageWithResourceId())))
+                .andDo(print());
+    }
+
     @ParameterizedTest
     @MethodSource("updateCustomExerciseValidFilters")
     @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
@@ -1111,6 +1333,43 @@ class ExerciseControllerTest {
         assertThat(responseDto.getHttpRefs()).usingRecursiveComparison().isEqualTo(Collections.emptyList());
     }
 
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void updateCustomExercise_shouldRefreshSummaryOfWorkouts_whenEquipmentOrBodyPartsChanged() throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        BodyPart bodyPart1 = dbUtil.createBodyPart(1);
+        BodyPart bodyPart2 = dbUtil.createBodyPart(2);
+        HttpRef customHttpRef = dbUtil.createCustomHttpRef(1, user);
+        Exercise customExercise1 =
+                dbUtil.createCustomExercise(1, false, List.of(bodyPart1), List.of(customHttpRef), user);
+        Exercise customExercise2 =
+                dbUtil.createCustomExercise(2, false, List.of(bodyPart1), List.of(customHttpRef), user);
+        Workout customWorkout1 = dbUtil.createCustomWorkout(1, List.of(customExercise1, customExercise2), user);
+        Workout customWorkout2 = dbUtil.createCustomWorkout(2, List.of(customExercise2), user);
+
+        ExerciseUpdateRequestDto requestDto = dtoUtil.exerciseUpdateRequestDtoEmpty();
+        requestDto.setNeedsEquipment(true);
+        requestDto.setBodyPartIds(List.of(bodyPart2.getId()));
+        requestDto.setHttpRefIds(customExercise1.getHttpRefsIdsSorted());
+
+        // When
+        mockMvc.perform(patch(URL.CUSTOM_EXERCISE_ID, customExercise1.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+
+                // Then
+                .andExpect(status().isOk());
+
+        Workout updatedWorkout1 = dbUtil.getWorkoutById(customWorkout1.getId());
+        assertTrue(updatedWorkout1.isNeedsEquipment());
+        assertEquals(bodyPart1.getMask() | bodyPart2.getMask(), updatedWorkout1.getBodyPartsMask());
+
+        Workout notAffectedWorkout2 = dbUtil.getWorkoutById(customWorkout2.getId());
+        assertFalse(notAffectedWorkout2.isNeedsEquipment());
+        assertEquals(bodyPart1.getMask(), notAffectedWorkout2.getBodyPartsMask());
+    }
+
     @ParameterizedTest
     @MethodSource("updateCustomExerciseInvalidFilters")
     @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
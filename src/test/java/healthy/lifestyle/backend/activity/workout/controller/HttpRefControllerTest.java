@@ -32,6 +32,7 @@ import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.Timezone;
 import healthy.lifestyle.backend.user.model.User;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -853,6 +854,72 @@ class HttpRefControllerTest {
                 Arguments.of("description", "DESC"));
     }
 
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollHttpRefsWithFilter_shouldReturnAllPagesOfDefaultAndCustomWith200_whenSortedByName() throws Exception {
+        // Given
+        HttpRef defaultHttpRef1 = dbUtil.createDefaultHttpRef(1);
+        HttpRef defaultHttpRef2 = dbUtil.createDefaultHttpRef(2);
+
+        Role role = dbUtil.createUserRole();
+        Country country = dbUtil.createCountry(1);
+        Timezone timezone = dbUtil.createTimezone(1);
+        User user1 = dbUtil.createUser(1, role, country, timezone);
+        User user2 = dbUtil.createUser(2, role, country, timezone);
+        HttpRef customHttpRef1User1 = dbUtil.createCustomHttpRef(3, user1);
+        dbUtil.createCustomHttpRef(4, user2);
+        HttpRef customHttpRef2User1 = dbUtil.createCustomHttpRef(5, user1);
+
+        List<Long> expectedIds = List.of(
+                defaultHttpRef1.getId(),
+                defaultHttpRef2.getId(),
+                customHttpRef1User1.getId(),
+                customHttpRef2User1.getId());
+
+        // When
+        List<Long> scrolledIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            MvcResult mvcResult = mockMvc.perform(get(URL.CUSTOM_HTTP_REFS)
+                            .param("sortField", "name")
+                            .param("cursor", cursor)
+                            .param("pageSize", "2")
+                            .contentType(MediaType.APPLICATION_JSON))
+
+                    // Then
+                    .andExpect(status().isOk())
+                    .andDo(print())
+                    .andReturn();
+
+            JsonNode rootNode = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+            rootNode.path("content")
+                    .forEach(node -> scrolledIds.add(node.path("id").asLong()));
+            cursor = rootNode.path("hasNext").asBoolean()
+                    ? rootNode.path("nextCursor").asText()
+                    : null;
+        }
+
+        assertEquals(expectedIds, scrolledIds);
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollHttpRefsWithFilter_shouldReturnErrorMessageWith400_whenPageSizeIsNotPositive() throws Exception {
+        // Given
+        dbUtil.createUser(1);
+
+        // When
+        mockMvc.perform(get(URL.CUSTOM_HTTP_REFS)
+                        .param("cursor", "")
+                        .param("pageSize", "0")
+                        .contentType(MediaType.APPLICATION_JSON))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(ErrorMessage.INVALID_PAGE_SIZE.getName())))
+                .andDo(print());
+    }
+
     @Test
     @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
     void updateCustomHttpRef_shouldReturnDtoWith200_whenValidFilters() throws Exception {
@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.firebase.messaging.FirebaseMessaging;
 import healthy.lifestyle.backend.activity.workout.dto.*;
@@ -225,6 +226,46 @@ class WorkoutControllerTest {
                 .andReturn();
     }
 
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void createCustomWorkout_shouldReturnErrorMessageWith404_whenSeveralExercisesNotFoundOrMismatched()
+            throws Exception {
+        // Given
+        Role role = dbUtil.createUserRole();
+        Country country = dbUtil.createCountry(1);
+        Timezone timezone = dbUtil.createTimezone(1);
+
+        User user1 = dbUtil.createUser(1, role, country, timezone);
+        User user2 = dbUtil.createUser(2, role, country, timezone);
+        BodyPart bodyPart1 = dbUtil.createBodyPart(1);
+        HttpRef customHttpRef = dbUtil.createCustomHttpRef(1, user2);
+        boolean needsEquipment = true;
+        Exercise customExercise =
+                dbUtil.createCustomExercise(1, needsEquipment, List.of(bodyPart1), List.of(customHttpRef), user2);
+        long nonExistentExerciseId1 = 1000L;
+        long nonExistentExerciseId2 = 1001L;
+
+        WorkoutCreateRequestDto requestDto = dtoUtil.workoutCreateRequestDto(
+                1, List.of(nonExistentExerciseId2, customExercise.getId(), nonExistentExerciseId1));
+
+        String expectedMessage = String.format(
+                        ErrorMessage.EXERCISES_NOT_FOUND.getName(),
+                        nonExistentExerciseId1 + ", " + nonExistentExerciseId2)
+                + "; "
+                + String.format(ErrorMessage.USER_EXERCISES_MISMATCH.getName(), customExercise.getId());
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(post(URL.CUSTOM_WORKOUTS)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+
+                // Then
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is(expectedMessage)))
+                .andDo(print())
+                .andReturn();
+    }
+
     @Test
     void getDefaultWorkoutById_shouldReturnDtoWith200_whenValidId() throws Exception {
         // Given
@@ -361,6 +402,97 @@ class WorkoutControllerTest {
                 .andReturn();
     }
 
+    @Test
+    void scrollDefaultWorkouts_shouldReturnAllPagesWith200_whenFilteredWithBodyPartsIds() throws Exception {
+        // Given
+        BodyPart bodyPart1 = dbUtil.createBodyPart(1);
+        BodyPart bodyPart2 = dbUtil.createBodyPart(2);
+        HttpRef defaultHttpRef1 = dbUtil.createDefaultHttpRef(1);
+        Exercise defaultExercise1 =
+                dbUtil.createDefaultExercise(1, true, List.of(bodyPart1, bodyPart2), List.of(defaultHttpRef1));
+        Exercise defaultExercise2 =
+                dbUtil.createDefaultExercise(2, false, List.of(bodyPart2), List.of(defaultHttpRef1));
+
+        Workout defaultWorkout1 = dbUtil.createDefaultWorkout(1, List.of(defaultExercise1));
+        dbUtil.createDefaultWorkout(2, List.of(defaultExercise2));
+        Workout defaultWorkout3 = dbUtil.createDefaultWorkout(3, List.of(defaultExercise1, defaultExercise2));
+        Workout defaultWorkout4 = dbUtil.createDefaultWorkout(4, List.of(defaultExercise1));
+        User user = dbUtil.createUser(1);
+        dbUtil.createCustomWorkout(5, List.of(defaultExercise1), user);
+
+        List<Long> expectedIds = List.of(defaultWorkout1.getId(), defaultWorkout3.getId(), defaultWorkout4.getId());
+
+        // When
+        List<Long> scrolledIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            MvcResult mvcResult = mockMvc.perform(get(URL.DEFAULT_WORKOUTS)
+                            .param("bodyPartsIds", String.valueOf(bodyPart1.getId()))
+                            .param("cursor", cursor)
+                            .param("pageSize", "2")
+                            .contentType(MediaType.APPLICATION_JSON))
+
+                    // Then
+                    .andExpect(status().isOk())
+                    .andDo(print())
+                    .andReturn();
+
+            JsonNode rootNode = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+            rootNode.path("content")
+                    .forEach(node -> scrolledIds.add(node.path("id").asLong()));
+            cursor = rootNode.path("hasNext").asBoolean()
+                    ? rootNode.path("nextCursor").asText()
+                    : null;
+        }
+
+        assertEquals(expectedIds, scrolledIds);
+    }
+
+    @Test
+    void scrollDefaultWorkouts_shouldReturnAllPagesWith200_whenFilteredWithNeedsEquipment() throws Exception {
+        // Given
+        BodyPart bodyPart1 = dbUtil.createBodyPart(1);
+        HttpRef defaultHttpRef1 = dbUtil.createDefaultHttpRef(1);
+        Exercise defaultExercise1 = dbUtil.createDefaultExercise(1, true, List.of(bodyPart1), List.of(defaultHttpRef1));
+        Exercise defaultExercise2 =
+                dbUtil.createDefaultExercise(2, false, List.of(bodyPart1), List.of(defaultHttpRef1));
+
+        dbUtil.createDefaultWorkout(1, List.of(defaultExercise1));
+        Workout defaultWorkout2 = dbUtil.createDefaultWorkout(2, List.of(defaultExercise2));
+        dbUtil.createDefaultWorkout(3, List.of(defaultExercise1, defaultExercise2));
+        Workout defaultWorkout4 = dbUtil.createDefaultWorkout(4, List.of(defaultExercise2));
+
+        // A workout needs equipment if any of its exercises does
+        List<Long> expectedIds = List.of(defaultWorkout2.getId(), defaultWorkout4.getId());
+
+        // When
+        List<Long> scrolledIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            MvcResult mvcResult = mockMvc.perform(get(URL.DEFAULT_WORKOUTS)
+                            .param("needsEquipment", "false")
+                            .param("cursor", cursor)
+                            .param("pageSize", "1")
+                            .contentType(MediaType.APPLICATION_JSON))
+
+                    // Then
+                    .andExpect(status().isOk())
+                    .andDo(print())
+                    .andReturn();
+
+            JsonNode rootNode = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+            rootNode.path("content").forEach(node -> {
+                scrolledIds.add(node.path("id").asLong());
+                assertFalse(node.path("needsEquipment").asBoolean());
+            });
+            cursor = rootNode.path("hasNext").asBoolean()
+                    ? rootNode.path("nextCursor").asText()
+                    : null;
+        }
+
+        assertEquals(expectedIds, scrolledIds);
+    }
+
     @Test
     @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
     void updateCustomWorkout_shouldReturnDtoWith200_whenValidFields() throws Exception {
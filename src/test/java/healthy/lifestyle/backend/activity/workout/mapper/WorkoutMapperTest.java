@@ -0,0 +1,65 @@
+package healthy.lifestyle.backend.activity.workout.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
+import healthy.lifestyle.backend.activity.workout.dto.WorkoutResponseDto;
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.model.Exercise;
+import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.testutil.TestUtil;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WorkoutMapperTest {
+    WorkoutMapper workoutMapper = new WorkoutMapperImpl(new ExerciseMapperImpl(new HttpRefMapperImpl()));
+
+    TestUtil testUtil = new TestUtil();
+
+    @Test
+    void toResponseDto_shouldSortNestedCollectionsAndMergeBodyParts() {
+        // Given
+        BodyPart bodyPart1 = testUtil.createBodyPart(1);
+        BodyPart bodyPart2 = testUtil.createBodyPart(2);
+        BodyPart bodyPart3 = testUtil.createBodyPart(3);
+        HttpRef httpRef1 = testUtil.createDefaultHttpRef(1);
+        HttpRef httpRef2 = testUtil.createDefaultHttpRef(2);
+        Exercise exercise1 =
+                testUtil.createDefaultExercise(1, false, List.of(bodyPart3, bodyPart1), List.of(httpRef2, httpRef1));
+        Exercise exercise2 = testUtil.createDefaultExercise(
+                2, true, List.of(testUtil.createBodyPart(1), bodyPart2), List.of(httpRef1));
+        Workout workout = testUtil.createDefaultWorkout(1, List.of(exercise2, exercise1));
+
+        // When
+        WorkoutResponseDto workoutDto = workoutMapper.toResponseDto(workout);
+
+        // Then
+        assertEquals(workout.getId(), workoutDto.getId());
+        assertEquals(workout.getTitle(), workoutDto.getTitle());
+        assertEquals(workout.getDescription(), workoutDto.getDescription());
+        assertFalse(workoutDto.isCustom());
+        assertTrue(workoutDto.isNeedsEquipment());
+
+        assertThat(workoutDto.getBodyParts())
+                .extracting(BodyPartResponseDto::getId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(workoutDto.getExercises())
+                .extracting(ExerciseResponseDto::getId)
+                .containsExactly(1L, 2L);
+
+        ExerciseResponseDto exerciseDto = workoutDto.getExercises().get(0);
+        assertThat(exerciseDto.getBodyParts())
+                .extracting(BodyPartResponseDto::getId)
+                .containsExactly(1L, 3L);
+        assertThat(exerciseDto.getHttpRefs())
+                .extracting(HttpRefResponseDto::getId)
+                .containsExactly(1L, 2L);
+        assertEquals(
+                httpRef1.getHttpRefType().getName(),
+                exerciseDto.getHttpRefs().get(0).getHttpRefTypeName());
+    }
+}
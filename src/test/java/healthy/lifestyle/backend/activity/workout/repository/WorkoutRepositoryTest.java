@@ -14,7 +14,10 @@ import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.Timezone;
 import healthy.lifestyle.backend.user.model.User;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +26,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -49,6 +53,15 @@ class WorkoutRepositoryTest {
     @Autowired
     WorkoutRepository workoutRepository;
 
+    @Autowired
+    ExerciseRepository exerciseRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
     @Autowired
     DbUtil dbUtil;
 
@@ -159,4 +172,47 @@ class WorkoutRepositoryTest {
         // Then
         assertEquals(0, workouts.size());
     }
+
+    @Test
+    void findWithExercisesByIdTest_shouldLoadWorkoutTreeWithTwoStatements() {
+        // Given
+        Role role = dbUtil.createUserRole();
+        Country country = dbUtil.createCountry(1);
+        Timezone timezone = dbUtil.createTimezone(1);
+        User user = dbUtil.createUser(1, role, country, timezone);
+
+        BodyPart bodyPart1 = dbUtil.createBodyPart(1);
+        BodyPart bodyPart2 = dbUtil.createBodyPart(2);
+        HttpRef defaultHttpRef1 = dbUtil.createDefaultHttpRef(1);
+        HttpRef defaultHttpRef2 = dbUtil.createDefaultHttpRef(2);
+        HttpRef customHttpRef = dbUtil.createCustomHttpRef(3, user);
+        Exercise defaultExercise1 = dbUtil.createDefaultExercise(
+                1, false, List.of(bodyPart1, bodyPart2), List.of(defaultHttpRef1, defaultHttpRef2));
+        Exercise defaultExercise2 = dbUtil.createDefaultExercise(2, true, List.of(bodyPart2), List.of(defaultHttpRef2));
+        Exercise customExercise =
+                dbUtil.createCustomExercise(3, true, List.of(bodyPart1), List.of(defaultHttpRef1, customHttpRef), user);
+        Workout workout =
+                dbUtil.createCustomWorkout(1, List.of(defaultExercise1, defaultExercise2, customExercise), user);
+
+        Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When
+        long statementCount = transactionTemplate.execute(status -> {
+            statistics.clear();
+            Workout loaded =
+                    workoutRepository.findWithExercisesById(workout.getId()).orElseThrow();
+            exerciseRepository.findAllByIdWithBodyPartsAndHttpRefs(loaded.getSortedExercisesIds());
+
+            loaded.getExercises().forEach(exercise -> {
+                exercise.getBodyParts().forEach(BodyPart::getName);
+                exercise.getHttpRefs()
+                        .forEach(httpRef -> httpRef.getHttpRefType().getName());
+            });
+            return statistics.getPrepareStatementCount();
+        });
+
+        // Then
+        assertEquals(2, statementCount);
+    }
 }
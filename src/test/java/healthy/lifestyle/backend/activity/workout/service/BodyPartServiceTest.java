@@ -6,9 +6,9 @@ import static org.mockito.Mockito.*;
 
 import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
 import healthy.lifestyle.backend.activity.workout.model.BodyPart;
-import healthy.lifestyle.backend.activity.workout.repository.BodyPartRepository;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,9 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,10 +25,7 @@ class BodyPartServiceTest {
     BodyPartServiceImpl bodyPartService;
 
     @Mock
-    BodyPartRepository bodyPartRepository;
-
-    @Spy
-    ModelMapper modelMapper;
+    ReferenceDataRegistry referenceDataRegistry;
 
     TestUtil dataUtil = new TestUtil();
 
@@ -40,13 +35,16 @@ class BodyPartServiceTest {
         BodyPart bodyPart1 = dataUtil.createBodyPart(1);
         BodyPart bodyPart2 = dataUtil.createBodyPart(2);
         List<BodyPart> bodyParts = List.of(bodyPart1, bodyPart2);
-        when(bodyPartRepository.findAll()).thenReturn(bodyParts);
+        List<BodyPartResponseDto> bodyPartDtos = bodyParts.stream()
+                .map(bodyPart -> new BodyPartResponseDto(bodyPart.getId(), bodyPart.getName()))
+                .toList();
+        when(referenceDataRegistry.getBodyParts()).thenReturn(bodyPartDtos);
 
         // When
         List<BodyPartResponseDto> bodyPartsActual = bodyPartService.getBodyParts();
 
         // Then
-        verify(bodyPartRepository, times(1)).findAll();
+        verify(referenceDataRegistry, times(1)).getBodyParts();
         assertEquals(2, bodyPartsActual.size());
         assertThat(bodyPartsActual)
                 .usingRecursiveFieldByFieldElementComparator()
@@ -57,13 +55,13 @@ class BodyPartServiceTest {
     void getBodyParts_shouldThrowExceptionWith404_whenNotFound() {
         // Given
         ApiException expectedException = new ApiException(ErrorMessage.NOT_FOUND, null, HttpStatus.NOT_FOUND);
-        when(bodyPartRepository.findAll()).thenReturn(new ArrayList<>());
+        when(referenceDataRegistry.getBodyParts()).thenReturn(new ArrayList<>());
 
         // When
         ApiException actualException = assertThrows(ApiException.class, () -> bodyPartService.getBodyParts());
 
         // Then
-        verify(bodyPartRepository, times(1)).findAll();
+        verify(referenceDataRegistry, times(1)).getBodyParts();
         assertEquals(expectedException.getMessage(), actualException.getMessage());
         assertEquals(expectedException.getHttpStatusValue(), actualException.getHttpStatusValue());
     }
@@ -7,17 +7,22 @@ import static org.mockito.Mockito.*;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefCreateRequestDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefResponseDto;
 import healthy.lifestyle.backend.activity.workout.dto.HttpRefUpdateRequestDto;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapper;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapperImpl;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
 import healthy.lifestyle.backend.activity.workout.repository.HttpRefRepository;
-import healthy.lifestyle.backend.activity.workout.repository.HttpRefTypeRepository;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ApiExceptionCustomMessage;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.shared.cache.ListingCacheProps;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.testutil.DtoUtil;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -33,7 +38,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
 
@@ -49,14 +53,18 @@ class HttpRefServiceTest {
     UserService userService;
 
     @Mock
-    HttpRefTypeRepository httpRefTypeRepository;
+    ReferenceDataRegistry referenceDataRegistry;
 
     @Spy
-    ModelMapper modelMapper;
+    HttpRefMapper httpRefMapper = new HttpRefMapperImpl();
 
     @Spy
     VerificationUtil verificationUtil;
 
+    @Spy
+    UserListingCache userListingCache =
+            new UserListingCache(new ListingCacheProps(false, 0, 0, 0), new SimpleMeterRegistry());
+
     TestUtil testUtil = new TestUtil();
 
     DtoUtil dtoUtil = new DtoUtil();
@@ -69,7 +77,7 @@ class HttpRefServiceTest {
         HttpRef httpRef = testUtil.createDefaultHttpRef(1);
 
         when(userService.getUserById(user.getId())).thenReturn(user);
-        when(httpRefTypeRepository.findByName(any(String.class)))
+        when(referenceDataRegistry.findHttpRefTypeByName(any(String.class)))
                 .thenReturn(Optional.ofNullable(httpRef.getHttpRefType()));
         when(httpRefRepository.findDefaultAndCustomByNameAndUserId(requestDto.getName(), user.getId()))
                 .thenReturn(Collections.emptyList());
@@ -88,6 +96,7 @@ class HttpRefServiceTest {
         verify(userService, times(1)).getUserById(user.getId());
         verify(httpRefRepository, times(1)).findDefaultAndCustomByNameAndUserId(requestDto.getName(), user.getId());
         verify(httpRefRepository, times(1)).save(org.mockito.ArgumentMatchers.any(HttpRef.class));
+        verify(userListingCache, times(1)).bump(user.getId());
 
         assertThat(responseDto)
                 .usingRecursiveComparison()
@@ -269,7 +278,7 @@ class HttpRefServiceTest {
         else
             verify(httpRefRepository, times(1))
                     .findDefaultAndCustomWithFilter(eq(userId), eq(name), eq(description), any());
-        verify(modelMapper, times(resultSeeds.size())).map(any(), eq(HttpRefResponseDto.class));
+        verify(httpRefMapper, times(resultSeeds.size())).toResponseDto(any());
 
         assertEquals(totalElements, httpRefPage.getTotalElements());
         assertEquals(totalPages, httpRefPage.getTotalPages());
@@ -295,7 +304,7 @@ class HttpRefServiceTest {
 
         when(httpRefRepository.findById(httpRef.getId())).thenReturn(Optional.of(httpRef));
         when(httpRefRepository.save(httpRef)).thenReturn(httpRef);
-        when(httpRefTypeRepository.findByName(any(String.class)))
+        when(referenceDataRegistry.findHttpRefTypeByName(any(String.class)))
                 .thenReturn(Optional.ofNullable(httpRef.getHttpRefType()));
 
         // When
@@ -304,6 +313,7 @@ class HttpRefServiceTest {
         // Then
         verify(httpRefRepository, times(1)).findById(httpRef.getId());
         verify(httpRefRepository, times(1)).save(httpRef);
+        verify(userListingCache, times(1)).bump(user.getId());
 
         assertEquals(requestDto.getName(), responseDto.getName());
         assertEquals(requestDto.getDescription(), responseDto.getDescription());
@@ -418,6 +428,7 @@ class HttpRefServiceTest {
 
         // Then
         verify(httpRefRepository, times(1)).findById(httpRef.getId());
+        verify(userListingCache, times(1)).bump(user.getId());
     }
 
     @Test
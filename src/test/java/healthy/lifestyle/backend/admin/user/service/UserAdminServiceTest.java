@@ -3,13 +3,14 @@ package healthy.lifestyle.backend.admin.user.service;
 import static org.mockito.Mockito.*;
 
 import healthy.lifestyle.backend.admin.user.repository.UserAdminRepository;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.dto.UserResponseDto;
+import healthy.lifestyle.backend.user.mapper.UserMapper;
+import healthy.lifestyle.backend.user.mapper.UserMapperImpl;
 import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.User;
-import healthy.lifestyle.backend.user.repository.CountryRepository;
-import healthy.lifestyle.backend.user.repository.RoleRepository;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -20,7 +21,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 @ExtendWith(MockitoExtension.class)
 class UserAdminServiceTest {
@@ -32,16 +32,13 @@ class UserAdminServiceTest {
     private UserAdminRepository userAdminRepository;
 
     @Mock
-    private CountryRepository countryRepository;
-
-    @Mock
-    private RoleRepository roleRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Spy
     private TestUtil testUtil;
 
     @Spy
-    ModelMapper modelMapper;
+    UserMapper userMapper = new UserMapperImpl();
 
     @Test
     void getUsersWithFilterTest_shouldReturnUsersResponseDtoList_whenValidFilters() {
@@ -57,11 +54,11 @@ class UserAdminServiceTest {
                 null, user1.getUsername(), user1.getEmail(), user1.getFullName(), null, user1.getAge());
 
         // Then
-        verify(roleRepository, never()).findById(anyLong());
-        verify(countryRepository, never()).findById(anyLong());
+        verify(referenceDataRegistry, never()).findRoleById(anyLong());
+        verify(referenceDataRegistry, never()).findCountryById(anyLong());
         verify(userAdminRepository, times(1))
                 .findWithFilter(isNull(), anyString(), anyString(), anyString(), isNull(), anyInt());
-        verify(modelMapper, times(2)).map(any(User.class), eq(UserResponseDto.class));
+        verify(userMapper, times(2)).toResponseDto(any(User.class));
         Assertions.assertEquals(2, result.size());
     }
 
@@ -71,8 +68,8 @@ class UserAdminServiceTest {
         Role roleUser = testUtil.createUserRole(1);
         Country country = testUtil.createCountry(1);
 
-        when(countryRepository.findById(anyLong())).thenReturn(Optional.of(country));
-        when(roleRepository.findById(anyLong())).thenReturn(Optional.of(roleUser));
+        when(referenceDataRegistry.findCountryById(anyLong())).thenReturn(Optional.of(country));
+        when(referenceDataRegistry.findRoleById(anyLong())).thenReturn(Optional.of(roleUser));
         when(userAdminRepository.findWithFilter(
                         any(Role.class), anyString(), anyString(), anyString(), any(Country.class), anyInt()))
                 .thenReturn(Collections.emptyList());
@@ -84,9 +81,9 @@ class UserAdminServiceTest {
         // Then
         verify(userAdminRepository, times(1))
                 .findWithFilter(eq(roleUser), anyString(), anyString(), anyString(), eq(country), anyInt());
-        verify(roleRepository, times(1)).findById(anyLong());
-        verify(countryRepository, times(1)).findById(anyLong());
-        verify(modelMapper, times(0)).map(any(User.class), eq(UserResponseDto.class));
+        verify(referenceDataRegistry, times(1)).findRoleById(anyLong());
+        verify(referenceDataRegistry, times(1)).findCountryById(anyLong());
+        verify(userMapper, times(0)).toResponseDto(any(User.class));
         Assertions.assertEquals(0, result.size());
     }
 }
@@ -3,6 +3,9 @@ package healthy.lifestyle.backend.admin.workout.service;
 import static org.mockito.Mockito.*;
 
 import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
+import healthy.lifestyle.backend.activity.workout.mapper.ExerciseMapper;
+import healthy.lifestyle.backend.activity.workout.mapper.ExerciseMapperImpl;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapperImpl;
 import healthy.lifestyle.backend.activity.workout.model.BodyPart;
 import healthy.lifestyle.backend.activity.workout.model.Exercise;
 import healthy.lifestyle.backend.activity.workout.model.HttpRef;
@@ -24,7 +27,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 @ExtendWith(MockitoExtension.class)
 public class ExerciseAdminServiceTest {
@@ -39,7 +41,7 @@ public class ExerciseAdminServiceTest {
     private TestUtil testUtil;
 
     @Spy
-    ModelMapper modelMapper;
+    ExerciseMapper exerciseMapper = new ExerciseMapperImpl(new HttpRefMapperImpl());
 
     @ParameterizedTest
     @MethodSource("getExercisesValidFilters")
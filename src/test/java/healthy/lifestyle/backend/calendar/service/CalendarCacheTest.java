@@ -0,0 +1,251 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.calendar.dto.ActivityDayDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityRowDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityWeekDto;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.*;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CalendarCacheTest {
+    static final long USER_ID = 2L;
+
+    static final ZoneId KYIV = ZoneId.of("Europe/Kyiv");
+
+    // Monday 2024-04-15 in Kyiv
+    static final LocalDate MONDAY = LocalDate.of(2024, 4, 15);
+
+    SimpleMeterRegistry meterRegistry;
+
+    CalendarCache calendarCache;
+
+    DateTimeService dateTimeService;
+
+    WorkoutPlan morningPlan;
+
+    WorkoutPlan eveningPlan;
+
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calendarCache = new CalendarCache(new CalendarCacheProps(true, 10, 60, 60), meterRegistry);
+        dateTimeService = new DateTimeService();
+        ReflectionTestUtils.setField(calendarCache, "dateTimeService", dateTimeService);
+        setNow(ZonedDateTime.of(MONDAY, LocalTime.of(12, 0), KYIV));
+        morningPlan = WorkoutPlan.builder()
+                .id(1L)
+                .workout(Workout.builder().id(5L).title("Workout 5").build())
+                .build();
+        eveningPlan = WorkoutPlan.builder()
+                .id(2L)
+                .workout(Workout.builder().id(6L).title("Workout 6").build())
+                .build();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getDayTest_shouldLoadOnce_whenSameDayRequestedAgain() {
+        // Given
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+
+        // When
+        ActivityDayDto first = calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+        ActivityDayDto second = calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals(1, second.getActivities().size());
+        assertEquals(1.0, meterRegistry.get("calendar.cache.views").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("calendar.cache.views").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void getDayTest_shouldLoadAgain_whenLocalMidnightPassed() {
+        // Given
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // When
+        setNow(ZonedDateTime.of(MONDAY.plusDays(1), LocalTime.MIDNIGHT, KYIV));
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getDayTest_shouldLoadAgain_whenExpiredAfterWriteDespiteAccess() {
+        // Given
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // When
+        setNow(ZonedDateTime.of(MONDAY, LocalTime.of(12, 0, 40), KYIV));
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+        setNow(ZonedDateTime.of(MONDAY, LocalTime.of(12, 1, 0), KYIV));
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getDayTest_shouldLoadAgain_whenUserZoneChanged() {
+        // Given
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // When
+        calendarCache.getDay(USER_ID, ZoneId.of("Europe/Warsaw"), MONDAY, loader);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void addWorkoutPlanTest_shouldAddOccurrencesToStoredViews() {
+        // Given
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+        calendarCache.getWeek(USER_ID, KYIV, MONDAY, loader);
+
+        // Mondays and Wednesdays of April 2024 at 19:30 in Kyiv
+        List<WorkoutPlanOccurrence> occurrences = List.of(
+                occurrence(eveningPlan, LocalDateTime.of(2024, 4, 1, 16, 30), 4),
+                occurrence(eveningPlan, LocalDateTime.of(2024, 4, 3, 16, 30), 3));
+
+        // When
+        calendarCache.addWorkoutPlan(USER_ID, occurrences);
+        ActivityDayDto day = calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+        ActivityWeekDto week = calendarCache.getWeek(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(2, loads.get());
+        List<ActivityRowDto> monday = day.getActivities();
+        assertEquals(2, monday.size());
+        assertEquals(5L, monday.get(0).getActivityId());
+        assertEquals(6L, monday.get(1).getActivityId());
+        assertEquals(19, monday.get(1).getHours());
+        assertEquals(30, monday.get(1).getMinutes());
+        assertEquals(2, week.getMonday().getActivities().size());
+        assertEquals(1, week.getWednesday().getActivities().size());
+    }
+
+    @Test
+    void removeWorkoutPlanTest_shouldRemoveActivitiesOfPlanFromStoredViews() {
+        // Given
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+        calendarCache.getWeek(USER_ID, KYIV, MONDAY, loader);
+
+        // When
+        calendarCache.removeWorkoutPlan(USER_ID, morningPlan.getId());
+        ActivityWeekDto actual = calendarCache.getWeek(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertTrue(actual.getMonday().getActivities().isEmpty());
+    }
+
+    @Test
+    void setCompletedTest_shouldCompleteOnlyActivityOfDate_whenViewIsStored() {
+        // Given
+        Supplier<List<PlanActivity>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(
+                    activity(morningPlan, MONDAY, LocalTime.of(10, 0)),
+                    activity(morningPlan, MONDAY.plusDays(2), LocalTime.of(10, 0)));
+        };
+        ActivityWeekDto before = calendarCache.getWeek(USER_ID, KYIV, MONDAY, loader);
+
+        // When
+        calendarCache.setCompleted(USER_ID, morningPlan.getId(), 3L, MONDAY.plusDays(2));
+        ActivityWeekDto actual = calendarCache.getWeek(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertFalse(actual.getMonday().getActivities().get(0).isCompleted());
+        assertTrue(actual.getWednesday().getActivities().get(0).isCompleted());
+        assertFalse(before.getWednesday().getActivities().get(0).isCompleted());
+    }
+
+    @Test
+    void getDayTest_shouldNotStoreView_whenPatchedWhileLoading() {
+        // Given
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+        calendarCache.getWeek(USER_ID, KYIV, MONDAY, loader);
+        Supplier<List<PlanActivity>> patchedWhileLoading = () -> {
+            calendarCache.removeWorkoutPlan(USER_ID, eveningPlan.getId());
+            return loader.get();
+        };
+
+        // When
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, patchedWhileLoading);
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getDayTest_shouldLoadEveryTime_whenDisabled() {
+        // Given
+        calendarCache = new CalendarCache(new CalendarCacheProps(false, 10, 60, 60), meterRegistry);
+        Supplier<List<PlanActivity>> loader = loader(morningPlan, LocalTime.of(10, 0));
+
+        // When
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+        calendarCache.getDay(USER_ID, KYIV, MONDAY, loader);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    private void setNow(ZonedDateTime now) {
+        ReflectionTestUtils.setField(calendarCache, "clock", Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+    }
+
+    private Supplier<List<PlanActivity>> loader(WorkoutPlan workoutPlan, LocalTime time) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(activity(workoutPlan, MONDAY, time));
+        };
+    }
+
+    private static PlanActivity activity(WorkoutPlan workoutPlan, LocalDate date, LocalTime time) {
+        Instant at = ZonedDateTime.of(date, time, KYIV).toInstant();
+        return new PlanSchedule(
+                        workoutPlan.getId(),
+                        3L,
+                        workoutPlan.getWorkout().getId(),
+                        workoutPlan.getWorkout().getTitle(),
+                        at,
+                        at)
+                .expand(KYIV, at, at.plusSeconds(1), Set.of())
+                .get(0);
+    }
+
+    private static WorkoutPlanOccurrence occurrence(
+            WorkoutPlan workoutPlan, LocalDateTime firstOccurrenceAt, int weeks) {
+        return WorkoutPlanOccurrence.builder()
+                .workoutPlan(workoutPlan)
+                .jsonId(4L)
+                .firstOccurrenceAt(firstOccurrenceAt)
+                .lastOccurrenceAt(firstOccurrenceAt.plusWeeks(weeks))
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.calendar.dto.ActivityDayDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityMonthDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityRowDto;
+import healthy.lifestyle.backend.calendar.dto.ActivityWeekDto;
+import healthy.lifestyle.backend.calendar.model.ActivityType;
+import healthy.lifestyle.backend.plan.workout.api.WorkoutPlanApi;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutCompletionRecord;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
+import healthy.lifestyle.backend.user.api.UserApi;
+import healthy.lifestyle.backend.user.model.Timezone;
+import healthy.lifestyle.backend.user.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.*;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarServiceImplTest {
+    @InjectMocks
+    CalendarServiceImpl calendarService;
+
+    @Mock
+    UserApi userApi;
+
+    @Mock
+    WorkoutPlanApi workoutPlanApi;
+
+    @Spy
+    DateTimeService dateTimeService;
+
+    @Spy
+    CalendarCache calendarCache = new CalendarCache(new CalendarCacheProps(false, 1, 1, 1), new SimpleMeterRegistry());
+
+    User user;
+
+    WorkoutPlan morningPlan;
+
+    WorkoutPlan eveningPlan;
+
+    @BeforeEach
+    void setUp() {
+        Timezone timezone = Timezone.builder().id(1L).name("Europe/Kyiv").build();
+        user = User.builder().id(2L).timezone(timezone).build();
+        morningPlan = WorkoutPlan.builder()
+                .id(1L)
+                .workout(Workout.builder().id(5L).title("Workout 5").build())
+                .build();
+        eveningPlan = WorkoutPlan.builder()
+                .id(2L)
+                .workout(Workout.builder().id(6L).title("Workout 6").build())
+                .build();
+        when(userApi.getUserById(user.getId())).thenReturn(user);
+    }
+
+    @Test
+    void getWeekActivityTest_shouldMergeOccurrencesAndCompletions_whenDayOfWeekGiven() {
+        // Given
+        // Mondays of April 2024 at 10:00 and 19:30 in Kyiv, summer time
+        when(workoutPlanApi.getActiveOccurrences(eq(user.getId()), any(), any()))
+                .thenReturn(List.of(
+                        occurrence(eveningPlan, 4L, LocalDateTime.of(2024, 4, 1, 16, 30), 4),
+                        occurrence(morningPlan, 3L, LocalDateTime.of(2024, 4, 1, 7, 0), 4)));
+        when(workoutPlanApi.getPlanCompletions(eq(user.getId()), any(), any()))
+                .thenReturn(List.of(completion(morningPlan, 3L, LocalDate.of(2024, 4, 8))));
+
+        // When
+        ActivityWeekDto actual = calendarService.getWeekActivity(user.getId(), LocalDate.of(2024, 4, 10));
+
+        // Then
+        verify(workoutPlanApi, times(1))
+                .getActiveOccurrences(
+                        user.getId(), LocalDateTime.of(2024, 4, 7, 21, 0), LocalDateTime.of(2024, 4, 14, 21, 0));
+        verify(workoutPlanApi, times(1))
+                .getPlanCompletions(user.getId(), LocalDate.of(2024, 4, 8), LocalDate.of(2024, 4, 14));
+
+        assertEquals(LocalDate.of(2024, 4, 8), actual.getWeekStartDate());
+        assertEquals(LocalDate.of(2024, 4, 14), actual.getWeekEndDate());
+        List<ActivityRowDto> monday = actual.getMonday().getActivities();
+        assertEquals(2, monday.size());
+        assertRow(monday.get(0), 5L, "Workout 5", 10, 0, true);
+        assertRow(monday.get(1), 6L, "Workout 6", 19, 30, false);
+        assertEquals(DayOfWeek.MONDAY, actual.getMonday().getDayOfWeek());
+        List.of(
+                        actual.getTuesday(),
+                        actual.getWednesday(),
+                        actual.getThursday(),
+                        actual.getFriday(),
+                        actual.getSaturday(),
+                        actual.getSunday())
+                .forEach(day -> assertTrue(day.getActivities().isEmpty()));
+    }
+
+    @Test
+    void getMonthActivityTest_shouldExpandEveryWeekOfMonthFromTwoQueries() {
+        // Given
+        when(workoutPlanApi.getActiveOccurrences(eq(user.getId()), any(), any()))
+                .thenReturn(List.of(occurrence(morningPlan, 3L, LocalDateTime.of(2024, 4, 1, 7, 0), 4)));
+        when(workoutPlanApi.getPlanCompletions(eq(user.getId()), any(), any()))
+                .thenReturn(List.of(completion(morningPlan, 3L, LocalDate.of(2024, 4, 22))));
+
+        // When
+        ActivityMonthDto actual = calendarService.getMonthActivity(user.getId(), LocalDate.of(2024, 4, 17));
+
+        // Then
+        verify(workoutPlanApi, times(1)).getActiveOccurrences(anyLong(), any(), any());
+        verify(workoutPlanApi, times(1)).getPlanCompletions(anyLong(), any(), any());
+
+        assertEquals(LocalDate.of(2024, 4, 1), actual.getMonthStartDate());
+        assertEquals(LocalDate.of(2024, 4, 30), actual.getMonthEndDate());
+        assertEquals(5, actual.getWeeks().size());
+        assertEquals(LocalDate.of(2024, 5, 5), actual.getWeeks().get(4).getWeekEndDate());
+        for (int i = 0; i < 5; i++) {
+            ActivityDayDto monday = actual.getWeeks().get(i).getMonday();
+            assertEquals(LocalDate.of(2024, 4, 1).plusWeeks(i), monday.getDayDate());
+            assertEquals(1, monday.getActivities().size());
+            assertRow(monday.getActivities().get(0), 5L, "Workout 5", 10, 0, i == 3);
+        }
+    }
+
+    @Test
+    void getDayActivityTest_shouldUseUserToday_whenDateIsNull() {
+        // Given
+        // 2024-04-14 22:30 UTC is already Monday in Kyiv
+        Instant now = Instant.parse("2024-04-14T22:30:00Z");
+        ReflectionTestUtils.setField(dateTimeService, "clock", Clock.fixed(now, ZoneOffset.UTC));
+        when(workoutPlanApi.getActiveOccurrences(eq(user.getId()), any(), any()))
+                .thenReturn(List.of(occurrence(morningPlan, 3L, LocalDateTime.of(2024, 4, 1, 7, 0), 4)));
+        when(workoutPlanApi.getPlanCompletions(eq(user.getId()), any(), any())).thenReturn(List.of());
+
+        // When
+        ActivityDayDto actual = calendarService.getDayActivity(user.getId(), null);
+
+        // Then
+        assertEquals(LocalDate.of(2024, 4, 15), actual.getDayDate());
+        assertEquals(DayOfWeek.MONDAY, actual.getDayOfWeek());
+        assertEquals(1, actual.getActivities().size());
+        assertRow(actual.getActivities().get(0), 5L, "Workout 5", 10, 0, false);
+    }
+
+    @Test
+    void getDayActivityTest_shouldReturnNoActivities_whenDayIsAfterLastOccurrence() {
+        // Given
+        when(workoutPlanApi.getActiveOccurrences(eq(user.getId()), any(), any()))
+                .thenReturn(List.of(occurrence(morningPlan, 3L, LocalDateTime.of(2024, 4, 1, 7, 0), 4)));
+        when(workoutPlanApi.getPlanCompletions(eq(user.getId()), any(), any())).thenReturn(List.of());
+
+        // When
+        ActivityDayDto actual = calendarService.getDayActivity(user.getId(), LocalDate.of(2024, 5, 6));
+
+        // Then
+        assertTrue(actual.getActivities().isEmpty());
+    }
+
+    private static WorkoutPlanOccurrence occurrence(
+            WorkoutPlan workoutPlan, long jsonId, LocalDateTime firstOccurrenceAt, int weeks) {
+        return WorkoutPlanOccurrence.builder()
+                .workoutPlan(workoutPlan)
+                .jsonId(jsonId)
+                .firstOccurrenceAt(firstOccurrenceAt)
+                .lastOccurrenceAt(firstOccurrenceAt.plusWeeks(weeks))
+                .build();
+    }
+
+    private static WorkoutCompletionRecord completion(WorkoutPlan workoutPlan, long jsonId, LocalDate completedAt) {
+        return WorkoutCompletionRecord.builder()
+                .workoutPlan(workoutPlan)
+                .jsonId(jsonId)
+                .completedAt(completedAt)
+                .build();
+    }
+
+    private static void assertRow(
+            ActivityRowDto row, long activityId, String title, int hours, int minutes, boolean isCompleted) {
+        assertEquals(activityId, row.getActivityId());
+        assertEquals(ActivityType.WORKOUT, row.getActivityType());
+        assertEquals(title, row.getTitle());
+        assertEquals(hours, row.getHours());
+        assertEquals(minutes, row.getMinutes());
+        assertEquals(isCompleted, row.isCompleted());
+    }
+}
@@ -0,0 +1,120 @@
+package healthy.lifestyle.backend.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.firebase.messaging.FirebaseMessaging;
+import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.calendar.dto.ActivityMonthDto;
+import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanCreateRequestDto;
+import healthy.lifestyle.backend.plan.workout.service.WorkoutPlanService;
+import healthy.lifestyle.backend.testconfig.BeanConfig;
+import healthy.lifestyle.backend.testconfig.ContainerConfig;
+import healthy.lifestyle.backend.testutil.DbUtil;
+import healthy.lifestyle.backend.testutil.DtoUtil;
+import healthy.lifestyle.backend.user.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Calendar views read the occurrences and completions of a user with a range query each, whatever the number of
+ * plans and days in the view.
+ */
+@SpringBootTest
+@Testcontainers
+@Import(BeanConfig.class)
+class CalendarStatementCountTest {
+    static final long MAX_STATEMENTS = 5;
+
+    @MockBean
+    FirebaseMessaging firebaseMessaging;
+
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer =
+            new PostgreSQLContainer<>(DockerImageName.parse(ContainerConfig.POSTGRES));
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+    }
+
+    @Autowired
+    CalendarService calendarService;
+
+    @Autowired
+    WorkoutPlanService workoutPlanService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    DbUtil dbUtil;
+
+    DtoUtil dtoUtil = new DtoUtil();
+
+    @BeforeEach
+    void beforeEach() {
+        dbUtil.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    void getMonthActivityTest_shouldTakeFewStatements_whenAnyNumberOfPlans(int plansNumber)
+            throws JsonProcessingException {
+        // Given
+        User user = dbUtil.createUser(1);
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        for (int i = 0; i < plansNumber; i++) {
+            Workout workout = dbUtil.createCustomWorkout(i, List.of(), user);
+            String jsonDescription = "[{\"dayOfWeek\":null,\"hours\":" + i % 24 + ",\"minutes\":0},"
+                    + "{\"dayOfWeek\":\"" + DayOfWeek.of(i % 7 + 1) + "\",\"hours\":20,\"minutes\":30}]";
+            workoutPlanService.createWorkoutPlan(
+                    dtoUtil.workoutPlanCreateRequestDto(
+                            workout.getId(), startDate, startDate.plusDays(90), jsonDescription),
+                    user.getId());
+        }
+        LocalDate monthDate = startDate.plusMonths(1);
+
+        // When
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long[] statementCount = new long[1];
+        ActivityMonthDto actual = transactionTemplate.execute(status -> {
+            statistics.clear();
+            ActivityMonthDto month = calendarService.getMonthActivity(user.getId(), monthDate);
+            statementCount[0] = statistics.getPrepareStatementCount();
+            return month;
+        });
+
+        // Then
+        long activitiesNumber = Objects.requireNonNull(actual).getWeeks().stream()
+                .map(week -> week.getWednesday().getActivities().size())
+                .mapToLong(Integer::longValue)
+                .sum();
+        assertTrue(activitiesNumber >= (long) plansNumber * 4, "Activities: " + activitiesNumber);
+        assertTrue(statementCount[0] <= MAX_STATEMENTS, "Statements: " + statementCount[0]);
+    }
+}
@@ -1,14 +1,16 @@
 package healthy.lifestyle.backend.calendar.service;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 import healthy.lifestyle.backend.shared.util.DateTimeService;
-import java.time.ZonedDateTime;
+import healthy.lifestyle.backend.user.model.Timezone;
+import java.time.*;
 import java.util.TimeZone;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DateTimeServiceTest {
@@ -28,4 +30,65 @@ class DateTimeServiceTest {
                 dateTimeService.convertToNewZone(serverZonedDateTime, TimeZone.getTimeZone("Europe/Kyiv"));
         assertNotNull(convertedZonedDateTime);
     }
+
+    @Test
+    void getCurrentDatabaseZonedDateTimeTest_shouldUseClock() {
+        // Given
+        Instant now = Instant.parse("2024-03-31T22:30:00.123456Z");
+        ReflectionTestUtils.setField(dateTimeService, "clock", Clock.fixed(now, ZoneId.of("Europe/Kyiv")));
+
+        // When
+        ZonedDateTime actual = dateTimeService.getCurrentDatabaseZonedDateTime();
+
+        // Then
+        assertEquals(ZonedDateTime.parse("2024-03-31T22:30:00.123Z[UTC]"), actual);
+        assertEquals(LocalDate.of(2024, 3, 31), dateTimeService.getCurrentDatabaseDate());
+        assertEquals(LocalDate.of(2024, 4, 1), dateTimeService.getCurrentDate(ZoneId.of("Europe/Kyiv")));
+    }
+
+    @Test
+    void getZoneIdTest_shouldResolveOncePerTimezone() {
+        // Given
+        Timezone timezone = Timezone.builder().id(1L).name("Europe/Kyiv").build();
+
+        // When
+        ZoneId first = dateTimeService.getZoneId(timezone);
+        timezone.setName("America/New_York");
+        ZoneId second = dateTimeService.getZoneId(timezone);
+
+        // Then
+        assertEquals(ZoneId.of("Europe/Kyiv"), first);
+        assertSame(first, second);
+        assertSame(dateTimeService.getZoneId("Europe/Kyiv"), dateTimeService.getZoneId("Europe/Kyiv"));
+    }
+
+    @Test
+    void getZoneIdTest_shouldReturnGmt_whenUnknownName() {
+        // When
+        ZoneId actual = dateTimeService.getZoneId("Unknown/Zone");
+
+        // Then
+        assertEquals(TimeZone.getTimeZone("GMT").toZoneId(), actual);
+    }
+
+    @Test
+    void convertTest_shouldConvertBetweenDatabaseAndUserZone() {
+        // Given
+        ZoneId userZone = ZoneId.of("Pacific/Auckland");
+        ZoneId westZone = ZoneId.of("Pacific/Honolulu");
+
+        // When, Then
+        assertEquals(
+                LocalDate.of(2024, 1, 9), dateTimeService.convertToDBDate(LocalDate.of(2024, 1, 10), userZone));
+        assertEquals(
+                LocalDate.of(2024, 1, 10), dateTimeService.convertToUserDate(LocalDate.of(2024, 1, 9), userZone));
+        assertEquals(
+                LocalDate.of(2024, 1, 10), dateTimeService.convertToDBDate(LocalDate.of(2024, 1, 10), westZone));
+        assertEquals(
+                LocalDateTime.of(2024, 1, 10, 13, 15),
+                dateTimeService.convertToUserDateTime(LocalDateTime.of(2024, 1, 10, 0, 15), userZone));
+        assertEquals(
+                dateTimeService.convertToUserDate(LocalDate.of(2024, 1, 9), userZone),
+                dateTimeService.convertToUserDate(LocalDate.of(2024, 1, 9), "Pacific/Auckland"));
+    }
 }
@@ -0,0 +1,51 @@
+package healthy.lifestyle.backend.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.Test;
+
+class SecondLevelCacheConfigTest {
+    SecondLevelCacheConfig secondLevelCacheConfig = new SecondLevelCacheConfig();
+
+    SecondLevelCacheProps secondLevelCacheProps = new SecondLevelCacheProps(100, 1000, 60);
+
+    @Test
+    void secondLevelCacheManagerTest_shouldCreateBoundedRegions() {
+        // When
+        try (CacheManager cacheManager = secondLevelCacheConfig.secondLevelCacheManager(secondLevelCacheProps)) {
+            // Then
+            for (String region : SecondLevelCacheConfig.REFERENCE_DATA_REGIONS) {
+                CaffeineConfiguration<?, ?> configuration = regionConfiguration(cacheManager, region);
+                assertEquals(100, configuration.getMaximumSize().getAsLong());
+                assertTrue(configuration.getExpireAfterWrite().isEmpty());
+            }
+            for (String region : SecondLevelCacheConfig.CONTENT_REGIONS) {
+                CaffeineConfiguration<?, ?> configuration = regionConfiguration(cacheManager, region);
+                assertEquals(1000, configuration.getMaximumSize().getAsLong());
+                assertEquals(
+                        TimeUnit.SECONDS.toNanos(60),
+                        configuration.getExpireAfterWrite().getAsLong());
+            }
+        }
+    }
+
+    @Test
+    void secondLevelCacheManagerTest_shouldNotShareRegions_whenCreatedTwice() {
+        // When
+        try (CacheManager first = secondLevelCacheConfig.secondLevelCacheManager(secondLevelCacheProps);
+                CacheManager second = secondLevelCacheConfig.secondLevelCacheManager(secondLevelCacheProps)) {
+            first.getCache("timezones").put(1L, "Europe/Berlin");
+
+            // Then
+            assertNotSame(first, second);
+            assertNull(second.getCache("timezones").get(1L));
+        }
+    }
+
+    private CaffeineConfiguration<?, ?> regionConfiguration(CacheManager cacheManager, String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -2,7 +2,10 @@ package healthy.lifestyle.backend.plan.workout.controller;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -19,6 +22,8 @@ import healthy.lifestyle.backend.exception.ErrorMessage;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanCreateRequestDto;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanResponseDto;
 import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutCompletionRecordRepository;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanRepository;
 import healthy.lifestyle.backend.testconfig.BeanConfig;
 import healthy.lifestyle.backend.testconfig.ContainerConfig;
 import healthy.lifestyle.backend.testutil.DbUtil;
@@ -68,6 +73,12 @@ class WorkoutPlanControllerTest {
     @Autowired
     DtoUtil dtoUtil;
 
+    @Autowired
+    WorkoutCompletionRecordRepository workoutCompletionRecordRepository;
+
+    @Autowired
+    WorkoutPlanRepository workoutPlanRepository;
+
     @MockBean
     FirebaseMessaging firebaseMessaging;
 
@@ -225,4 +236,200 @@ class WorkoutPlanControllerTest {
                 .andExpect(jsonPath("$.jsonDescription", is("must not be blank")))
                 .andDo(print());
     }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void deactivateWorkoutPlan_shouldRemovePlanFromActivePlans_whenValidRequest() throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        Exercise exercise = dbUtil.createCustomExercise(1, true, List.of(bodyPart), Collections.emptyList(), user);
+        Workout workout = dbUtil.createCustomWorkout(1, List.of(exercise), user);
+        WorkoutPlan workoutPlan = dbUtil.createWorkoutPlan(1L, user, workout);
+
+        // When
+        mockMvc.perform(delete(URL.WORKOUT_PLAN_ID, workoutPlan.getId()).contentType(MediaType.APPLICATION_JSON))
+
+                // Then
+                .andExpect(status().isNoContent())
+                .andDo(print());
+
+        mockMvc.perform(get(URL.WORKOUT_PLANS).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void deactivateWorkoutPlan_shouldReturnErrorMessageWith400_whenPlanBelongsToAnotherUser() throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        User anotherUser = dbUtil.createUser(2);
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        Exercise exercise =
+                dbUtil.createCustomExercise(1, true, List.of(bodyPart), Collections.emptyList(), anotherUser);
+        Workout workout = dbUtil.createCustomWorkout(1, List.of(exercise), anotherUser);
+        WorkoutPlan workoutPlan = dbUtil.createWorkoutPlan(1L, anotherUser, workout);
+
+        // When
+        mockMvc.perform(delete(URL.WORKOUT_PLAN_ID, workoutPlan.getId()).contentType(MediaType.APPLICATION_JSON))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath(
+                        "$.message",
+                        is(ErrorMessage.USER_WORKOUT_PLAN_MISMATCH.getName().formatted(workoutPlan.getId()))))
+                .andDo(print());
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void setWorkoutPlanDayCompleted_shouldRecordCompletionOnce_whenCompletedTwice() throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        Exercise exercise = dbUtil.createCustomExercise(1, true, List.of(bodyPart), Collections.emptyList(), user);
+        Workout workout = dbUtil.createCustomWorkout(1, List.of(exercise), user);
+        WorkoutPlan workoutPlan = createWorkoutPlan(workout);
+        long jsonId = workoutPlan.getJsonDescription().get(0).getJson_id();
+        // The plan starts tomorrow and takes place on today's day of the week, i.e. once in a week from now
+        LocalDate scheduledDate = LocalDate.now().plusDays(7);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post(URL.WORKOUT_PLAN_DAY_COMPLETIONS, workoutPlan.getId(), jsonId)
+                            .param("date", scheduledDate.toString()))
+
+                    // Then
+                    .andExpect(status().isNoContent())
+                    .andDo(print());
+        }
+
+        assertEquals(1, workoutCompletionRecordRepository.count());
+    }
+
+    @ParameterizedTest
+    @MethodSource("notScheduledDates")
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void setWorkoutPlanDayCompleted_shouldReturnErrorMessageWith400_whenDayIsNotScheduledOnDate(LocalDate date)
+            throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        Exercise exercise = dbUtil.createCustomExercise(1, true, List.of(bodyPart), Collections.emptyList(), user);
+        Workout workout = dbUtil.createCustomWorkout(1, List.of(exercise), user);
+        WorkoutPlan workoutPlan = createWorkoutPlan(workout);
+        long jsonId = workoutPlan.getJsonDescription().get(0).getJson_id();
+
+        // When
+        mockMvc.perform(post(URL.WORKOUT_PLAN_DAY_COMPLETIONS, workoutPlan.getId(), jsonId)
+                        .param("date", date.toString()))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath(
+                        "$.message", is(ErrorMessage.WORKOUT_PLAN_DAY_NOT_SCHEDULED.getName().formatted(jsonId))))
+                .andDo(print());
+
+        assertEquals(0, workoutCompletionRecordRepository.count());
+    }
+
+    static Stream<Arguments> notScheduledDates() {
+        return Stream.of(
+                // Before the start date
+                Arguments.of(LocalDate.now()),
+                // Another day of the week
+                Arguments.of(LocalDate.now().plusDays(6)),
+                // After the end date
+                Arguments.of(LocalDate.now().plusDays(14)));
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void setWorkoutPlanDayCompleted_shouldReturnErrorMessageWith404_whenUnknownJsonId() throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        Exercise exercise = dbUtil.createCustomExercise(1, true, List.of(bodyPart), Collections.emptyList(), user);
+        Workout workout = dbUtil.createCustomWorkout(1, List.of(exercise), user);
+        WorkoutPlan workoutPlan = dbUtil.createWorkoutPlan(1L, user, workout);
+        long wrongJsonId = 1000L;
+
+        // When
+        mockMvc.perform(post(URL.WORKOUT_PLAN_DAY_COMPLETIONS, workoutPlan.getId(), wrongJsonId)
+                        .param("date", LocalDate.now().toString()))
+
+                // Then
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath(
+                        "$.message", is(ErrorMessage.WORKOUT_PLAN_DAY_NOT_FOUND.getName().formatted(wrongJsonId))))
+                .andDo(print());
+
+        assertEquals(0, workoutCompletionRecordRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void setWorkoutPlanDayCompleted_shouldReturnErrorMessageWith400_whenPlanIsNotActive() throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        Exercise exercise = dbUtil.createCustomExercise(1, true, List.of(bodyPart), Collections.emptyList(), user);
+        Workout workout = dbUtil.createCustomWorkout(1, List.of(exercise), user);
+        WorkoutPlan workoutPlan = dbUtil.createWorkoutPlan(1L, user, workout);
+        long jsonId = workoutPlan.getJsonDescription().get(0).getJson_id();
+        mockMvc.perform(delete(URL.WORKOUT_PLAN_ID, workoutPlan.getId())).andExpect(status().isNoContent());
+
+        // When
+        mockMvc.perform(post(URL.WORKOUT_PLAN_DAY_COMPLETIONS, workoutPlan.getId(), jsonId)
+                        .param("date", LocalDate.now().toString()))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath(
+                        "$.message",
+                        is(ErrorMessage.WORKOUT_PLAN_IS_NOT_ACTIVE.getName().formatted(workoutPlan.getId()))))
+                .andDo(print());
+
+        assertEquals(0, workoutCompletionRecordRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void setWorkoutPlanDayCompleted_shouldReturnErrorMessageWith400_whenPlanBelongsToAnotherUser() throws Exception {
+        // Given
+        dbUtil.createUser(1);
+        User anotherUser = dbUtil.createUser(2);
+        BodyPart bodyPart = dbUtil.createBodyPart(1);
+        Exercise exercise =
+                dbUtil.createCustomExercise(1, true, List.of(bodyPart), Collections.emptyList(), anotherUser);
+        Workout workout = dbUtil.createCustomWorkout(1, List.of(exercise), anotherUser);
+        WorkoutPlan workoutPlan = dbUtil.createWorkoutPlan(1L, anotherUser, workout);
+        long jsonId = workoutPlan.getJsonDescription().get(0).getJson_id();
+
+        // When
+        mockMvc.perform(post(URL.WORKOUT_PLAN_DAY_COMPLETIONS, workoutPlan.getId(), jsonId)
+                        .param("date", LocalDate.now().toString()))
+
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath(
+                        "$.message",
+                        is(ErrorMessage.USER_WORKOUT_PLAN_MISMATCH.getName().formatted(workoutPlan.getId()))))
+                .andDo(print());
+
+        assertEquals(0, workoutCompletionRecordRepository.count());
+    }
+
+    private WorkoutPlan createWorkoutPlan(Workout workout) throws Exception {
+        WorkoutPlanCreateRequestDto requestDto = dtoUtil.workoutPlanCreateRequestDto(1, workout.getId());
+        MvcResult mvcResult = mockMvc.perform(post(URL.WORKOUT_PLANS)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        WorkoutPlanResponseDto responseDto =
+                objectMapper.readValue(mvcResult.getResponse().getContentAsString(), WorkoutPlanResponseDto.class);
+        return workoutPlanRepository.findById(responseDto.getId()).orElseThrow();
+    }
 }
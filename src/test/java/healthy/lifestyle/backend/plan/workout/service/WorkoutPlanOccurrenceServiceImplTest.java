@@ -0,0 +1,164 @@
+package healthy.lifestyle.backend.plan.workout.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanOccurrence;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanOccurrenceRepository;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
+import healthy.lifestyle.backend.shared.util.JsonDescription;
+import healthy.lifestyle.backend.user.model.User;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WorkoutPlanOccurrenceServiceImplTest {
+    @InjectMocks
+    WorkoutPlanOccurrenceServiceImpl workoutPlanOccurrenceService;
+
+    @Mock
+    WorkoutPlanOccurrenceRepository workoutPlanOccurrenceRepository;
+
+    @Spy
+    DateTimeService dateTimeService;
+
+    WorkoutPlan workoutPlan;
+
+    @BeforeEach
+    void setUp() {
+        workoutPlan = WorkoutPlan.builder()
+                .id(1L)
+                .user(User.builder().id(2L).build())
+                .build();
+        when(workoutPlanOccurrenceRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createOccurrencesTest_shouldSplitAtOffsetTransition_whenPlanSpansSummerTime() {
+        // Given
+        JsonDescription day = day(3, DayOfWeek.MONDAY, 10, 0);
+
+        // When
+        List<WorkoutPlanOccurrence> actual = workoutPlanOccurrenceService.createOccurrences(
+                workoutPlan,
+                List.of(day),
+                LocalDate.of(2024, 3, 4),
+                LocalDate.of(2024, 4, 30),
+                ZoneId.of("Europe/Kyiv"));
+
+        // Then
+        assertEquals(2, actual.size());
+        assertOccurrence(actual.get(0), 480, LocalDateTime.of(2024, 3, 4, 8, 0), LocalDateTime.of(2024, 3, 25, 8, 0));
+        assertOccurrence(actual.get(1), 420, LocalDateTime.of(2024, 4, 1, 7, 0), LocalDateTime.of(2024, 4, 29, 7, 0));
+        assertEquals(3L, actual.get(0).getJsonId());
+        assertEquals(2L, actual.get(0).getUser().getId());
+        assertSame(workoutPlan, actual.get(1).getWorkoutPlan());
+    }
+
+    @Test
+    void createOccurrencesTest_shouldMoveToPreviousUtcDay_whenUserTimeIsEarlyMorning() {
+        // Given
+        JsonDescription day = day(3, DayOfWeek.MONDAY, 7, 20);
+
+        // When
+        List<WorkoutPlanOccurrence> actual = workoutPlanOccurrenceService.createOccurrences(
+                workoutPlan,
+                List.of(day),
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 15),
+                ZoneId.of("Asia/Tokyo"));
+
+        // Then
+        assertEquals(1, actual.size());
+        assertOccurrence(
+                actual.get(0),
+                6 * 1440 + 22 * 60 + 20,
+                LocalDateTime.of(2023, 12, 31, 22, 20),
+                LocalDateTime.of(2024, 1, 14, 22, 20));
+    }
+
+    @Test
+    void createOccurrencesTest_shouldKeepGapWeekOnItsInstant_whenTimeFallsInTransitionGap() {
+        // Given
+        JsonDescription day = day(3, DayOfWeek.SUNDAY, 3, 30);
+
+        // When
+        List<WorkoutPlanOccurrence> actual = workoutPlanOccurrenceService.createOccurrences(
+                workoutPlan,
+                List.of(day),
+                LocalDate.of(2024, 3, 24),
+                LocalDate.of(2024, 4, 7),
+                ZoneId.of("Europe/Kyiv"));
+
+        // Then
+        assertEquals(2, actual.size());
+        assertOccurrence(
+                actual.get(0),
+                6 * 1440 + 90,
+                LocalDateTime.of(2024, 3, 24, 1, 30),
+                LocalDateTime.of(2024, 3, 31, 1, 30));
+        assertOccurrence(
+                actual.get(1),
+                6 * 1440 + 30,
+                LocalDateTime.of(2024, 4, 7, 0, 30),
+                LocalDateTime.of(2024, 4, 7, 0, 30));
+    }
+
+    @Test
+    void createOccurrencesTest_shouldCreateRowPerDayOfWeek_whenDayIsDaily() {
+        // Given
+        JsonDescription day = day(3, null, 12, 0);
+
+        // When
+        List<WorkoutPlanOccurrence> actual = workoutPlanOccurrenceService.createOccurrences(
+                workoutPlan, List.of(day), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 14), ZoneId.of("UTC"));
+
+        // Then
+        assertEquals(7, actual.size());
+        for (int i = 0; i < 7; i++) {
+            LocalDateTime first = LocalDateTime.of(2024, 1, 1 + i, 12, 0);
+            assertOccurrence(actual.get(i), i * 1440 + 720, first, first.plusWeeks(1));
+        }
+    }
+
+    @Test
+    void createOccurrencesTest_shouldCreateNothing_whenDayIsNotBetweenStartAndEndDates() {
+        // Given
+        JsonDescription day = day(3, DayOfWeek.SUNDAY, 12, 0);
+
+        // When
+        List<WorkoutPlanOccurrence> actual = workoutPlanOccurrenceService.createOccurrences(
+                workoutPlan, List.of(day), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 6), ZoneId.of("UTC"));
+
+        // Then
+        assertTrue(actual.isEmpty());
+    }
+
+    private static JsonDescription day(long jsonId, DayOfWeek dayOfWeek, int hours, int minutes) {
+        return JsonDescription.builder()
+                .json_id(jsonId)
+                .dayOfWeek(dayOfWeek)
+                .hours(hours)
+                .minutes(minutes)
+                .build();
+    }
+
+    private static void assertOccurrence(
+            WorkoutPlanOccurrence occurrence, int utcMinuteOfWeek, LocalDateTime first, LocalDateTime last) {
+        assertEquals(utcMinuteOfWeek, occurrence.getUtcMinuteOfWeek());
+        assertEquals(first, occurrence.getFirstOccurrenceAt());
+        assertEquals(last, occurrence.getLastOccurrenceAt());
+    }
+}
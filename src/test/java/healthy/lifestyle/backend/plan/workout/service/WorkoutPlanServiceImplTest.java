@@ -6,10 +6,13 @@ import static org.mockito.Mockito.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import healthy.lifestyle.backend.activity.workout.api.WorkoutApiImpl;
 import healthy.lifestyle.backend.activity.workout.model.Workout;
+import healthy.lifestyle.backend.calendar.service.CalendarCache;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ErrorMessage;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanCreateRequestDto;
 import healthy.lifestyle.backend.plan.workout.dto.WorkoutPlanResponseDto;
+import healthy.lifestyle.backend.plan.workout.mapper.WorkoutPlanMapper;
+import healthy.lifestyle.backend.plan.workout.mapper.WorkoutPlanMapperImpl;
 import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
 import healthy.lifestyle.backend.plan.workout.repository.WorkoutDayIdRepository;
 import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanRepository;
@@ -22,8 +25,10 @@ import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.api.UserApiImpl;
 import healthy.lifestyle.backend.user.model.User;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,7 +39,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,8 +61,14 @@ class WorkoutPlanServiceImplTest {
     @Mock
     JsonUtil jsonUtil;
 
+    @Mock
+    WorkoutPlanOccurrenceService workoutPlanOccurrenceService;
+
+    @Mock
+    CalendarCache calendarCache;
+
     @Spy
-    ModelMapper modelMapper;
+    WorkoutPlanMapper workoutPlanMapper = new WorkoutPlanMapperImpl();
 
     @Spy
     DateTimeService dateTimeService;
@@ -85,7 +95,7 @@ class WorkoutPlanServiceImplTest {
                 .thenReturn(Collections.EMPTY_LIST);
         when(jsonUtil.deserializeJsonStringToJsonDescriptionList(anyString())).thenReturn(mockJsonDescription);
         when(jsonUtil.processJsonDescription(anyList(), any())).thenReturn(mockJsonDescription);
-        when(jsonUtil.serializeJsonDescriptionList(anyList(), anyString())).thenReturn("{}");
+        when(jsonUtil.serializeJsonDescriptionList(anyList(), any(ZoneId.class))).thenReturn("{}");
         when(workoutPlanRepository.save(any(WorkoutPlan.class))).thenAnswer(invocation -> {
             WorkoutPlan workoutPlan = (WorkoutPlan) invocation.getArguments()[0];
             workoutPlan.setId(1L);
@@ -101,7 +111,15 @@ class WorkoutPlanServiceImplTest {
         verify(workoutPlanRepository, times(1)).findByUserIdAndWorkoutId(user.getId(), workout.getId());
         verify(jsonUtil, times(1)).deserializeJsonStringToJsonDescriptionList(anyString());
         verify(jsonUtil, times(1)).processJsonDescription(anyList(), any());
-        verify(jsonUtil, times(1)).serializeJsonDescriptionList(anyList(), anyString());
+        verify(jsonUtil, times(1)).serializeJsonDescriptionList(anyList(), any(ZoneId.class));
+        verify(workoutPlanOccurrenceService, times(1))
+                .createOccurrences(
+                        any(WorkoutPlan.class),
+                        eq(mockJsonDescription),
+                        eq(requestDto.getStartDate()),
+                        eq(requestDto.getEndDate()),
+                        any(ZoneId.class));
+        verify(calendarCache, times(1)).addWorkoutPlan(eq(user.getId()), anyList());
 
         assertEquals(workout.getId(), responseDto.getWorkoutId());
         assertEquals(requestDto.getStartDate(), responseDto.getStartDate());
@@ -199,4 +217,90 @@ class WorkoutPlanServiceImplTest {
                 // Invalid end date
                 Arguments.of(LocalDate.now().plusDays(1), LocalDate.now()));
     }
+
+    @Test
+    void deactivateWorkoutPlan_shouldDeactivatePlanAndPatchCalendar_whenPlanIsActive() {
+        // Given
+        int seed = 1;
+        User user = testUtil.createUser(seed);
+        Workout workout = testUtil.createDefaultWorkout(seed);
+        WorkoutPlan workoutPlan = testUtil.createWorkoutPlan((long) seed, user, workout);
+
+        when(workoutPlanRepository.findById(workoutPlan.getId())).thenReturn(Optional.of(workoutPlan));
+
+        // When
+        workoutPlanService.deactivateWorkoutPlan(workoutPlan.getId(), user.getId());
+
+        // Then
+        verify(workoutPlanRepository, times(1)).save(workoutPlan);
+        verify(calendarCache, times(1)).removeWorkoutPlan(user.getId(), workoutPlan.getId());
+
+        assertFalse(workoutPlan.getIsActive());
+        assertNotNull(workoutPlan.getDeactivatedAt());
+    }
+
+    @Test
+    void deactivateWorkoutPlan_shouldDoNothing_whenPlanIsAlreadyInactive() {
+        // Given
+        int seed = 1;
+        User user = testUtil.createUser(seed);
+        Workout workout = testUtil.createDefaultWorkout(seed);
+        WorkoutPlan workoutPlan = testUtil.createWorkoutPlan((long) seed, user, workout);
+        workoutPlan.setIsActive(false);
+
+        when(workoutPlanRepository.findById(workoutPlan.getId())).thenReturn(Optional.of(workoutPlan));
+
+        // When
+        workoutPlanService.deactivateWorkoutPlan(workoutPlan.getId(), user.getId());
+
+        // Then
+        verify(workoutPlanRepository, times(0)).save(any(WorkoutPlan.class));
+        verifyNoInteractions(calendarCache);
+    }
+
+    @Test
+    void deactivateWorkoutPlan_shouldThrowException_whenPlanBelongsToAnotherUser() {
+        // Given
+        User user = testUtil.createUser(1);
+        User anotherUser = testUtil.createUser(2);
+        Workout workout = testUtil.createDefaultWorkout(1);
+        WorkoutPlan workoutPlan = testUtil.createWorkoutPlan(1L, anotherUser, workout);
+        ApiException expected = new ApiException(
+                ErrorMessage.USER_WORKOUT_PLAN_MISMATCH, workoutPlan.getId(), HttpStatus.BAD_REQUEST);
+
+        when(workoutPlanRepository.findById(workoutPlan.getId())).thenReturn(Optional.of(workoutPlan));
+
+        // When
+        ApiException actual = assertThrows(
+                ApiException.class,
+                () -> workoutPlanService.deactivateWorkoutPlan(workoutPlan.getId(), user.getId()));
+
+        // Then
+        verify(workoutPlanRepository, times(0)).save(any(WorkoutPlan.class));
+        verifyNoInteractions(calendarCache);
+
+        assertEquals(expected.getMessageWithResourceId(), actual.getMessageWithResourceId());
+        assertEquals(expected.getHttpStatus(), actual.getHttpStatus());
+        assertTrue(workoutPlan.getIsActive());
+    }
+
+    @Test
+    void deactivateWorkoutPlan_shouldThrowException_whenPlanNotFound() {
+        // Given
+        long wrongWorkoutPlanId = 1000L;
+        ApiException expected =
+                new ApiException(ErrorMessage.WORKOUT_PLAN_NOT_FOUND, wrongWorkoutPlanId, HttpStatus.NOT_FOUND);
+
+        when(workoutPlanRepository.findById(wrongWorkoutPlanId)).thenReturn(Optional.empty());
+
+        // When
+        ApiException actual = assertThrows(
+                ApiException.class, () -> workoutPlanService.deactivateWorkoutPlan(wrongWorkoutPlanId, 1L));
+
+        // Then
+        verifyNoInteractions(calendarCache);
+
+        assertEquals(expected.getMessageWithResourceId(), actual.getMessageWithResourceId());
+        assertEquals(expected.getHttpStatus(), actual.getHttpStatus());
+    }
 }
@@ -8,14 +8,24 @@ import healthy.lifestyle.backend.exception.ErrorMessage;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.User;
 import healthy.lifestyle.backend.user.service.UserUtilImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
@@ -25,6 +35,22 @@ class JwtTokenProviderTest {
     @Mock
     UserUtilImpl userUtil;
 
+    @Spy
+    JwtKeyRing jwtKeyRing = new JwtKeyRing(new SecurityProps(
+            new SecurityProps.Jwt(
+                    60000L,
+                    "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                    "test",
+                    Map.of(
+                            "retired",
+                            "retired2f7ad1e3b7ff0c54c0e0b1a65c2e9d1a7d53c8e0f51b6c4b1f8a9e2d7c3b5a4f6e8d0c2b4a6f8e0d2c4b6a8f0e2d4c6b8")),
+            null,
+            null));
+
+    @Spy
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(
+            new SecurityProps(null, null, new SecurityProps.TokenCache(true, 100)), new SimpleMeterRegistry());
+
     @InjectMocks
     JwtTokenProvider jwtTokenProvider;
 
@@ -33,7 +59,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
         String usernameOrEmail = "test@email.com";
         String password = "test-password";
@@ -47,7 +75,80 @@ class JwtTokenProviderTest {
         assertTrue(actual.length() > 0);
         String[] tokenParts = actual.split("\\.");
         assertEquals(3, tokenParts.length);
-        verify(securityProps, times(2)).Jwt();
+        verify(securityProps, times(1)).Jwt();
+    }
+
+    @Test
+    void generateTokenTest_shouldEmbedOnlyUserId_whenUserPrincipalAuthenticated() {
+        // Given
+        SecurityProps.Jwt jwt = new SecurityProps.Jwt(
+                60000L,
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
+        when(securityProps.Jwt()).thenReturn(jwt);
+        UserPrincipal principal =
+                new UserPrincipal(1L, "test@email.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        // When
+        String token = jwtTokenProvider.generateToken(authentication);
+        Claims claims = jwtTokenProvider.getValidatedClaims(token);
+
+        // Then
+        assertEquals("test@email.com", claims.getSubject());
+        assertEquals(1L, claims.get(JwtTokenProvider.USER_ID_CLAIM, Long.class));
+        assertFalse(claims.containsKey("role"));
+        verifyNoInteractions(userUtil);
+    }
+
+    @Test
+    void generateTokenTest_shouldWriteSigningKeyIdToHeader() {
+        // Given
+        when(securityProps.Jwt())
+                .thenReturn(new SecurityProps.Jwt(
+                        60000L,
+                        "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                        "test",
+                        Map.of()));
+        Authentication authentication = new UsernamePasswordAuthenticationToken("test@email.com", "test-password");
+
+        // When
+        String token = jwtTokenProvider.generateToken(authentication);
+
+        // Then
+        JwsHeader<?> header = jwtKeyRing.getParser().parseClaimsJws(token).getHeader();
+        assertEquals("test", header.getKeyId());
+    }
+
+    @Test
+    void generateTokenTest_shouldStayValid_whenSigningSecretRotated() {
+        // Given
+        when(securityProps.Jwt())
+                .thenReturn(new SecurityProps.Jwt(
+                        60000L,
+                        "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                        "test",
+                        Map.of()));
+        Authentication authentication = new UsernamePasswordAuthenticationToken("test@email.com", "test-password");
+        String token = jwtTokenProvider.generateToken(authentication);
+        JwtKeyRing rotatedKeyRing = new JwtKeyRing(new SecurityProps(
+                new SecurityProps.Jwt(
+                        60000L,
+                        "rotated2f7ad1e3b7ff0c54c0e0b1a65c2e9d1a7d53c8e0f51b6c4b1f8a9e2d7c3b5a4f6e8d0c2b4a6f8e0d2c4b6a8f0e2d4c6b8",
+                        "rotated",
+                        Map.of(
+                                "test",
+                                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2")),
+                null,
+                null));
+
+        // When
+        Claims claims = rotatedKeyRing.getParser().parseClaimsJws(token).getBody();
+
+        // Then
+        assertEquals("test@email.com", claims.getSubject());
     }
 
     @Test
@@ -55,7 +156,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
         String usernameOrEmail = "test@email.com";
         String password = "test-password";
@@ -74,7 +177,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
 
         String usernameOrEmail = "test@email.com";
@@ -108,7 +213,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
 
         String usernameOrEmail = "test@email.com";
@@ -132,7 +239,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 1L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
 
         String usernameOrEmail = "test@email.com";
@@ -153,7 +262,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
 
         String usernameOrEmail = "test@email.com";
@@ -177,7 +288,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
 
         String usernameOrEmail = "test@email.com";
@@ -201,7 +314,9 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt);
 
         String usernameOrEmail = "test@email.com";
@@ -225,10 +340,14 @@ class JwtTokenProviderTest {
         // Given
         SecurityProps.Jwt jwt1 = new SecurityProps.Jwt(
                 60000L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         SecurityProps.Jwt jwt2 = new SecurityProps.Jwt(
                 60001L,
-                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2");
+                "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                "test",
+                Map.of());
         when(securityProps.Jwt()).thenReturn(jwt1).thenReturn(jwt2);
 
         String usernameOrEmail = "test@email.com";
@@ -242,4 +361,49 @@ class JwtTokenProviderTest {
         // Then
         assertEquals(ErrorMessage.INVALID_TOKEN.getName(), exception.getMessage());
     }
+
+    @Test
+    void getValidatedClaimsTest_shouldReturnClaims_whenTokenSignedWithRetiredKey() {
+        // Given
+        when(securityProps.Jwt())
+                .thenReturn(new SecurityProps.Jwt(
+                        60000L,
+                        "test4qa005b6fe1eab42822419e609765bbd1bb60875dadf1ea9d19016ee50cc0236ec6f0dac8fb244f15dceb02d71584629330b4f9dac5a689619e9b71b8fc2",
+                        "test",
+                        Map.of()));
+        String usernameOrEmail = "test@email.com";
+        Date issuedAt = new Date();
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "retired")
+                .setSubject(usernameOrEmail)
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + 60000L))
+                .signWith(jwtKeyRing.getKeys().get("retired"), SignatureAlgorithm.HS512)
+                .compact();
+
+        // When
+        Claims claims = jwtTokenProvider.getValidatedClaims(token);
+
+        // Then
+        assertEquals(usernameOrEmail, claims.getSubject());
+    }
+
+    @Test
+    void getValidatedClaimsTest_shouldThrowException_whenUnknownKeyId() {
+        // Given
+        Date issuedAt = new Date();
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "unknown")
+                .setSubject("test@email.com")
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + 60000L))
+                .signWith(jwtKeyRing.getSigningKey(), SignatureAlgorithm.HS512)
+                .compact();
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () -> jwtTokenProvider.getValidatedClaims(token));
+
+        // Then
+        assertEquals(ErrorMessage.INVALID_TOKEN.getName(), exception.getMessage());
+    }
 }
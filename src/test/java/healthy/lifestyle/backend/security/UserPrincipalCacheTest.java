@@ -0,0 +1,97 @@
+package healthy.lifestyle.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+    @Mock
+    CustomUserDetailsService customUserDetailsService;
+
+    UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        SecurityProps securityProps = new SecurityProps(null, new SecurityProps.PrincipalCache(100, 60), null);
+        userPrincipalCache = new UserPrincipalCache(customUserDetailsService, securityProps);
+    }
+
+    @Test
+    void getTest_shouldLoadPrincipalOnce_whenRequestedTwice() {
+        // Given
+        UserPrincipal principal =
+                new UserPrincipal(1L, "test@email.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        when(customUserDetailsService.loadUserById(1L)).thenReturn(Optional.of(principal));
+
+        // When
+        UserPrincipal first = userPrincipalCache.get(1L);
+        UserPrincipal second = userPrincipalCache.get(1L);
+
+        // Then
+        assertSame(principal, first);
+        assertSame(principal, second);
+        verify(customUserDetailsService, times(1)).loadUserById(1L);
+    }
+
+    @Test
+    void getTest_shouldReturnNull_whenUserNotFound() {
+        // Given
+        when(customUserDetailsService.loadUserById(1L)).thenReturn(Optional.empty());
+
+        // When
+        UserPrincipal actual = userPrincipalCache.get(1L);
+
+        // Then
+        assertNull(actual);
+    }
+
+    @Test
+    void evictTest_shouldReloadPrincipal_whenEvicted() {
+        // Given
+        UserPrincipal principal =
+                new UserPrincipal(1L, "test@email.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        when(customUserDetailsService.loadUserById(1L)).thenReturn(Optional.of(principal));
+        userPrincipalCache.get(1L);
+
+        // When
+        userPrincipalCache.evict(1L);
+        userPrincipalCache.get(1L);
+
+        // Then
+        verify(customUserDetailsService, times(2)).loadUserById(1L);
+    }
+
+    @Test
+    void evictTest_shouldRevokeEarlierTokens_whenPrincipalReloadedAfterPasswordChange() {
+        // Given
+        Instant passwordChangedAt = Instant.parse("2024-04-15T10:00:00Z");
+        UserPrincipal before =
+                new UserPrincipal(1L, "test@email.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        UserPrincipal after = new UserPrincipal(
+                1L, "test@email.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")), passwordChangedAt);
+        when(customUserDetailsService.loadUserById(1L))
+                .thenReturn(Optional.of(before))
+                .thenReturn(Optional.of(after));
+        Date issuedBefore = Date.from(passwordChangedAt.minusSeconds(1));
+        assertFalse(userPrincipalCache.get(1L).isTokenRevoked(issuedBefore));
+
+        // When
+        userPrincipalCache.evict(1L);
+        UserPrincipal actual = userPrincipalCache.get(1L);
+
+        // Then
+        assertTrue(actual.isTokenRevoked(issuedBefore));
+        assertFalse(actual.isTokenRevoked(Date.from(passwordChangedAt)));
+    }
+}
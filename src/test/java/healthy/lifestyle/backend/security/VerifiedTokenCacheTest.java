@@ -0,0 +1,104 @@
+package healthy.lifestyle.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+    MeterRegistry meterRegistry;
+
+    VerifiedTokenCache verifiedTokenCache;
+
+    AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(
+                new SecurityProps(null, null, new SecurityProps.TokenCache(true, 100)), meterRegistry);
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    void getTest_shouldVerifyOnce_whenSameTokenRequestedTwice() {
+        // Given
+        Function<String, Claims> verifier = verifier(1L, 60000L);
+
+        // When
+        Claims first = verifiedTokenCache.get("token", verifier);
+        Claims second = verifiedTokenCache.get("token", verifier);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "verifiedTokens")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void getTest_shouldVerifyAgain_whenTokenExpired() {
+        // Given
+        Function<String, Claims> verifier = verifier(1L, -1L);
+
+        // When
+        verifiedTokenCache.get("token", verifier);
+        verifiedTokenCache.get("token", verifier);
+
+        // Then
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void evictUserTest_shouldVerifyAgain_whenUserEvicted() {
+        // Given
+        verifiedTokenCache.get("token1", verifier(1L, 60000L));
+        verifiedTokenCache.get("token2", verifier(2L, 60000L));
+
+        // When
+        verifiedTokenCache.evictUser(1L);
+        verifiedTokenCache.get("token1", verifier(1L, 60000L));
+        verifiedTokenCache.get("token2", verifier(2L, 60000L));
+
+        // Then
+        assertEquals(3, verifications.get());
+    }
+
+    @Test
+    void getTest_shouldAlwaysVerify_whenDisabled() {
+        // Given
+        verifiedTokenCache = new VerifiedTokenCache(
+                new SecurityProps(null, null, new SecurityProps.TokenCache(false, 100)), meterRegistry);
+        Function<String, Claims> verifier = verifier(1L, 60000L);
+
+        // When
+        verifiedTokenCache.get("token", verifier);
+        verifiedTokenCache.get("token", verifier);
+
+        // Then
+        assertEquals(2, verifications.get());
+    }
+
+    private Function<String, Claims> verifier(long userId, long millisToExpiration) {
+        return token -> {
+            verifications.incrementAndGet();
+            Claims claims = Jwts.claims();
+            claims.put(JwtTokenProvider.USER_ID_CLAIM, userId);
+            claims.setExpiration(new Date(System.currentTimeMillis() + millisToExpiration));
+            return claims;
+        };
+    }
+}
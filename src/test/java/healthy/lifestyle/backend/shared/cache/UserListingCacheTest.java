@@ -0,0 +1,160 @@
+package healthy.lifestyle.backend.shared.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+class UserListingCacheTest {
+    MeterRegistry meterRegistry;
+
+    UserListingCache userListingCache;
+
+    DefaultCatalog defaultCatalog;
+
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userListingCache = new UserListingCache(new ListingCacheProps(true, 100, 600, 30), meterRegistry);
+        defaultCatalog = mock(DefaultCatalog.class);
+        when(defaultCatalog.getVersion()).thenReturn("v1");
+        userListingCache.defaultCatalog = defaultCatalog;
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getTest_shouldLoadOnce_whenSameListingRequestedTwice() {
+        // When
+        Page<String> first = userListingCache.get(1L, "workouts", List.of("title"), loader());
+        Page<String> second = userListingCache.get(1L, "workouts", List.of("title"), loader());
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "userListings")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void getTest_shouldLoadAgain_whenQueryOrUserDiffers() {
+        // When
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+        userListingCache.get(1L, "workouts", List.of("description"), loader());
+        userListingCache.get(1L, "exercises", List.of("title"), loader());
+        userListingCache.get(2L, "workouts", List.of("title"), loader());
+
+        // Then
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void getTest_shouldLoadAgain_whenUserVersionBumped() {
+        // Given
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+        userListingCache.get(2L, "workouts", List.of("title"), loader());
+
+        // When
+        userListingCache.bump(1L);
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+        userListingCache.get(2L, "workouts", List.of("title"), loader());
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getTest_shouldLoadAgain_whenDefaultCatalogVersionChanged() {
+        // Given
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+
+        // When
+        when(defaultCatalog.getVersion()).thenReturn("v2");
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getTest_shouldLoadAgain_whenExpiredAfterWriteDespiteAccess() {
+        // Given
+        AtomicLong nanos = new AtomicLong();
+        userListingCache = new UserListingCache(new ListingCacheProps(true, 100, 600, 30), meterRegistry, nanos::get);
+        userListingCache.defaultCatalog = defaultCatalog;
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+
+        // When
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getTest_shouldAlwaysLoad_whenNoUser() {
+        // When
+        userListingCache.get(null, "workouts", List.of("title"), loader());
+        userListingCache.get(null, "workouts", List.of("title"), loader());
+
+        // Then
+        assertEquals(2, loads.get());
+        verifyNoInteractions(defaultCatalog);
+    }
+
+    @Test
+    void getTest_shouldAlwaysLoad_whenDisabled() {
+        // Given
+        userListingCache = new UserListingCache(new ListingCacheProps(false, 100, 600, 30), meterRegistry);
+
+        // When
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictUserTest_shouldLoadAgain_whenUserEvicted() {
+        // Given
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+        userListingCache.get(2L, "workouts", List.of("title"), loader());
+
+        // When
+        userListingCache.evictUser(1L);
+        userListingCache.get(1L, "workouts", List.of("title"), loader());
+        userListingCache.get(2L, "workouts", List.of("title"), loader());
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    private Supplier<Page<String>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of("a", "b", "c"));
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package healthy.lifestyle.backend.shared.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import healthy.lifestyle.backend.activity.workout.dto.ExerciseResponseDto;
+import healthy.lifestyle.backend.exception.ApiException;
+import healthy.lifestyle.backend.exception.ErrorMessage;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.*;
+
+class CatalogIndexTest {
+    Map<Long, Long> bodyPartsMasks = Map.of(1L, 0b011L, 2L, 0b100L, 3L, 0b010L, 4L, 0b001L);
+
+    CatalogIndex<ExerciseResponseDto> catalog;
+
+    @BeforeEach
+    void beforeEach() {
+        catalog = CatalogIndex.builder(
+                        List.of(
+                                exercise(4, "Plank", null, false),
+                                exercise(1, "Push up", "Chest and arms", false),
+                                exercise(3, "Bench press", "Chest on a bench", true),
+                                exercise(2, "Squat", "Legs", false)),
+                        ExerciseResponseDto::getId)
+                .text("title", ExerciseResponseDto::getTitle)
+                .text("description", ExerciseResponseDto::getDescription)
+                .term("needsEquipment", ExerciseResponseDto::isNeedsEquipment)
+                .mask("bodyPartsMask", exercise -> bodyPartsMasks.get(exercise.getId()))
+                .sortKey("title", ExerciseResponseDto::getTitle)
+                .sortKey("description", ExerciseResponseDto::getDescription)
+                .build();
+    }
+
+    @Test
+    void filter_shouldMatchLikeSpecifications() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+
+        // When / Then
+        assertThat(ids(catalog.filter().containsIgnoreCase("title", "PU").page(pageable)))
+                .containsExactly(1L);
+        assertThat(ids(catalog.filter()
+                        .containsIgnoreCase("description", "chest")
+                        .page(pageable)))
+                .containsExactly(1L, 3L);
+        assertThat(ids(catalog.filter()
+                        .containsIgnoreCase("description", "chest%bench")
+                        .page(pageable)))
+                .isEmpty();
+        assertThat(ids(catalog.filter().containsIgnoreCase("title", "p_sh").page(pageable)))
+                .isEmpty();
+        assertThat(ids(catalog.filter().containsIgnoreCase("title", "missing").page(pageable)))
+                .isEmpty();
+        assertThat(ids(catalog.filter().equal("needsEquipment", false).page(pageable)))
+                .containsExactly(1L, 2L, 4L);
+        assertThat(ids(catalog.filter().hasAnyBit("bodyPartsMask", 0b101L).page(pageable)))
+                .containsExactly(1L, 2L, 4L);
+        assertThat(ids(catalog.filter()
+                        .containsIgnoreCase("title", null)
+                        .equal("needsEquipment", false)
+                        .hasAnyBit("bodyPartsMask", 0b010L)
+                        .page(pageable)))
+                .containsExactly(1L);
+    }
+
+    @Test
+    void page_shouldSortWithNullsLastInAscendingOrder() {
+        // When
+        Page<ExerciseResponseDto> ascending =
+                catalog.filter().page(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "description")));
+        Page<ExerciseResponseDto> descending =
+                catalog.filter().page(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "description")));
+
+        // Then
+        assertThat(ids(ascending)).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(ids(descending)).containsExactly(4L, 2L, 3L, 1L);
+    }
+
+    @Test
+    void page_shouldMergeOtherRowsInSortOrder() {
+        // Given
+        Page<ExerciseResponseDto> customExercises = new PageImpl<>(
+                List.of(exercise(10, "Running", "Legs", false), exercise(11, "Burpee", "Whole body", false)));
+        Sort sort = Sort.by(Sort.Direction.ASC, "title");
+
+        // When
+        Page<ExerciseResponseDto> firstPage = catalog.filter().page(PageRequest.of(0, 4, sort), customExercises);
+        Page<ExerciseResponseDto> secondPage = catalog.filter().page(PageRequest.of(1, 4, sort), customExercises);
+
+        // Then
+        assertEquals(6, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getTotalPages());
+        assertThat(firstPage.getContent())
+                .extracting(ExerciseResponseDto::getTitle)
+                .containsExactly("Bench press", "Burpee", "Plank", "Push up");
+        assertThat(secondPage.getContent())
+                .extracting(ExerciseResponseDto::getTitle)
+                .containsExactly("Running", "Squat");
+    }
+
+    @Test
+    void page_shouldCountOtherRowsOutsideOfWindow() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "title"));
+        Page<ExerciseResponseDto> customExercises = new PageImpl<>(
+                List.of(exercise(10, "Arm circles", null, false), exercise(11, "Burpee", null, false)),
+                CatalogIndex.otherRowsWindow(pageable),
+                5);
+
+        // When
+        Page<ExerciseResponseDto> page = catalog.filter().page(pageable, customExercises);
+
+        // Then
+        assertEquals(2, CatalogIndex.otherRowsWindow(pageable).getPageSize());
+        assertEquals(9, page.getTotalElements());
+        assertThat(page.getContent()).extracting(ExerciseResponseDto::getId).containsExactly(10L, 3L);
+    }
+
+    @Test
+    void page_shouldOrderStringsByCodePoints() {
+        // Given
+        CatalogIndex<ExerciseResponseDto> catalog = CatalogIndex.builder(
+                        List.of(
+                                exercise(1, "b", null, false),
+                                exercise(2, "B", null, false),
+                                exercise(3, "a", null, false),
+                                exercise(4, "\u00e9", null, false),
+                                exercise(5, "\ud83d\ude00", null, false),
+                                exercise(6, "\uff21", null, false)),
+                        ExerciseResponseDto::getId)
+                .sortKey("title", ExerciseResponseDto::getTitle)
+                .build();
+
+        // When
+        Page<ExerciseResponseDto> page =
+                catalog.filter().page(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title")));
+
+        // Then
+        assertThat(ids(page)).containsExactly(2L, 3L, 1L, 4L, 6L, 5L);
+    }
+
+    @Test
+    void scroll_shouldContinueAfterPosition() {
+        // Given
+        Sort ascending = Sort.by(Sort.Direction.ASC, "title").and(Sort.by(Sort.Direction.ASC, "id"));
+        Sort descending = Sort.by(Sort.Direction.DESC, "title").and(Sort.by(Sort.Direction.DESC, "id"));
+
+        // When
+        Window<ExerciseResponseDto> first = catalog.filter().scroll(ascending, ScrollPosition.keyset(), 2);
+        Window<ExerciseResponseDto> second =
+                catalog.filter().scroll(ascending, (KeysetScrollPosition) first.positionAt(1), 2);
+        Window<ExerciseResponseDto> descendingWindow =
+                catalog.filter().scroll(descending, ScrollPosition.forward(Map.of("title", "Push up", "id", 1L)), 10);
+
+        // Then
+        assertThat(first.getContent()).extracting(ExerciseResponseDto::getId).containsExactly(3L, 4L);
+        assertTrue(first.hasNext());
+        assertEquals(Map.of("title", "Plank", "id", 4L), ((KeysetScrollPosition) first.positionAt(1)).getKeys());
+        assertThat(second.getContent()).extracting(ExerciseResponseDto::getId).containsExactly(1L, 2L);
+        assertFalse(second.hasNext());
+        assertThat(descendingWindow.getContent())
+                .extracting(ExerciseResponseDto::getId)
+                .containsExactly(4L, 3L);
+    }
+
+    @Test
+    void scroll_shouldThrowErrorWith400_whenKeyOfWrongType() {
+        // Given
+        Sort sort = Sort.by(Sort.Direction.ASC, "title").and(Sort.by(Sort.Direction.ASC, "id"));
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () -> catalog.filter()
+                .scroll(sort, ScrollPosition.forward(Map.of("title", 1, "id", 1L)), 2));
+
+        // Then
+        assertEquals(ErrorMessage.INVALID_CURSOR.getName(), exception.getMessage());
+        assertEquals(400, exception.getHttpStatusValue());
+    }
+
+    @Test
+    void findById_shouldReturnRow_whenExists() {
+        // When / Then
+        assertEquals("Squat", catalog.findById(2).orElseThrow().getTitle());
+        assertTrue(catalog.findById(5).isEmpty());
+        assertEquals(4, catalog.size());
+        assertTrue(catalog.sortsBy(Sort.by("title")));
+        assertFalse(catalog.sortsBy(Sort.by("needsEquipment")));
+    }
+
+    private static ExerciseResponseDto exercise(long id, String title, String description, boolean needsEquipment) {
+        return ExerciseResponseDto.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .needsEquipment(needsEquipment)
+                .bodyParts(List.of())
+                .httpRefs(List.of())
+                .build();
+    }
+
+    private static List<Long> ids(Page<ExerciseResponseDto> page) {
+        return page.getContent().stream().map(ExerciseResponseDto::getId).toList();
+    }
+}
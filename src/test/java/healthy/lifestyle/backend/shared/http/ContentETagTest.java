@@ -0,0 +1,52 @@
+package healthy.lifestyle.backend.shared.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContentETagTest {
+    @InjectMocks
+    ContentETag contentETag;
+
+    @Mock
+    DefaultCatalog defaultCatalog;
+
+    @Mock
+    ReferenceDataRegistry referenceDataRegistry;
+
+    @Test
+    void current_shouldCombineVersionsIntoStrongETag() {
+        // Given
+        when(defaultCatalog.getVersion()).thenReturn("0123456789abcdef");
+        when(referenceDataRegistry.getVersion()).thenReturn("fedcba9876543210");
+
+        // When
+        String eTag = contentETag.current();
+
+        // Then
+        assertEquals("\"0123456789abcdef-fedcba9876543210\"", eTag);
+    }
+
+    @Test
+    void matches_shouldCompareWeakly() {
+        // Given
+        String eTag = "\"a-b\"";
+
+        // When / Then
+        assertTrue(contentETag.matches("\"a-b\"", eTag));
+        assertTrue(contentETag.matches("W/\"a-b\"", eTag));
+        assertTrue(contentETag.matches("\"x-y\", \"a-b\"", eTag));
+        assertTrue(contentETag.matches("*", eTag));
+        assertFalse(contentETag.matches("\"x-y\"", eTag));
+        assertFalse(contentETag.matches("a-b", eTag));
+        assertFalse(contentETag.matches(null, eTag));
+    }
+}
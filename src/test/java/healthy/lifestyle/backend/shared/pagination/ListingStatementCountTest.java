@@ -0,0 +1,420 @@
+package healthy.lifestyle.backend.shared.pagination;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import healthy.lifestyle.backend.activity.mental.model.MentalType;
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.model.Exercise;
+import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.testconfig.BeanConfig;
+import healthy.lifestyle.backend.testconfig.ContainerConfig;
+import healthy.lifestyle.backend.testutil.DbUtil;
+import healthy.lifestyle.backend.testutil.URL;
+import healthy.lifestyle.backend.user.model.Country;
+import healthy.lifestyle.backend.user.model.Role;
+import healthy.lifestyle.backend.user.model.Timezone;
+import healthy.lifestyle.backend.user.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Listing endpoints must take the same few statements whatever the page size: resolving the user, the page, its count
+ * and a batch per association. A lazy association without batch fetching shows up as one statement per listed item.
+ * The listing cache is disabled, so that every request loads its listing.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@Import(BeanConfig.class)
+class ListingStatementCountTest {
+    static final long MAX_STATEMENTS = 8;
+
+    static final String PAGE_CONTENT = "$.content";
+
+    static final String LIST = "$";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    FirebaseMessaging firebaseMessaging;
+
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer =
+            new PostgreSQLContainer<>(DockerImageName.parse(ContainerConfig.POSTGRES));
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add("listing-cache.enabled", () -> "false");
+    }
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    DbUtil dbUtil;
+
+    @BeforeEach
+    void beforeEach() {
+        dbUtil.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void getExercisesWithFilterTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomExercises(pageSize, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, page(URL.CUSTOM_EXERCISES, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollExercisesWithFilterTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomExercises(pageSize, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, scroll(URL.CUSTOM_EXERCISES, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void getDefaultExercisesTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        createDefaultExercises(pageSize);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, page(URL.DEFAULT_EXERCISES, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void scrollDefaultExercisesTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        createDefaultExercises(pageSize);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, scroll(URL.DEFAULT_EXERCISES, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void getWorkoutsTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomWorkouts(pageSize, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, page(URL.CUSTOM_WORKOUTS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollWorkoutsTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomWorkouts(pageSize, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, scroll(URL.CUSTOM_WORKOUTS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void getDefaultWorkoutsTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        createDefaultWorkouts(pageSize);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, page(URL.DEFAULT_WORKOUTS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void scrollDefaultWorkoutsTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        createDefaultWorkouts(pageSize);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, scroll(URL.DEFAULT_WORKOUTS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void getWorkoutsWithoutPlansTest_shouldTakeFewStatements_whenAnyNumberOfWorkouts(int workoutsNumber)
+            throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomWorkouts(workoutsNumber, user);
+
+        // When
+        long statementCount = countStatements(workoutsNumber, LIST, get(URL.WORKOUTS_WITHOUT_PLANS));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void getHttpRefsWithFilterTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        for (int i = 0; i < pageSize; i++) dbUtil.createCustomHttpRef(i, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, page(URL.CUSTOM_HTTP_REFS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollHttpRefsWithFilterTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        for (int i = 0; i < pageSize; i++) dbUtil.createCustomHttpRef(i, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, scroll(URL.CUSTOM_HTTP_REFS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void getDefaultHttpRefsWithFilterTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        for (int i = 0; i < pageSize; i++) dbUtil.createDefaultHttpRef(i);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, page(URL.DEFAULT_HTTP_REFS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void scrollDefaultHttpRefsWithFilterTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        for (int i = 0; i < pageSize; i++) dbUtil.createDefaultHttpRef(i);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, scroll(URL.DEFAULT_HTTP_REFS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void getAllMentalActivitiesTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomMentalActivities(pageSize, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, get(URL.ALL_MENTALS)
+                .param("pageSize", String.valueOf(pageSize)));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void getMentalActivitiesTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomMentalActivities(pageSize, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, page(URL.CUSTOM_MENTALS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "USER")
+    void scrollMentalActivitiesTest_shouldTakeFewStatements_whenAnyPageSize(int pageSize) throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomMentalActivities(pageSize, user);
+
+        // When
+        long statementCount = countStatements(pageSize, PAGE_CONTENT, scroll(URL.CUSTOM_MENTALS, pageSize));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "ADMIN")
+    void getAdminExercisesWithFilterTest_shouldTakeFewStatements_whenAnyNumberOfExercises(int exercisesNumber)
+            throws Exception {
+        // Given
+        User user = dbUtil.createUser(1);
+        createCustomExercises(exercisesNumber, user);
+
+        // When
+        long statementCount = countStatements(
+                exercisesNumber, LIST, get(URL.ADMIN_EXERCISES).param("isCustom", "true"));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    @WithMockUser(username = "Username-1", password = "Password-1", roles = "ADMIN")
+    void getAdminUsersWithFilterTest_shouldTakeFewStatements_whenAnyNumberOfUsers(int usersNumber) throws Exception {
+        // Given
+        Role role = dbUtil.createUserRole();
+        Country country = dbUtil.createCountry(1);
+        Timezone timezone = dbUtil.createTimezone(1);
+        for (int i = 0; i < usersNumber; i++) dbUtil.createUser(i, role, country, timezone);
+
+        // When
+        long statementCount = countStatements(usersNumber, LIST, get(URL.ADMIN_USERS));
+
+        // Then
+        assertTrue(statementCount <= MAX_STATEMENTS, "Statements: " + statementCount);
+    }
+
+    private List<Exercise> createCustomExercises(int number, User user) {
+        List<BodyPart> bodyParts = List.of(dbUtil.createBodyPart(1), dbUtil.createBodyPart(2));
+        return IntStream.range(0, number)
+                .mapToObj(i -> {
+                    HttpRef httpRef = dbUtil.createCustomHttpRef(i, user);
+                    return dbUtil.createCustomExercise(i, i % 2 == 0, bodyParts, List.of(httpRef), user);
+                })
+                .toList();
+    }
+
+    private List<Exercise> createDefaultExercises(int number) {
+        List<BodyPart> bodyParts = List.of(dbUtil.createBodyPart(1), dbUtil.createBodyPart(2));
+        return IntStream.range(0, number)
+                .mapToObj(i -> {
+                    HttpRef httpRef = dbUtil.createDefaultHttpRef(i);
+                    return dbUtil.createDefaultExercise(i, i % 2 == 0, bodyParts, List.of(httpRef));
+                })
+                .toList();
+    }
+
+    private void createCustomWorkouts(int number, User user) {
+        List<Exercise> exercises = createCustomExercises(number, user);
+        for (int i = 0; i < number; i++) dbUtil.createCustomWorkout(i, List.of(exercises.get(i)), user);
+    }
+
+    private void createDefaultWorkouts(int number) {
+        List<Exercise> exercises = createDefaultExercises(number);
+        for (int i = 0; i < number; i++) dbUtil.createDefaultWorkout(i, List.of(exercises.get(i)));
+    }
+
+    private void createCustomMentalActivities(int number, User user) {
+        MentalType mentalType = dbUtil.createMeditationType();
+        for (int i = 0; i < number; i++) {
+            HttpRef httpRef = dbUtil.createCustomHttpRef(i, user);
+            dbUtil.createCustomMentalActivity(i, List.of(httpRef), mentalType, user);
+        }
+    }
+
+    /**
+     * First page of the custom resources of the user, or of the default resources for a default url.
+     */
+    private static MockHttpServletRequestBuilder page(String url, int pageSize) {
+        MockHttpServletRequestBuilder request = get(url).param("pageSize", String.valueOf(pageSize));
+        return url.endsWith("/default") ? request : request.param("isCustom", "true");
+    }
+
+    private static MockHttpServletRequestBuilder scroll(String url, int pageSize) {
+        return page(url, pageSize).param("cursor", "");
+    }
+
+    /**
+     * Performs the request and checks it listed all the items. The default catalog is loaded beforehand, it is read
+     * from memory by the listings.
+     */
+    private long countStatements(int expectedSize, String listPath, MockHttpServletRequestBuilder request)
+            throws Exception {
+        defaultCatalog.refresh();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk()).andExpect(jsonPath(listPath, hasSize(expectedSize)));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,40 @@
+package healthy.lifestyle.backend.shared.reference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.model.Exercise;
+import healthy.lifestyle.backend.testutil.TestUtil;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BodyPartBitmapIndexTest {
+    TestUtil testUtil = new TestUtil();
+
+    @Test
+    void matchAny_shouldReturnPositionsOfRowsWithAnyBodyPart() {
+        // Given
+        BodyPart bodyPart1 = testUtil.createBodyPart(1);
+        BodyPart bodyPart2 = testUtil.createBodyPart(2);
+        BodyPart bodyPart3 = testUtil.createBodyPart(3);
+        BodyPart bodyPart63 = testUtil.createBodyPart(63);
+        List<Exercise> exercises = List.of(
+                testUtil.createDefaultExercise(1, false, List.of(bodyPart1), List.of()),
+                testUtil.createDefaultExercise(2, false, List.of(bodyPart2, bodyPart3), List.of()),
+                testUtil.createDefaultExercise(3, false, List.of(), List.of()),
+                testUtil.createDefaultExercise(4, false, List.of(bodyPart1, bodyPart63), List.of()));
+        BodyPartBitmapIndex index = new BodyPartBitmapIndex(exercises, Exercise::getBodyPartsMask);
+
+        // When
+        BitSet bodyPart1Rows = index.matchAny(bodyPart1.getMask());
+        BitSet bodyPart3Or63Rows = index.matchAny(bodyPart3.getMask() | bodyPart63.getMask());
+
+        // Then
+        assertEquals(4, index.size());
+        assertEquals(BitSet.valueOf(new long[] {0b1001}), bodyPart1Rows);
+        assertEquals(BitSet.valueOf(new long[] {0b1010}), bodyPart3Or63Rows);
+        assertTrue(index.matchAny(0L).isEmpty());
+        assertTrue(index.matchAny(testUtil.createBodyPart(10).getMask()).isEmpty());
+    }
+}
@@ -0,0 +1,209 @@
+package healthy.lifestyle.backend.shared.reference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import healthy.lifestyle.backend.activity.workout.dto.BodyPartResponseDto;
+import healthy.lifestyle.backend.activity.workout.mapper.ExerciseMapper;
+import healthy.lifestyle.backend.activity.workout.mapper.ExerciseMapperImpl;
+import healthy.lifestyle.backend.activity.workout.mapper.HttpRefMapperImpl;
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.activity.workout.model.HttpRefType;
+import healthy.lifestyle.backend.activity.workout.repository.BodyPartRepository;
+import healthy.lifestyle.backend.activity.workout.repository.HttpRefTypeRepository;
+import healthy.lifestyle.backend.testutil.TestUtil;
+import healthy.lifestyle.backend.user.dto.CountryResponseDto;
+import healthy.lifestyle.backend.user.dto.TimezoneResponseDto;
+import healthy.lifestyle.backend.user.mapper.UserMapper;
+import healthy.lifestyle.backend.user.mapper.UserMapperImpl;
+import healthy.lifestyle.backend.user.model.Country;
+import healthy.lifestyle.backend.user.model.Role;
+import healthy.lifestyle.backend.user.model.Timezone;
+import healthy.lifestyle.backend.user.repository.CountryRepository;
+import healthy.lifestyle.backend.user.repository.RoleRepository;
+import healthy.lifestyle.backend.user.repository.TimezoneRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+    @InjectMocks
+    ReferenceDataRegistry referenceDataRegistry;
+
+    @Mock
+    BodyPartRepository bodyPartRepository;
+
+    @Mock
+    CountryRepository countryRepository;
+
+    @Mock
+    TimezoneRepository timezoneRepository;
+
+    @Mock
+    RoleRepository roleRepository;
+
+    @Mock
+    HttpRefTypeRepository httpRefTypeRepository;
+
+    @Spy
+    ExerciseMapper exerciseMapper = new ExerciseMapperImpl(new HttpRefMapperImpl());
+
+    @Spy
+    UserMapper userMapper = new UserMapperImpl();
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    TestUtil testUtil = new TestUtil();
+
+    BodyPart bodyPart1;
+    BodyPart bodyPart2;
+    Country country1;
+    Country country2;
+    Timezone timezone1;
+    Timezone timezone2;
+    Role role;
+    HttpRefType httpRefType;
+
+    @BeforeEach
+    void beforeEach() {
+        bodyPart1 = testUtil.createBodyPart(1);
+        bodyPart2 = testUtil.createBodyPart(2);
+        country1 = testUtil.createCountry(1);
+        country2 = testUtil.createCountry(2);
+        timezone1 = testUtil.createTimezone(1);
+        timezone2 = testUtil.createTimezone(2);
+        role = testUtil.createUserRole(1);
+        httpRefType = HttpRefType.builder().id(1L).name("YOUTUBE").build();
+
+        when(bodyPartRepository.findAll()).thenReturn(List.of(bodyPart2, bodyPart1));
+        when(countryRepository.findAll()).thenReturn(List.of(country2, country1));
+        when(timezoneRepository.findAll()).thenReturn(List.of(timezone2, timezone1));
+        when(roleRepository.findAll()).thenReturn(List.of(role));
+        when(httpRefTypeRepository.findAll()).thenReturn(List.of(httpRefType));
+
+        referenceDataRegistry.refresh();
+    }
+
+    @Test
+    void getters_shouldReturnSortedDtoLists_withoutQueryingAgain() {
+        // When
+        List<BodyPartResponseDto> bodyParts = referenceDataRegistry.getBodyParts();
+        List<CountryResponseDto> countries = referenceDataRegistry.getCountries();
+        List<TimezoneResponseDto> timezones = referenceDataRegistry.getTimezones();
+        referenceDataRegistry.getBodyParts();
+
+        // Then
+        verify(bodyPartRepository, times(1)).findAll();
+        verify(countryRepository, times(1)).findAll();
+        verify(timezoneRepository, times(1)).findAll();
+
+        assertThat(bodyParts).usingRecursiveFieldByFieldElementComparator().isEqualTo(List.of(bodyPart1, bodyPart2));
+        assertThat(countries).usingRecursiveFieldByFieldElementComparator().isEqualTo(List.of(country1, country2));
+        assertThat(timezones).usingRecursiveFieldByFieldElementComparator().isEqualTo(List.of(timezone1, timezone2));
+        assertThrows(UnsupportedOperationException.class, () -> bodyParts.add(null));
+    }
+
+    @Test
+    void findMethods_shouldReturnDetachedCopies_whenPresent() {
+        // When
+        BodyPart bodyPart =
+                referenceDataRegistry.findBodyPartById(bodyPart1.getId()).orElseThrow();
+        Timezone timezone =
+                referenceDataRegistry.findTimezoneById(timezone2.getId()).orElseThrow();
+        Role roleByName = referenceDataRegistry.findRoleByName(role.getName()).orElseThrow();
+        HttpRefType type =
+                referenceDataRegistry.findHttpRefTypeByName("YOUTUBE").orElseThrow();
+
+        // Then
+        assertNotSame(bodyPart1, bodyPart);
+        assertEquals(bodyPart1.getName(), bodyPart.getName());
+        assertEquals(timezone2.getGMT(), timezone.getGMT());
+        assertEquals(role.getId(), roleByName.getId());
+        assertEquals(httpRefType.getId(), type.getId());
+        assertEquals(
+                country2.getName(),
+                referenceDataRegistry
+                        .findCountryById(country2.getId())
+                        .orElseThrow()
+                        .getName());
+        assertEquals(
+                role.getName(),
+                referenceDataRegistry.findRoleById(role.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void findMethods_shouldReturnEmpty_whenNotFound() {
+        // When / Then
+        assertTrue(referenceDataRegistry.findBodyPartById(1000L).isEmpty());
+        assertTrue(referenceDataRegistry.findCountryById(1000L).isEmpty());
+        assertTrue(referenceDataRegistry.findTimezoneById(1000L).isEmpty());
+        assertTrue(referenceDataRegistry.findRoleByName("ROLE_ADMIN").isEmpty());
+        assertTrue(referenceDataRegistry.findHttpRefTypeByName("WIKI").isEmpty());
+    }
+
+    @Test
+    void getBodyPartsMask_shouldCombineBitsOfKnownBodyParts() {
+        // When
+        long mask = referenceDataRegistry.getBodyPartsMask(List.of(bodyPart1.getId(), bodyPart2.getId(), 1000L));
+
+        // Then
+        assertEquals(bodyPart1.getMask() | bodyPart2.getMask(), mask);
+        assertEquals(0L, referenceDataRegistry.getBodyPartsMask(List.of(1000L)));
+        assertNull(referenceDataRegistry.getBodyPartsMask(List.of()));
+        assertEquals(
+                bodyPart1.getBitIndex(),
+                referenceDataRegistry
+                        .findBodyPartById(bodyPart1.getId())
+                        .orElseThrow()
+                        .getBitIndex());
+    }
+
+    @Test
+    void getBodyPartsFilterMask_shouldMatchAnyBodyPart_whenNoIdsGiven() {
+        // When
+        long mask = referenceDataRegistry.getBodyPartsFilterMask(List.of());
+
+        // Then
+        assertNotEquals(0L, mask & bodyPart1.getMask());
+        assertNotEquals(0L, mask & bodyPart2.getMask());
+        assertEquals(bodyPart1.getMask(), referenceDataRegistry.getBodyPartsFilterMask(List.of(bodyPart1.getId())));
+    }
+
+    @Test
+    void refresh_shouldReplaceSnapshot() {
+        // Given
+        String version = referenceDataRegistry.getVersion();
+        BodyPart bodyPart3 = testUtil.createBodyPart(3);
+        when(bodyPartRepository.findAll()).thenReturn(List.of(bodyPart1, bodyPart2, bodyPart3));
+
+        // When
+        referenceDataRegistry.refresh();
+
+        // Then
+        assertNotEquals(version, referenceDataRegistry.getVersion());
+        assertEquals(3, referenceDataRegistry.getBodyParts().size());
+        assertTrue(referenceDataRegistry.findBodyPartById(bodyPart3.getId()).isPresent());
+        assertEquals(3, referenceDataRegistry.getSummary().get("bodyParts"));
+    }
+
+    @Test
+    void refresh_shouldKeepVersion_whenDataUnchanged() {
+        // Given
+        String version = referenceDataRegistry.getVersion();
+
+        // When
+        referenceDataRegistry.refresh();
+
+        // Then
+        assertEquals(version, referenceDataRegistry.getVersion());
+    }
+}
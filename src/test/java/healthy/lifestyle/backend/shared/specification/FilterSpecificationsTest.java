@@ -0,0 +1,239 @@
+package healthy.lifestyle.backend.shared.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import healthy.lifestyle.backend.activity.mental.repository.MentalActivityRepository;
+import healthy.lifestyle.backend.activity.mental.repository.MentalActivitySpecifications;
+import healthy.lifestyle.backend.activity.workout.model.HttpRef;
+import healthy.lifestyle.backend.activity.workout.repository.*;
+import healthy.lifestyle.backend.testconfig.BeanConfig;
+import healthy.lifestyle.backend.testconfig.CapturingStatementInspector;
+import healthy.lifestyle.backend.testconfig.ContainerConfig;
+import healthy.lifestyle.backend.testutil.DbUtil;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+@SpringBootTest
+@Testcontainers
+@Import(BeanConfig.class)
+class FilterSpecificationsTest {
+    @MockBean
+    FirebaseMessaging firebaseMessaging;
+
+    @Container
+    static PostgreSQLContainer<?> postgresqlContainer =
+            new PostgreSQLContainer<>(DockerImageName.parse(ContainerConfig.POSTGRES));
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgresqlContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgresqlContainer::getUsername);
+        registry.add("spring.datasource.password", postgresqlContainer::getPassword);
+        registry.add(
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                CapturingStatementInspector.class::getName);
+    }
+
+    static final String PATTERN = "ercis";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ExerciseRepository exerciseRepository;
+
+    @Autowired
+    WorkoutRepository workoutRepository;
+
+    @Autowired
+    HttpRefRepository httpRefRepository;
+
+    @Autowired
+    MentalActivityRepository mentalActivityRepository;
+
+    @Autowired
+    SpecificationIds specificationIds;
+
+    @Autowired
+    DbUtil dbUtil;
+
+    @BeforeEach
+    void beforeEach() {
+        dbUtil.deleteAll();
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterQueries")
+    void containsIgnoreCase_shouldBeServedByTrigramIndex(
+            Function<FilterSpecificationsTest, List<?>> query, String index) {
+        // Given
+        // The statement the repository actually runs, its only parameter is the pattern of the filter
+        CapturingStatementInspector.clear();
+        query.apply(this);
+        List<String> statements = CapturingStatementInspector.getStatements().stream()
+                .filter(statement -> statement.toLowerCase().contains(" ilike "))
+                .toList();
+        assertThat(statements).hasSize(1);
+        String sql = statements.get(0);
+        assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(1);
+
+        // When
+        // On near-empty tables the planner prefers sequential or full btree scans, they are disabled to leave
+        // a bitmap scan as the only alternative, which is possible only when the trigram index supports ILIKE
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_indexonlyscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, "%" + PATTERN + "%");
+        });
+
+        // Then
+        assertThat(String.join("\n", plan)).contains("Bitmap Index Scan on " + index);
+    }
+
+    static Stream<Arguments> filterQueries() {
+        return Stream.of(
+                Arguments.of(
+                        query(test -> test.exerciseRepository.findAll(
+                                ExerciseSpecifications.withFilter(null, null, PATTERN, null, null, null))),
+                        "idx_exercises_title_trgm"),
+                Arguments.of(
+                        query(test -> test.exerciseRepository.findAll(
+                                ExerciseSpecifications.withFilter(null, null, null, PATTERN, null, null))),
+                        "idx_exercises_description_trgm"),
+                Arguments.of(
+                        query(test -> test.workoutRepository.findAll(
+                                WorkoutSpecifications.withFilter(null, null, PATTERN, null, null, null))),
+                        "idx_workouts_title_trgm"),
+                Arguments.of(
+                        query(test -> test.workoutRepository.findAll(
+                                WorkoutSpecifications.withFilter(null, null, null, PATTERN, null, null))),
+                        "idx_workouts_description_trgm"),
+                Arguments.of(
+                        query(test -> test.httpRefRepository.findAll(
+                                HttpRefSpecifications.withFilter(null, null, PATTERN, null))),
+                        "idx_http_refs_name_trgm"),
+                Arguments.of(
+                        query(test -> test.httpRefRepository.findAll(
+                                HttpRefSpecifications.withFilter(null, null, null, PATTERN))),
+                        "idx_http_refs_description_trgm"),
+                Arguments.of(
+                        query(test -> test.mentalActivityRepository.findAll(
+                                MentalActivitySpecifications.withFilter(null, null, PATTERN, null, null))),
+                        "idx_mental_activity_title_trgm"),
+                Arguments.of(
+                        query(test -> test.mentalActivityRepository.findAll(
+                                MentalActivitySpecifications.withFilter(null, null, null, PATTERN, null))),
+                        "idx_mental_activity_description_trgm"));
+    }
+
+    private static Function<FilterSpecificationsTest, List<?>> query(
+            Function<FilterSpecificationsTest, List<?>> query) {
+        return query;
+    }
+
+    @Test
+    void containsIgnoreCase_shouldMatchRegardlessOfCase() {
+        // Given
+        HttpRef httpRef1 = dbUtil.createDefaultHttpRef(1);
+        dbUtil.createDefaultHttpRef(2);
+
+        // When
+        List<HttpRef> httpRefs =
+                httpRefRepository.findAll(HttpRefSpecifications.withFilter(null, null, "NAME 1", null));
+
+        // Then
+        assertThat(httpRefs).extracting(HttpRef::getId).containsExactly(httpRef1.getId());
+    }
+
+    @Test
+    void containsIgnoreCase_shouldMatchWildcardsLiterally() {
+        // Given
+        HttpRef httpRef1 = dbUtil.createDefaultHttpRef(1);
+        httpRef1.setName("Push_up 100%");
+        httpRefRepository.save(httpRef1);
+        dbUtil.createDefaultHttpRef(2);
+
+        // When
+        List<HttpRef> underscore =
+                httpRefRepository.findAll(HttpRefSpecifications.withFilter(null, null, "MEDIA_NAME", null));
+        List<HttpRef> percent = httpRefRepository.findAll(HttpRefSpecifications.withFilter(null, null, "a%e", null));
+        List<HttpRef> literal =
+                httpRefRepository.findAll(HttpRefSpecifications.withFilter(null, null, "push_up 100%", null));
+
+        // Then
+        assertThat(underscore).isEmpty();
+        assertThat(percent).isEmpty();
+        assertThat(literal).extracting(HttpRef::getId).containsExactly(httpRef1.getId());
+    }
+
+    @Test
+    void orderedLikeCatalog_shouldOrderStringsByCodePoints() {
+        // Given
+        List<String> names = List.of("b", "B", "a", "\u00e9", "\ud83d\ude00", "\uff21");
+        for (int seed = 0; seed < names.size(); seed++) {
+            HttpRef httpRef = dbUtil.createDefaultHttpRef(seed);
+            httpRef.setName(names.get(seed));
+            httpRefRepository.save(httpRef);
+        }
+
+        // When
+        Page<HttpRef> page = httpRefRepository.findAll(
+                HttpRefSpecifications.withFilter(false, null, null, null)
+                        .and(FilterSpecifications.orderedLikeCatalog(Sort.by(Sort.Direction.ASC, "name"))),
+                PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getContent())
+                .extracting(HttpRef::getName)
+                .containsExactly("B", "a", "b", "\u00e9", "\uff21", "\ud83d\ude00");
+    }
+
+    @Test
+    void findPage_shouldSelectOnlyIdsOfPage() {
+        // Given
+        dbUtil.createDefaultHttpRef(1);
+        HttpRef httpRef2 = dbUtil.createDefaultHttpRef(2);
+        HttpRef httpRef3 = dbUtil.createDefaultHttpRef(3);
+        CapturingStatementInspector.clear();
+
+        // When
+        Page<Long> page = specificationIds.findPage(
+                HttpRef.class,
+                HttpRefSpecifications.withFilter(false, null, null, null),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "name")));
+
+        // Then
+        assertThat(page.getContent()).containsExactly(httpRef3.getId(), httpRef2.getId());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        List<String> statements = CapturingStatementInspector.getStatements();
+        assertThat(statements).hasSize(2);
+        String selectList = statements.get(0).substring(0, statements.get(0).indexOf(" from "));
+        assertThat(selectList).doesNotContain(",");
+    }
+}
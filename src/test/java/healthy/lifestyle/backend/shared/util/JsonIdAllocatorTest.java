@@ -0,0 +1,100 @@
+package healthy.lifestyle.backend.shared.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutDayIdRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JsonIdAllocatorTest {
+    @InjectMocks
+    JsonIdAllocator jsonIdAllocator;
+
+    @Mock
+    WorkoutDayIdRepository workoutDayIdRepository;
+
+    AtomicLong sequence;
+
+    @BeforeEach
+    void setUp() {
+        // Behaves like workout_json_id_seq after setval to 1
+        sequence = new AtomicLong(1);
+        lenient().when(workoutDayIdRepository.reserveJsonIdBlocks(anyInt())).thenAnswer(invocation -> {
+            int blocks = invocation.getArgument(0);
+            return LongStream.range(0, blocks)
+                    .map(i -> sequence.addAndGet(JsonIdAllocator.BLOCK_SIZE))
+                    .boxed()
+                    .toList();
+        });
+    }
+
+    @Test
+    void allocateTest_shouldReserveOneBlockForManyPlans() {
+        // When
+        long[] first = jsonIdAllocator.allocate(7);
+        long[] second = jsonIdAllocator.allocate(7);
+
+        // Then
+        assertArrayEquals(LongStream.rangeClosed(2, 8).toArray(), first);
+        assertArrayEquals(LongStream.rangeClosed(9, 15).toArray(), second);
+        verify(workoutDayIdRepository, times(1)).reserveJsonIdBlocks(1);
+    }
+
+    @Test
+    void allocateTest_shouldReserveMissingBlocksInOneStatement_whenMoreIdsThanBlockSize() {
+        // Given
+        jsonIdAllocator.allocate(JsonIdAllocator.BLOCK_SIZE - 3);
+
+        // When
+        long[] ids = jsonIdAllocator.allocate(JsonIdAllocator.BLOCK_SIZE + 10);
+
+        // Then
+        long firstId = JsonIdAllocator.BLOCK_SIZE - 1;
+        assertArrayEquals(
+                LongStream.range(firstId, firstId + JsonIdAllocator.BLOCK_SIZE + 10).toArray(), ids);
+        verify(workoutDayIdRepository, times(1)).reserveJsonIdBlocks(1);
+        verify(workoutDayIdRepository, times(1)).reserveJsonIdBlocks(2);
+    }
+
+    @Test
+    void allocateTest_shouldNotReserve_whenNoIds() {
+        // When
+        long[] ids = jsonIdAllocator.allocate(0);
+
+        // Then
+        assertEquals(0, ids.length);
+        verifyNoInteractions(workoutDayIdRepository);
+    }
+
+    @Test
+    void allocateTest_shouldAllocateUniqueIds_whenPlansCreatedConcurrently() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 200; i++) futures.add(executor.submit(() -> jsonIdAllocator.allocate(7)));
+        Set<Long> ids = new HashSet<>();
+        for (Future<long[]> future : futures) for (long id : future.get()) ids.add(id);
+        executor.shutdown();
+
+        // Then
+        assertEquals(200 * 7, ids.size());
+    }
+}
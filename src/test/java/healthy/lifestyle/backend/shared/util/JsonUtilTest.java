@@ -1,13 +1,10 @@
 package healthy.lifestyle.backend.shared.util;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import healthy.lifestyle.backend.plan.workout.model.WorkoutPlanDayId;
-import healthy.lifestyle.backend.plan.workout.repository.WorkoutDayIdRepository;
 import java.time.*;
 import java.util.List;
 import java.util.TimeZone;
@@ -24,7 +21,7 @@ class JsonUtilTest {
     JsonUtil jsonUtil;
 
     @Mock
-    WorkoutDayIdRepository workoutDayIdRepository;
+    JsonIdAllocator jsonIdAllocator;
 
     @Spy
     DateTimeService dateTimeService;
@@ -74,17 +71,34 @@ class JsonUtilTest {
                 .dayOfWeek(DayOfWeek.SUNDAY)
                 .build());
 
-        WorkoutPlanDayId workoutPlanDayId =
-                WorkoutPlanDayId.builder().json_id(currentJsonId).build();
-        when(workoutDayIdRepository.findAll()).thenReturn(List.of(workoutPlanDayId));
-
-        when(workoutDayIdRepository.save(any(WorkoutPlanDayId.class))).thenAnswer(invocation -> {
-            Object[] args = invocation.getArguments();
-            return args[0];
-        });
+        when(jsonIdAllocator.allocate(1)).thenReturn(new long[] {currentJsonId + 1});
 
         // When
         List<JsonDescription> actual = jsonUtil.processJsonDescription(initial, userTimeZone);
         assertThat(actual).usingRecursiveComparison().ignoringFields("id").isEqualTo(expected);
+        assertThat(initial.get(0).getJson_id()).isEqualTo(currentJsonId + 1);
+        assertThat(initial.get(0).getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(initial.get(0).getHours()).isEqualTo(1);
+    }
+
+    @Test
+    void serializeJsonDescriptionList_shouldConvertDbTimezoneToUserTimezoneWithoutModifyingInput_whenValidInput()
+            throws JsonProcessingException {
+        // Given
+        JsonDescription stored = JsonDescription.builder()
+                .json_id(11L)
+                .dayOfWeek(DayOfWeek.SUNDAY)
+                .hours(22)
+                .minutes(20)
+                .build();
+        ZoneId userTimeZone = ZoneId.of("Asia/Tokyo");
+
+        // When
+        String actual = jsonUtil.serializeJsonDescriptionList(List.of(stored), userTimeZone);
+
+        // Then
+        assertThat(actual).isEqualTo("[{\"json_id\":11,\"dayOfWeek\":\"MONDAY\",\"hours\":7,\"minutes\":20}]");
+        assertThat(stored.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+        assertThat(stored.getHours()).isEqualTo(22);
     }
 }
@@ -0,0 +1,49 @@
+package healthy.lifestyle.backend.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import healthy.lifestyle.backend.activity.workout.model.BodyPart;
+import healthy.lifestyle.backend.testutil.TestUtil;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SortedByIdTest {
+    TestUtil testUtil = new TestUtil();
+
+    @Test
+    void list_shouldKeepOrder_whenAlreadySorted() {
+        // Given
+        Set<BodyPart> bodyParts = new LinkedHashSet<>(
+                List.of(testUtil.createBodyPart(1), testUtil.createBodyPart(2), testUtil.createBodyPart(3)));
+
+        // When
+        List<BodyPart> result = SortedById.list(bodyParts, BodyPart::getId);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(bodyParts);
+        assertThrows(UnsupportedOperationException.class, () -> result.add(testUtil.createBodyPart(4)));
+    }
+
+    @Test
+    void list_shouldSort_whenNotSorted() {
+        // Given
+        Set<BodyPart> bodyParts = new LinkedHashSet<>(
+                List.of(testUtil.createBodyPart(3), testUtil.createBodyPart(1), testUtil.createBodyPart(2)));
+
+        // When
+        List<BodyPart> result = SortedById.list(bodyParts, BodyPart::getId);
+
+        // Then
+        assertThat(result).extracting(BodyPart::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void list_shouldReturnEmptyList_whenNullOrEmpty() {
+        // When / Then
+        assertTrue(SortedById.list(null, BodyPart::getId).isEmpty());
+        assertTrue(SortedById.list(Set.<BodyPart>of(), BodyPart::getId).isEmpty());
+    }
+}
@@ -0,0 +1,27 @@
+package healthy.lifestyle.backend.testconfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread, for tests that check the statements of repositories.
+ * Registered by class name with the hibernate.session_factory.statement_inspector property.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> getStatements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+}
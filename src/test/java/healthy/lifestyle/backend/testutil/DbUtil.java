@@ -23,8 +23,14 @@ import healthy.lifestyle.backend.activity.workout.repository.BodyPartRepository;
 import healthy.lifestyle.backend.activity.workout.repository.ExerciseRepository;
 import healthy.lifestyle.backend.activity.workout.repository.HttpRefRepository;
 import healthy.lifestyle.backend.activity.workout.repository.WorkoutRepository;
+import healthy.lifestyle.backend.calendar.service.CalendarCache;
 import healthy.lifestyle.backend.plan.workout.model.WorkoutPlan;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutCompletionRecordRepository;
+import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanOccurrenceRepository;
 import healthy.lifestyle.backend.plan.workout.repository.WorkoutPlanRepository;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.catalog.DefaultCatalog;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.shared.util.JsonDescription;
 import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
@@ -42,6 +48,8 @@ import org.springframework.boot.test.context.TestComponent;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @TestComponent
 public class DbUtil implements Util {
@@ -75,6 +83,12 @@ public class DbUtil implements Util {
     @Autowired
     WorkoutPlanRepository workoutPlanRepository;
 
+    @Autowired
+    WorkoutPlanOccurrenceRepository workoutPlanOccurrenceRepository;
+
+    @Autowired
+    WorkoutCompletionRecordRepository workoutCompletionRecordRepository;
+
     @Autowired
     MentalActivityRepository mentalRepository;
 
@@ -90,6 +104,18 @@ public class DbUtil implements Util {
     @Autowired
     MentalWorkoutRepository mentalWorkoutRepository;
 
+    @Autowired
+    ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    DefaultCatalog defaultCatalog;
+
+    @Autowired
+    UserListingCache userListingCache;
+
+    @Autowired
+    CalendarCache calendarCache;
+
     @Autowired
     PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -99,6 +125,8 @@ public class DbUtil implements Util {
 
     @Transactional
     public void deleteAll() {
+        workoutCompletionRecordRepository.deleteAll();
+        workoutPlanOccurrenceRepository.deleteAll();
         workoutPlanRepository.deleteAll();
         workoutRepository.deleteAll();
         exerciseRepository.deleteAll();
@@ -114,11 +142,29 @@ public class DbUtil implements Util {
         countryRepository.deleteAll();
         timezoneRepository.deleteAll();
         roleRepository.deleteAll();
+        referenceDataRegistry.refresh();
+        // The catalog loads in a transaction of its own, which sees the deletions once they are committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                defaultCatalog.refresh();
+            }
+        });
+        userListingCache.invalidateAll();
+        calendarCache.invalidateAll();
     }
 
     @Override
     public BodyPart createBodyPart(int seed) {
-        return bodyPartRepository.save(BodyPart.builder().name("Name " + seed).build());
+        int bitIndex = bodyPartRepository.findAll().stream()
+                        .mapToInt(BodyPart::getBitIndex)
+                        .max()
+                        .orElse(-1)
+                + 1;
+        BodyPart bodyPart = bodyPartRepository.save(
+                BodyPart.builder().name("Name " + seed).bitIndex(bitIndex).build());
+        referenceDataRegistry.refresh();
+        return bodyPart;
     }
 
     @Override
@@ -144,6 +190,7 @@ public class DbUtil implements Util {
             HttpRefType httpRefTypeNew =
                     HttpRefType.builder().name(httpRefTypeEnum.name()).build();
             httpRefType = httpRefTypeRepository.save(httpRefTypeNew);
+            referenceDataRegistry.refresh();
         }
         return httpRefRepository.save(HttpRef.builder()
                 .name("Media Name " + seed)
@@ -187,7 +234,10 @@ public class DbUtil implements Util {
                 .bodyParts(new HashSet<>(bodyParts))
                 .httpRefs(new HashSet<>(httpRefs))
                 .build();
-        return exerciseRepository.save(exercise);
+        exercise.refreshBodyPartsMask();
+        Exercise exerciseSaved = exerciseRepository.save(exercise);
+        if (!isCustom) defaultCatalog.refresh();
+        return exerciseSaved;
     }
 
     @Override
@@ -212,7 +262,10 @@ public class DbUtil implements Util {
                 .user(user)
                 .exercises(new HashSet<>(exercises))
                 .build();
-        return workoutRepository.save(workout);
+        workout.refreshSummary();
+        Workout workoutSaved = workoutRepository.save(workout);
+        if (!isCustom) defaultCatalog.refresh();
+        return workoutSaved;
     }
 
     @Override
@@ -316,12 +369,17 @@ public class DbUtil implements Util {
     }
 
     private Role createRoleBase(String role) {
-        return roleRepository.save(Role.builder().name("ROLE_" + role).build());
+        Role roleSaved = roleRepository.save(Role.builder().name("ROLE_" + role).build());
+        referenceDataRegistry.refresh();
+        return roleSaved;
     }
 
     @Override
     public Country createCountry(int seed) {
-        return countryRepository.save(Country.builder().name("Country " + seed).build());
+        Country country =
+                countryRepository.save(Country.builder().name("Country " + seed).build());
+        referenceDataRegistry.refresh();
+        return country;
     }
 
     @Override
@@ -332,10 +390,12 @@ public class DbUtil implements Util {
     @Override
     public Timezone createTimezone(int seed) {
         Map<String, String> timezoneData = SharedUtil.seedToTimezone(seed);
-        return timezoneRepository.save(Timezone.builder()
+        Timezone timezone = timezoneRepository.save(Timezone.builder()
                 .GMT(timezoneData.get("GMT"))
                 .name(timezoneData.get("name"))
                 .build());
+        referenceDataRegistry.refresh();
+        return timezone;
     }
 
     public boolean httpRefsExistByIds(List<Long> ids) {
@@ -403,7 +463,9 @@ public class DbUtil implements Util {
                 .httpRefs(new HashSet<>(httpRefs))
                 .type(mentalType)
                 .build();
-        return mentalRepository.save(mental);
+        MentalActivity mentalSaved = mentalRepository.save(mental);
+        if (!isCustom) defaultCatalog.refresh();
+        return mentalSaved;
     }
 
     @Override
@@ -451,7 +513,9 @@ public class DbUtil implements Util {
                 .user(user)
                 .mentalActivities(new HashSet<>(mentalActivities))
                 .build();
-        return mentalWorkoutRepository.save(mentalWorkout);
+        MentalWorkout mentalWorkoutSaved = mentalWorkoutRepository.save(mentalWorkout);
+        if (!isCustom) defaultCatalog.refresh();
+        return mentalWorkoutSaved;
     }
 
     @Override
@@ -480,7 +544,9 @@ public class DbUtil implements Util {
                 .type(nutritionType)
                 .build();
 
-        return nutritionRepository.save(nutrition);
+        Nutrition nutritionSaved = nutritionRepository.save(nutrition);
+        if (!isCustom) defaultCatalog.refresh();
+        return nutritionSaved;
     }
 
     @Override
@@ -22,12 +22,10 @@ import healthy.lifestyle.backend.user.model.Timezone;
 import healthy.lifestyle.backend.user.model.User;
 import java.time.*;
 import java.util.*;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 public class TestUtil implements Util {
-    private final ModelMapper modelMapper = new ModelMapper();
 
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
@@ -35,7 +33,11 @@ public class TestUtil implements Util {
 
     @Override
     public BodyPart createBodyPart(int seed) {
-        return BodyPart.builder().id((long) seed).name("Body part " + seed).build();
+        return BodyPart.builder()
+                .id((long) seed)
+                .name("Body part " + seed)
+                .bitIndex(seed % 64)
+                .build();
     }
 
     @Override
@@ -77,7 +79,7 @@ public class TestUtil implements Util {
         BodyPart bodyPart = createBodyPart(seed);
         HttpRef httpRef = createDefaultHttpRef(seed);
 
-        return Exercise.builder()
+        Exercise exercise = Exercise.builder()
                 .id(Long.valueOf(seed))
                 .isCustom(false)
                 .needsEquipment(false)
@@ -85,6 +87,8 @@ public class TestUtil implements Util {
                 .httpRefs(Set.of(httpRef))
                 .user(null)
                 .build();
+        exercise.refreshBodyPartsMask();
+        return exercise;
     }
 
     @Override
@@ -103,7 +107,7 @@ public class TestUtil implements Util {
             List<BodyPart> bodyParts,
             List<HttpRef> httpRefs,
             User user) {
-        return Exercise.builder()
+        Exercise exercise = Exercise.builder()
                 .id((long) seed)
                 .title("Exercise " + seed)
                 .description("Description " + seed)
@@ -113,6 +117,8 @@ public class TestUtil implements Util {
                 .bodyParts(new HashSet<>(bodyParts))
                 .httpRefs(new HashSet<>(httpRefs))
                 .build();
+        exercise.refreshBodyPartsMask();
+        return exercise;
     }
 
     @Override
@@ -134,7 +140,7 @@ public class TestUtil implements Util {
     }
 
     private Workout createWorkoutBase(int seed, boolean isCustom, List<Exercise> exercises, User user) {
-        return Workout.builder()
+        Workout workout = Workout.builder()
                 .id((long) seed)
                 .title("Workout " + seed)
                 .description("Description " + seed)
@@ -142,6 +148,8 @@ public class TestUtil implements Util {
                 .user(user)
                 .exercises(new HashSet<>(exercises))
                 .build();
+        workout.refreshSummary();
+        return workout;
     }
 
     @Override
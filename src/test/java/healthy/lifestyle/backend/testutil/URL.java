@@ -54,8 +54,15 @@ public class URL {
 
     public static final String CUSTOM_MENTAL_WORKOUTS = "/api/v1/mental_workouts";
 
+    public static final String WORKOUTS_WITHOUT_PLANS = "/api/v1/calendar/workouts";
+
     public static final String WORKOUT_PLANS = "/api/v1/calendar/workouts/plans";
 
+    public static final String WORKOUT_PLAN_ID = "/api/v1/calendar/workouts/plans/{workoutPlanId}";
+
+    public static final String WORKOUT_PLAN_DAY_COMPLETIONS =
+            "/api/v1/calendar/workouts/plans/{workoutPlanId}/days/{jsonId}/completions";
+
     public static final String DEFAULT_MENTAL_WORKOUT_ID = "/api/v1/mental_workouts/default/{mental_workout_id}";
 
     public static final String CUSTOM_MENTAL_WORKOUT_ID = "/api/v1/mental_workouts/{mental_workout_id}";
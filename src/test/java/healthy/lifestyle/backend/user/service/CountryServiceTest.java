@@ -4,18 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.dto.CountryResponseDto;
 import healthy.lifestyle.backend.user.model.Country;
-import healthy.lifestyle.backend.user.repository.CountryRepository;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 @ExtendWith(MockitoExtension.class)
 public class CountryServiceTest {
@@ -23,10 +21,7 @@ public class CountryServiceTest {
     CountryServiceImpl countryService;
 
     @Mock
-    private CountryRepository countryRepository;
-
-    @Spy
-    ModelMapper modelMapper;
+    ReferenceDataRegistry referenceDataRegistry;
 
     TestUtil testUtil = new TestUtil();
 
@@ -36,13 +31,16 @@ public class CountryServiceTest {
         Country country1 = testUtil.createCountry(1);
         Country country2 = testUtil.createCountry(2);
         List<Country> countries = List.of(country1, country2);
-        when(countryRepository.findAll()).thenReturn(countries);
+        List<CountryResponseDto> countryDtos = countries.stream()
+                .map(country -> new CountryResponseDto(country.getId(), country.getName()))
+                .toList();
+        when(referenceDataRegistry.getCountries()).thenReturn(countryDtos);
 
         // When
         List<CountryResponseDto> countryResponseDto = countryService.getCountries();
 
         // Then
-        verify(countryRepository, times(1)).findAll();
+        verify(referenceDataRegistry, times(1)).getCountries();
 
         assertEquals(2, countryResponseDto.size());
 
@@ -4,18 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.dto.TimezoneResponseDto;
 import healthy.lifestyle.backend.user.model.Timezone;
-import healthy.lifestyle.backend.user.repository.TimezoneRepository;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 @ExtendWith(MockitoExtension.class)
 class TimezoneServiceImplTest {
@@ -23,10 +21,7 @@ class TimezoneServiceImplTest {
     TimezoneServiceImpl timezoneService;
 
     @Mock
-    TimezoneRepository timezoneRepository;
-
-    @Spy
-    ModelMapper modelMapper;
+    ReferenceDataRegistry referenceDataRegistry;
 
     TestUtil testUtil = new TestUtil();
 
@@ -37,13 +32,16 @@ class TimezoneServiceImplTest {
         Timezone timezone2 = testUtil.createTimezone(2);
         Timezone timezone3 = testUtil.createTimezone(3);
         List<Timezone> timezones = List.of(timezone1, timezone2, timezone3);
-        when(timezoneRepository.findAll()).thenReturn(timezones);
+        List<TimezoneResponseDto> timezoneDtos = timezones.stream()
+                .map(timezone -> new TimezoneResponseDto(timezone.getId(), timezone.getName(), timezone.getGMT()))
+                .toList();
+        when(referenceDataRegistry.getTimezones()).thenReturn(timezoneDtos);
 
         // When
         List<TimezoneResponseDto> timezoneResponseDtoList = timezoneService.getTimezones();
 
         // Then
-        verify(timezoneRepository, times(1)).findAll();
+        verify(referenceDataRegistry, times(1)).getTimezones();
         assertEquals(timezones.size(), timezoneResponseDtoList.size());
         assertThat(timezoneResponseDtoList)
                 .usingRecursiveFieldByFieldElementComparator()
@@ -15,19 +15,23 @@ import healthy.lifestyle.backend.activity.workout.service.RemovalServiceImpl;
 import healthy.lifestyle.backend.exception.ApiException;
 import healthy.lifestyle.backend.exception.ApiExceptionCustomMessage;
 import healthy.lifestyle.backend.exception.ErrorMessage;
+import healthy.lifestyle.backend.security.UserPrincipalCache;
+import healthy.lifestyle.backend.security.VerifiedTokenCache;
+import healthy.lifestyle.backend.shared.cache.UserListingCache;
+import healthy.lifestyle.backend.shared.reference.ReferenceDataRegistry;
+import healthy.lifestyle.backend.shared.util.DateTimeService;
 import healthy.lifestyle.backend.shared.util.VerificationUtil;
 import healthy.lifestyle.backend.testutil.DtoUtil;
 import healthy.lifestyle.backend.testutil.TestUtil;
 import healthy.lifestyle.backend.user.dto.SignupRequestDto;
 import healthy.lifestyle.backend.user.dto.UserResponseDto;
 import healthy.lifestyle.backend.user.dto.UserUpdateRequestDto;
+import healthy.lifestyle.backend.user.mapper.UserMapper;
+import healthy.lifestyle.backend.user.mapper.UserMapperImpl;
 import healthy.lifestyle.backend.user.model.Country;
 import healthy.lifestyle.backend.user.model.Role;
 import healthy.lifestyle.backend.user.model.Timezone;
 import healthy.lifestyle.backend.user.model.User;
-import healthy.lifestyle.backend.user.repository.CountryRepository;
-import healthy.lifestyle.backend.user.repository.RoleRepository;
-import healthy.lifestyle.backend.user.repository.TimezoneRepository;
 import healthy.lifestyle.backend.user.repository.UserRepository;
 import java.util.*;
 import java.util.stream.Stream;
@@ -40,7 +44,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -54,16 +57,19 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
-    private CountryRepository countryRepository;
+    private RemovalServiceImpl removalService;
 
     @Mock
-    private TimezoneRepository timezoneRepository;
+    private UserPrincipalCache userPrincipalCache;
 
     @Mock
-    private RemovalServiceImpl removalService;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private UserListingCache userListingCache;
 
     @Spy
     private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
@@ -71,6 +77,9 @@ class UserServiceTest {
     @Spy
     private VerificationUtil verificationUtil;
 
+    @Spy
+    private DateTimeService dateTimeService;
+
     @Spy
     private TestUtil testUtil;
 
@@ -78,7 +87,7 @@ class UserServiceTest {
     private DtoUtil dtoUtil;
 
     @Spy
-    ModelMapper modelMapper;
+    UserMapper userMapper = new UserMapperImpl();
 
     @Test
     void createUser_shouldReturnDto_whenValidRequest() {
@@ -90,9 +99,9 @@ class UserServiceTest {
 
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(roleRepository.findByName(role.getName())).thenReturn(Optional.of(role));
-        when(countryRepository.findById(country.getId())).thenReturn(Optional.of(country));
-        when(timezoneRepository.findById(timezone.getId())).thenReturn(Optional.of(timezone));
+        when(referenceDataRegistry.findRoleByName(role.getName())).thenReturn(Optional.of(role));
+        when(referenceDataRegistry.findCountryById(country.getId())).thenReturn(Optional.of(country));
+        when(referenceDataRegistry.findTimezoneById(timezone.getId())).thenReturn(Optional.of(timezone));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
             Object[] args = invocation.getArguments();
             User saved = (User) args[0];
@@ -106,8 +115,8 @@ class UserServiceTest {
         // Then
         verify(userRepository, times(1)).existsByEmail(requestDto.getEmail());
         verify(userRepository, times(1)).existsByUsername(requestDto.getUsername());
-        verify(roleRepository, times(1)).findByName(role.getName());
-        verify(countryRepository, times(1)).findById(country.getId());
+        verify(referenceDataRegistry, times(1)).findRoleByName(role.getName());
+        verify(referenceDataRegistry, times(1)).findCountryById(country.getId());
         verify(userRepository, times(1)).save(any(User.class));
     }
 
@@ -179,7 +188,8 @@ class UserServiceTest {
         requestDto.setConfirmPassword(confirmPassword);
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        if (countryId == 2L) when(countryRepository.findById(countryId)).thenReturn(Optional.of(newCountry));
+        if (countryId == 2L)
+            when(referenceDataRegistry.findCountryById(countryId)).thenReturn(Optional.of(newCountry));
         when(userRepository.save(any(User.class)))
                 .thenAnswer(invocation -> invocation.getArguments()[0]);
 
@@ -189,10 +199,12 @@ class UserServiceTest {
         // Then
         verify(userRepository, times(1)).findById(user.getId());
 
-        if (countryId == 2L) verify(countryRepository, times(1)).findById(countryId);
-        else verify(countryRepository, times(0)).findById(countryId);
+        if (countryId == 2L) verify(referenceDataRegistry, times(1)).findCountryById(countryId);
+        else verify(referenceDataRegistry, times(0)).findCountryById(countryId);
 
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userPrincipalCache, times(1)).evict(user.getId());
+        verify(verifiedTokenCache, times(password != null ? 1 : 0)).evictUser(user.getId());
 
         if (username != null) assertEquals(requestDto.getUsername(), responseDto.getUsername());
         else assertEquals(initialUsername, responseDto.getUsername());
@@ -212,6 +224,9 @@ class UserServiceTest {
         if (password != null && confirmPassword != null)
             assertTrue(passwordEncoder.matches(requestDto.getPassword(), user.getPassword()));
         else assertTrue(passwordEncoder.matches(initialPassword, user.getPassword()));
+
+        if (password != null) assertNotNull(user.getTokensValidAfter());
+        else assertNull(user.getTokensValidAfter());
     }
 
     static Stream<Arguments> updateUserValidFields() {
@@ -243,7 +258,7 @@ class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).findById(user.getId());
-        verify(countryRepository, times(0)).findById(requestDto.getCountryId());
+        verify(referenceDataRegistry, times(0)).findCountryById(requestDto.getCountryId());
         verify(userRepository, times(0)).save(any(User.class));
 
         assertEquals(HttpStatus.BAD_REQUEST.value(), exception.getHttpStatus().value());
@@ -270,7 +285,7 @@ class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).findById(nonExistentUserId);
-        verify(countryRepository, times(0)).findById(anyLong());
+        verify(referenceDataRegistry, times(0)).findCountryById(anyLong());
         verify(userRepository, times(0)).save(any(User.class));
 
         assertEquals(expectedException.getMessageWithResourceId(), actualException.getMessageWithResourceId());
@@ -286,7 +301,7 @@ class UserServiceTest {
         requestDto.setUsername("New-username");
         requestDto.setCountryId(nonExistentCountryId);
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(countryRepository.findById(nonExistentCountryId)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findCountryById(nonExistentCountryId)).thenReturn(Optional.empty());
         ApiException expectedException =
                 new ApiException(ErrorMessage.COUNTRY_NOT_FOUND, nonExistentCountryId, HttpStatus.NOT_FOUND);
 
@@ -296,7 +311,7 @@ class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).findById(user.getId());
-        verify(countryRepository, times(1)).findById(nonExistentCountryId);
+        verify(referenceDataRegistry, times(1)).findCountryById(nonExistentCountryId);
         verify(userRepository, times(0)).save(any(User.class));
 
         assertEquals(expectedException.getMessageWithResourceId(), actualException.getMessageWithResourceId());
@@ -341,6 +356,9 @@ class UserServiceTest {
         verify(removalService, times(1)).deleteCustomExercises(user.getExercisesIdsSorted());
         verify(removalService, times(1)).deleteCustomHttpRefs(user.getHttpRefsIdsSorted());
         verify(userRepository, times(1)).delete(any(User.class));
+        verify(userPrincipalCache, times(1)).evict(user.getId());
+        verify(verifiedTokenCache, times(1)).evictUser(user.getId());
+        verify(userListingCache, times(1)).evictUser(user.getId());
     }
 
     @Test